@@ -0,0 +1,18 @@
+package com.sixpm.common.config.clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    /**
+     * 현재 시각/날짜 기준. 테스트에서는 고정 Clock을 직접 넘겨 시간에 따른 동작을 결정적으로 검증합니다.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
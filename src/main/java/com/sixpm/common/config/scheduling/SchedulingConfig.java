@@ -0,0 +1,10 @@
+package com.sixpm.common.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // spring.threads.virtual.enabled=true 이므로 각 스케줄 작업은 별도 Virtual Thread에서 실행됨
+}
@@ -0,0 +1,85 @@
+package com.sixpm.common.lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * PostgreSQL advisory lock 기반 클러스터 단위 배타 실행.
+ * 별도 코디네이터 없이 같은 DB를 쓰는 노드 중 하나만 작업을 실행합니다.
+ *
+ * 세션 단위 락이므로 작업이 끝날 때까지 하나의 커넥션을 점유하고, 같은 커넥션에서 해제합니다.
+ * 노드 간 시각 차이로 다른 노드가 작업 종료 후에 락을 얻지 않도록 최소 보유 시간 동안은 락을 유지합니다.
+ */
+@Component
+public class ClusterLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterLock.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClusterLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 락을 얻은 경우에만 작업을 실행합니다. 다른 노드가 락을 보유 중이면 기다리지 않고 건너뜁니다.
+     *
+     * @param lockName    락 이름 (같은 이름끼리 배타)
+     * @param minHoldTime 작업이 일찍 끝나도 락을 유지할 최소 시간
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runExclusively(String lockName, Duration minHoldTime, Runnable task) {
+        Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!tryLock(connection, lockName)) {
+                return false;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                holdAtLeast(minHoldTime, startedAt);
+                unlock(connection, lockName);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(executed);
+    }
+
+    private boolean tryLock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+            statement.setString(1, lockName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+            statement.setString(1, lockName);
+            statement.execute();
+        }
+    }
+
+    private void holdAtLeast(Duration minHoldTime, long startedAt) {
+        long remainingMillis = minHoldTime.toMillis() - Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while holding cluster lock. Releasing early.");
+        }
+    }
+}
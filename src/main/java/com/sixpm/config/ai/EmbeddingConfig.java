@@ -25,6 +25,10 @@ public class EmbeddingConfig {
   @Value("${spring.ai.openai.embedding.options.model}")
   private String model;
 
+  // EmbeddingCache의 캐시 키와 같은 속성을 사용
+  @Value("${spring.ai.openai.embedding.options.dimensions:1536}")
+  private int dimensions;
+
   /**
    * Creates OpenAI embedding model bean text-embedding-3-small: 1536 dimensions, cost-effective
    *
@@ -39,7 +43,7 @@ public class EmbeddingConfig {
 
     OpenAiEmbeddingOptions options = OpenAiEmbeddingOptions.builder()
         .model(model)
-        .dimensions(1536)
+        .dimensions(dimensions)
         .build();
 
     return new OpenAiEmbeddingModel(api, MetadataMode.EMBED, options);
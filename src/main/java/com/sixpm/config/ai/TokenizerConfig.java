@@ -0,0 +1,26 @@
+package com.sixpm.config.ai;
+
+import com.knuddels.jtokkit.api.EncodingType;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for in-process token counting
+ * Shared by prompt budgeting and chunking so the encoding tables are loaded once
+ */
+@Configuration
+public class TokenizerConfig {
+
+    /**
+     * Creates token count estimator bean o200k_base: encoding of the GPT-4o family, handles Korean
+     * far better than cl100k_base
+     *
+     * @return Reusable JTokkit-based estimator
+     */
+    @Bean
+    public TokenCountEstimator tokenCountEstimator() {
+        return new JTokkitTokenCountEstimator(EncodingType.O200K_BASE);
+    }
+}
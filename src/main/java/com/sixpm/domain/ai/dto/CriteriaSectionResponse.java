@@ -0,0 +1,42 @@
+package com.sixpm.domain.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자격 요건을 영역별로 나누어 추출할 때 사용하는 작은 응답 스키마 모음.
+ * 각 영역의 결과는 CriteriaSectionMerger에서 하나의 CriteriaResponse로 합쳐집니다.
+ */
+public final class CriteriaSectionResponse {
+
+    private CriteriaSectionResponse() {
+    }
+
+    public record EligibilityPart(
+            @JsonPropertyDescription("공고에서 제한하는 거주 지역명 (예: '광주광역시'). 지역 제한이 없으면 null.")
+            String residenceRegion,
+
+            @JsonPropertyDescription("신청 가능한 최소 연령 (숫자). 보통 '성년자'인 경우 19.")
+            Integer minAge,
+
+            @JsonPropertyDescription("무주택세대구성원 필수 여부. 영구임대는 대부분 true.")
+            Boolean requiresHomeless
+    ) {}
+
+    public record IncomeBenchmarkPart(
+            @JsonPropertyDescription("가구원수별 '월평균 소득 100% 기준 금액'. Key: 가구원수(1, 2...), Value: 금액(원).")
+            Map<Integer, Long> incomeBenchmark
+    ) {}
+
+    public record AssetLimitPart(
+            @JsonPropertyDescription("자녀 수에 따른 자산 및 자동차 한도 목록.")
+            List<CriteriaResponse.AssetLimitRule> assetLimits
+    ) {}
+
+    public record IncomeRatioPart(
+            @JsonPropertyDescription("공급 유형, 가구원수, 자녀수에 따른 소득 비율(%) 매트릭스.")
+            List<CriteriaResponse.IncomeRatioRule> incomeRatios
+    ) {}
+}
@@ -0,0 +1,56 @@
+package com.sixpm.domain.ai.dto.response;
+
+import com.sixpm.domain.ai.enums.VectorStorageMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 벡터 인덱스 방식별 검색 정확도/지연 시간 비교 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "벡터 인덱스 방식별 recall@k 및 지연 시간")
+public class VectorBenchmarkResponse {
+
+    @Schema(description = "현재 배포의 검색 방식")
+    private VectorStorageMode activeMode;
+
+    @Schema(description = "질의로 사용한 청크 수")
+    private Integer sampleSize;
+
+    @Schema(description = "비교한 상위 결과 수 (k)")
+    private Integer k;
+
+    @Schema(description = "방식별 결과")
+    private List<ModeResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "방식별 결과")
+    public static class ModeResult {
+
+        @Schema(description = "인덱스 방식")
+        private VectorStorageMode mode;
+
+        @Schema(description = "해당 방식의 인덱스 존재 여부 (없으면 순차 탐색이므로 지연 시간이 실제보다 큼)")
+        private Boolean indexed;
+
+        @Schema(description = "정확 탐색 대비 recall@k (0~1)")
+        private Double recallAtK;
+
+        @Schema(description = "지연 시간 중앙값 (ms)")
+        private Double p50Millis;
+
+        @Schema(description = "지연 시간 95번째 백분위 (ms)")
+        private Double p95Millis;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sixpm.domain.ai.entity;
+
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "criteria_extraction_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CriteriaExtractionCache {
+
+    // 정규화된 입력 텍스트의 SHA-256 (hex)
+    @Id
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "response", columnDefinition = "jsonb", nullable = false)
+    private CriteriaResponse response;
+
+    @Column(name = "hit_count", nullable = false)
+    private int hitCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public CriteriaExtractionCache(String fingerprint, CriteriaResponse response) {
+        this.fingerprint = fingerprint;
+        this.response = response;
+        this.hitCount = 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sixpm.domain.ai.enums;
+
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자격 요건 분할 추출 영역
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CriteriaSection {
+    ELIGIBILITY("기본 자격",
+            "거주 지역 제한, 신청 가능한 최소 연령, 무주택세대구성원 요건만 추출하세요.",
+            CriteriaSectionResponse.EligibilityPart.class),
+    INCOME_BENCHMARK("소득 기준 금액",
+            "도시근로자 가구원수별 월평균 소득표에서 100% 기준 금액만 추출하세요.",
+            CriteriaSectionResponse.IncomeBenchmarkPart.class),
+    ASSET_LIMITS("자산 한도",
+            "자녀 수에 따른 총자산 한도와 자동차 가액 한도만 추출하세요.",
+            CriteriaSectionResponse.AssetLimitPart.class),
+    INCOME_RATIOS("공급유형별 소득 비율",
+            "공급 유형, 가구원수, 자녀수에 따른 소득 비율(%) 매트릭스만 추출하세요.",
+            CriteriaSectionResponse.IncomeRatioPart.class);
+
+    private final String description;
+    private final String instruction;
+    private final Class<?> responseType;
+}
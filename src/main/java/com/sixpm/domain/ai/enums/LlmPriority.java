@@ -0,0 +1,16 @@
+package com.sixpm.domain.ai.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LLM 호출 우선순위
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LlmPriority {
+    INTERACTIVE("사용자 요청 (검색, 리포트)"),
+    BACKGROUND("백그라운드 작업 (자격 요건 추출 등)");
+
+    private final String description;
+}
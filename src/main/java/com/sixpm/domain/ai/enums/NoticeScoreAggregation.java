@@ -0,0 +1,16 @@
+package com.sixpm.domain.ai.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 청크 유사도를 공고 점수로 합치는 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NoticeScoreAggregation {
+    MAX("공고 청크 중 최고 유사도"),
+    SUM("후보에 포함된 공고 청크 유사도의 합 (관련 청크가 많은 공고 우대)");
+
+    private final String description;
+}
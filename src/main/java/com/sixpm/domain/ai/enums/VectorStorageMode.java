@@ -0,0 +1,19 @@
+package com.sixpm.domain.ai.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공고 검색 1차 후보 탐색에 사용하는 벡터 인덱스 방식
+ * FULL 외의 방식은 축소된 벡터로 후보를 넉넉히 뽑은 뒤 원본(float32) 벡터 거리로 다시 정렬합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VectorStorageMode {
+    FULL("float32 원본 벡터 HNSW"),
+    HALFVEC("float16(halfvec) HNSW"),
+    HALFVEC_TRUNCATED("앞부분 차원만 사용한 float16 HNSW (Matryoshka)"),
+    BINARY("이진 양자화(bit) HNSW, 해밍 거리");
+
+    private final String description;
+}
@@ -0,0 +1,21 @@
+package com.sixpm.domain.ai.repository;
+
+import com.sixpm.domain.ai.entity.CriteriaExtractionCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CriteriaExtractionCacheRepository extends JpaRepository<CriteriaExtractionCache, String> {
+
+    /**
+     * 캐시 적중 횟수 증가
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CriteriaExtractionCache c SET c.hitCount = c.hitCount + 1 WHERE c.fingerprint = :fingerprint")
+    int incrementHitCount(@Param("fingerprint") String fingerprint);
+}
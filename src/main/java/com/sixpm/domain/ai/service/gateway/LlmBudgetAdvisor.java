@@ -0,0 +1,97 @@
+package com.sixpm.domain.ai.service.gateway;
+
+import com.sixpm.domain.ai.enums.LlmPriority;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 ChatClient 호출 앞에서 토큰 예산을 확인하는 공통 게이트웨이 Advisor.
+ * RAG 등 앞선 Advisor가 프롬프트를 완성한 뒤 모델 호출 직전에 실행되어 실제 전송될 프롬프트 기준으로 토큰을 셉니다.
+ *
+ * 우선순위는 Advisor 파라미터로 지정합니다 (기본값 INTERACTIVE):
+ * {@code .advisors(a -> a.param(LlmBudgetAdvisor.PRIORITY, LlmPriority.BACKGROUND))}
+ */
+@Component
+public class LlmBudgetAdvisor implements CallAdvisor {
+
+    public static final String PRIORITY = "llm_priority";
+
+    private final LlmTokenBudget tokenBudget;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final String defaultModel;
+    private final int completionTokenReserve;
+
+    public LlmBudgetAdvisor(
+            LlmTokenBudget tokenBudget,
+            TokenCountEstimator tokenCountEstimator,
+            @Value("${spring.ai.openai.chat.options.model:default}") String defaultModel,
+            @Value("${llm.budget.completion-token-reserve:1000}") int completionTokenReserve
+    ) {
+        this.tokenBudget = tokenBudget;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.defaultModel = defaultModel;
+        this.completionTokenReserve = completionTokenReserve;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        LlmPriority priority = priorityOf(request);
+        String model = modelOf(request);
+        int promptTokens = tokenCountEstimator.estimate(request.prompt().getContents());
+
+        LlmTokenBudget.Reservation reservation =
+                tokenBudget.acquire(model, promptTokens + completionTokenReserve, priority);
+        Integer actualTokens = promptTokens;
+        try {
+            ChatClientResponse response = chain.nextCall(request);
+            actualTokens = totalTokensOf(response);
+            return response;
+        } finally {
+            // 호출이 실패하거나 취소(인터럽트)되면 응답 토큰은 쓰이지 않았으므로 프롬프트 토큰만 남김
+            tokenBudget.settle(reservation, actualTokens);
+        }
+    }
+
+    private LlmPriority priorityOf(ChatClientRequest request) {
+        Object priority = request.context().get(PRIORITY);
+        if (priority instanceof LlmPriority llmPriority) {
+            return llmPriority;
+        }
+        return priority != null ? LlmPriority.valueOf(priority.toString()) : LlmPriority.INTERACTIVE;
+    }
+
+    private String modelOf(ChatClientRequest request) {
+        ChatOptions options = request.prompt().getOptions();
+        return options != null && options.getModel() != null ? options.getModel() : defaultModel;
+    }
+
+    private Integer totalTokensOf(ChatClientResponse response) {
+        ChatResponse chatResponse = response.chatResponse();
+        if (chatResponse == null || chatResponse.getMetadata() == null) {
+            return null;
+        }
+        Usage usage = chatResponse.getMetadata().getUsage();
+        return usage != null && usage.getTotalTokens() != null && usage.getTotalTokens() > 0
+                ? usage.getTotalTokens() : null;
+    }
+
+    @Override
+    public String getName() {
+        return "LlmBudgetAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 모델 호출 Advisor(LOWEST_PRECEDENCE) 바로 앞
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+}
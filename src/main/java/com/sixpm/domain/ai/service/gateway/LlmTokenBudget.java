@@ -0,0 +1,219 @@
+package com.sixpm.domain.ai.service.gateway;
+
+import com.sixpm.domain.ai.enums.LlmPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모델별 분당 토큰(TPM)/요청(RPM) 한도를 1분 슬라이딩 윈도우로 관리합니다.
+ * 백그라운드 호출은 한도의 일부(interactive-reserve-ratio)를 사용자 요청용으로 남겨 두고,
+ * 사용자 요청이 대기 중이면 새로 시작하지 않습니다.
+ */
+@Component
+public class LlmTokenBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmTokenBudget.class);
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // 사용자 요청 대기 중 백그라운드 재확인 주기
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int defaultTokensPerMinute;
+    private final int defaultRequestsPerMinute;
+    private final Map<String, Integer> modelTokensPerMinute;
+    private final Map<String, Integer> modelRequestsPerMinute;
+    private final double interactiveReserveRatio;
+    private final Duration interactiveTimeout;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LlmTokenBudget(
+            @Value("${llm.budget.tokens-per-minute:200000}") int defaultTokensPerMinute,
+            @Value("${llm.budget.requests-per-minute:500}") int defaultRequestsPerMinute,
+            @Value("#{${llm.budget.model-tokens-per-minute:{:}}}") Map<String, Integer> modelTokensPerMinute,
+            @Value("#{${llm.budget.model-requests-per-minute:{:}}}") Map<String, Integer> modelRequestsPerMinute,
+            @Value("${llm.budget.interactive-reserve-ratio:0.2}") double interactiveReserveRatio,
+            @Value("${llm.budget.interactive-timeout-seconds:30}") long interactiveTimeoutSeconds
+    ) {
+        this.defaultTokensPerMinute = defaultTokensPerMinute;
+        this.defaultRequestsPerMinute = defaultRequestsPerMinute;
+        this.modelTokensPerMinute = modelTokensPerMinute;
+        this.modelRequestsPerMinute = modelRequestsPerMinute;
+        this.interactiveReserveRatio = interactiveReserveRatio;
+        this.interactiveTimeout = Duration.ofSeconds(interactiveTimeoutSeconds);
+    }
+
+    /**
+     * 예상 토큰만큼 예산을 예약합니다. 한도에 여유가 생길 때까지 대기하며,
+     * 사용자 요청은 interactive-timeout-seconds 안에 예약하지 못하면 예외를 던집니다.
+     */
+    public Reservation acquire(String model, int estimatedTokens, LlmPriority priority) {
+        Window window = windows.computeIfAbsent(model, this::newWindow);
+        try {
+            return window.acquire(estimatedTokens, priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for LLM token budget", e);
+        }
+    }
+
+    /**
+     * 호출 후 응답의 실제 사용 토큰으로 예약량을 보정합니다. 사용량을 알 수 없으면 예약량을 그대로 둡니다.
+     */
+    public void settle(Reservation reservation, Integer actualTokens) {
+        if (reservation != null && actualTokens != null) {
+            reservation.window.settle(reservation, actualTokens);
+        }
+    }
+
+    // 테스트에서 윈도우 상태를 확인하는 용도
+    int usedTokens(String model) {
+        Window window = windows.get(model);
+        return window != null ? window.usedTokens() : 0;
+    }
+
+    int waitingInteractive(String model) {
+        Window window = windows.get(model);
+        return window != null ? window.waitingInteractive() : 0;
+    }
+
+    private Window newWindow(String model) {
+        int tokensPerMinute = modelTokensPerMinute.getOrDefault(model, defaultTokensPerMinute);
+        int requestsPerMinute = modelRequestsPerMinute.getOrDefault(model, defaultRequestsPerMinute);
+        logger.info("LLM budget for model {}: {} TPM, {} RPM", model, tokensPerMinute, requestsPerMinute);
+        return new Window(model, tokensPerMinute, requestsPerMinute);
+    }
+
+    /**
+     * 윈도우에 기록된 1건의 호출 (실제 사용량으로 보정될 수 있음)
+     */
+    public static final class Reservation {
+        private final Window window;
+        private final long startedAt;
+        private int tokens;
+
+        private Reservation(Window window, long startedAt, int tokens) {
+            this.window = window;
+            this.startedAt = startedAt;
+            this.tokens = tokens;
+        }
+    }
+
+    private final class Window {
+        private final String model;
+        private final int tokensPerMinute;
+        private final int requestsPerMinute;
+
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final Condition released = lock.newCondition();
+        private final Deque<Reservation> reservations = new ArrayDeque<>();
+        private int usedTokens;
+        private int waitingInteractive;
+
+        private Window(String model, int tokensPerMinute, int requestsPerMinute) {
+            this.model = model;
+            this.tokensPerMinute = tokensPerMinute;
+            this.requestsPerMinute = requestsPerMinute;
+        }
+
+        private Reservation acquire(int estimatedTokens, LlmPriority priority) throws InterruptedException {
+            boolean interactive = priority == LlmPriority.INTERACTIVE;
+            double share = interactive ? 1.0 : 1.0 - interactiveReserveRatio;
+            int tokenLimit = Math.max(1, (int) (tokensPerMinute * share));
+            int requestLimit = Math.max(1, (int) (requestsPerMinute * share));
+            // 한도보다 큰 단일 요청은 윈도우가 비었을 때 통과시킨다
+            int tokens = Math.min(estimatedTokens, tokenLimit);
+            long deadline = interactive ? System.nanoTime() + interactiveTimeout.toNanos() : Long.MAX_VALUE;
+
+            lock.lock();
+            try {
+                if (interactive) {
+                    waitingInteractive++;
+                }
+                try {
+                    while (true) {
+                        long now = System.nanoTime();
+                        evictExpired(now);
+
+                        boolean yieldToInteractive = !interactive && waitingInteractive > 0;
+                        if (!yieldToInteractive && usedTokens + tokens <= tokenLimit
+                                && reservations.size() < requestLimit) {
+                            Reservation reservation = new Reservation(this, now, tokens);
+                            reservations.addLast(reservation);
+                            usedTokens += tokens;
+                            return reservation;
+                        }
+
+                        if (now >= deadline) {
+                            throw new IllegalStateException("LLM token budget exhausted for model: " + model);
+                        }
+
+                        long untilOldestExpires = reservations.isEmpty()
+                                ? MAX_WAIT_NANOS
+                                : reservations.peekFirst().startedAt + WINDOW_NANOS - now;
+                        long waitNanos = Math.min(Math.min(untilOldestExpires, MAX_WAIT_NANOS), deadline - now);
+                        logger.debug("Waiting for LLM budget: model={}, priority={}, tokens={}, used={}/{}",
+                                model, priority, tokens, usedTokens, tokenLimit);
+                        released.awaitNanos(Math.max(waitNanos, 1));
+                    }
+                } finally {
+                    if (interactive) {
+                        waitingInteractive--;
+                        released.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void settle(Reservation reservation, int actualTokens) {
+            lock.lock();
+            try {
+                // 이미 윈도우에서 빠진 예약은 보정할 필요 없음
+                if (reservations.contains(reservation)) {
+                    usedTokens += actualTokens - reservation.tokens;
+                    reservation.tokens = actualTokens;
+                }
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int usedTokens() {
+            lock.lock();
+            try {
+                return usedTokens;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int waitingInteractive() {
+            lock.lock();
+            try {
+                return waitingInteractive;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evictExpired(long now) {
+            while (!reservations.isEmpty() && now - reservations.peekFirst().startedAt >= WINDOW_NANOS) {
+                usedTokens -= reservations.pollFirst().tokens;
+            }
+        }
+    }
+}
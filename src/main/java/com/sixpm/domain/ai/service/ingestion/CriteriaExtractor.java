@@ -1,59 +1,327 @@
 package com.sixpm.domain.ai.service.ingestion;
 
 import com.sixpm.domain.ai.dto.CriteriaResponse;
+import com.sixpm.domain.ai.entity.CriteriaExtractionCache;
+import com.sixpm.domain.ai.enums.CriteriaSection;
+import com.sixpm.domain.ai.enums.LlmPriority;
+import com.sixpm.domain.ai.repository.CriteriaExtractionCacheRepository;
+import com.sixpm.domain.ai.service.gateway.LlmBudgetAdvisor;
+import com.sixpm.domain.ai.service.ingestion.CriteriaSectionPlanner.SectionTask;
+import com.sixpm.domain.ai.service.ingestion.CriteriaTableSelector.SelectedTable;
+import com.sixpm.domain.ai.service.ingestion.StandardTableParser.ParsedTables;
+import com.sixpm.domain.ai.util.LenientJson.Binding;
+import com.sixpm.domain.ai.util.TableFingerprint;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.ai.chat.client.AdvisorParams;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.SimpleLoggerAdvisor;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
 @Service
 public class CriteriaExtractor {
 
     private static final Logger logger = LoggerFactory.getLogger(CriteriaExtractor.class);
     private final ChatClient chatClient;
     private final Resource promptResource;
+    private final Resource sectionPromptResource;
+    private final CriteriaTableSelector tableSelector;
+    private final StandardTableParser tableParser;
+    private final CriteriaSectionPlanner sectionPlanner;
+    private final LenientStructuredOutput structuredOutput;
+    private final CriteriaExtractionCacheRepository cacheRepository;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final Timer extractionTimer;
+    private final DistributionSummary inputTokens;
+    private final long sectionTimeoutSeconds;
+
+    // 영역별 추출은 LLM 응답 대기가 대부분이므로 Virtual Thread로 동시에 호출
+    private final ExecutorService sectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 프롬프트가 바뀌면 이전 캐시가 적중하지 않도록 fingerprint에 포함
+    private final String promptVersion;
 
     public CriteriaExtractor(
             @Qualifier("openAiChatModel") ChatModel chatModel,
-            @Value("classpath:prompts/criteria-extraction-prompt.txt") Resource promptResource
+            @Value("classpath:prompts/criteria-extraction-prompt.txt") Resource promptResource,
+            @Value("classpath:prompts/criteria-section-prompt.txt") Resource sectionPromptResource,
+            CriteriaTableSelector tableSelector,
+            StandardTableParser tableParser,
+            CriteriaSectionPlanner sectionPlanner,
+            LenientStructuredOutput structuredOutput,
+            CriteriaExtractionCacheRepository cacheRepository,
+            LlmBudgetAdvisor budgetAdvisor,
+            TokenCountEstimator tokenCountEstimator,
+            MeterRegistry meterRegistry,
+            @Value("${criteria.extraction.section-timeout-seconds:90}") long sectionTimeoutSeconds
     ) {
+        // 대량 재처리가 사용자 요청의 토큰 한도를 잠식하지 않도록 백그라운드 우선순위로 호출
         this.chatClient = ChatClient.builder(chatModel)
+                .defaultAdvisors(budgetAdvisor)
+                .defaultAdvisors(a -> a.param(LlmBudgetAdvisor.PRIORITY, LlmPriority.BACKGROUND))
                 .build();
         this.promptResource = promptResource;
+        this.sectionPromptResource = sectionPromptResource;
+        this.tableSelector = tableSelector;
+        this.tableParser = tableParser;
+        this.sectionPlanner = sectionPlanner;
+        this.structuredOutput = structuredOutput;
+        this.cacheRepository = cacheRepository;
+        this.promptVersion = TableFingerprint.sha256(hashPrompt(promptResource) + hashPrompt(sectionPromptResource));
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.extractionTimer = Timer.builder("criteria.extraction.latency")
+                .description("LLM criteria extraction latency")
+                .register(meterRegistry);
+        this.inputTokens = DistributionSummary.builder("criteria.extraction.input.tokens")
+                .description("Estimated tokens of the table text sent for criteria extraction")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        this.sectionTimeoutSeconds = sectionTimeoutSeconds;
+    }
+
+    /**
+     * 파싱된 공고문에서 소득/자산/자격 관련 표와 신청자격 문단만 선별하여 자격 요건을 추출합니다.
+     * 표준 양식의 소득/자산 기준표는 규칙 기반으로 읽어 해당 영역의 LLM 입력에서 제외하고, 결과에 덮어씁니다.
+     * 기본 자격과 공급유형별 소득 비율은 규칙으로 읽지 않으므로 표를 모두 인식한 경우에도 LLM으로 추출합니다.
+     * LLM 추출은 영역(기본 자격, 소득 기준 금액, 자산 한도, 공급유형별 소득 비율)별로 나누어 동시에 호출하고 결과를 합칩니다.
+     * 정규화된 입력 텍스트가 같으면 LLM을 다시 호출하지 않고 캐시된 결과를 사용합니다.
+     *
+     * @param noticeTitle 공고명 (정규화 시 제거, null 가능)
+     */
+    public CriteriaResponse extract(ParsedDocument parsedDoc, String noticeTitle) {
+        if (parsedDoc == null) {
+            logger.warn("Parsed document for criteria extraction is null.");
+            return CriteriaResponse.empty();
+        }
+
+        List<SelectedTable> tables = tableSelector.selectTables(parsedDoc);
+        ParsedTables parsedTables = tableParser.parse(tables);
+        if (!parsedTables.recognizedOrders().isEmpty()) {
+            logger.info("{} of {} criteria tables parsed by rules. Excluded from their LLM sections.",
+                    parsedTables.recognizedOrders().size(), tables.size());
+        }
+
+        List<SectionTask> tasks = tables.isEmpty()
+                ? List.of()
+                : sectionPlanner.plan(tables, parsedTables, tableSelector.eligibilityProse(parsedDoc));
+        String inputText = tables.isEmpty()
+                ? tableSelector.select(parsedDoc)
+                : tasks.stream().map(SectionTask::text).collect(Collectors.joining("\n\n"));
+        if (inputText == null || inputText.isBlank()) {
+            logger.warn("Input text for criteria extraction is empty.");
+            return merge(CriteriaResponse.empty(), parsedTables);
+        }
+
+        String fingerprint = TableFingerprint.sha256(
+                promptVersion + "\n" + TableFingerprint.normalize(inputText, noticeTitle));
+
+        Optional<CriteriaResponse> cached = findCached(fingerprint);
+        if (cached.isPresent()) {
+            logger.info("Criteria cache hit for fingerprint: {}", fingerprint);
+            return merge(cached.get(), parsedTables);
+        }
+
+        Extraction extraction = tables.isEmpty() ? extractFullText(inputText) : extractSections(tasks);
+        // 실패했거나 일부 항목을 읽지 못한 결과는 캐시하지 않아 다음 처리 시 다시 시도되도록 한다
+        if (extraction.complete()) {
+            saveToCache(fingerprint, extraction.response());
+        }
+        return merge(extraction.response(), parsedTables);
+    }
+
+    /**
+     * LLM 추출 결과
+     *
+     * @param complete 모든 호출이 성공하고 모든 항목을 읽었는지 여부
+     */
+    private record Extraction(CriteriaResponse response, boolean complete) {}
+
+    /**
+     * 영역별 작업을 동시에 호출하고 작업 순서대로 병합합니다. 전체 지연 시간은 가장 느린 영역에 맞춰집니다.
+     * 제한 시간을 넘긴 영역은 호출 스레드를 인터럽트해 취소하므로 응답을 기다리며 토큰 예산을 계속 잡고 있지 않습니다.
+     */
+    private Extraction extractSections(List<SectionTask> tasks) {
+        Timer.Sample sample = Timer.start();
+
+        List<Future<Binding<?>>> futures = new ArrayList<>(tasks.size());
+        for (SectionTask task : tasks) {
+            futures.add(sectionExecutor.submit(() -> extractSection(task)));
+        }
+
+        // 모든 영역을 동시에 시작했으므로 하나의 마감 시각을 기준으로 기다림
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sectionTimeoutSeconds);
+        List<Object> parts = new ArrayList<>(futures.size());
+        boolean complete = true;
+        for (int i = 0; i < futures.size(); i++) {
+            Binding<?> binding = awaitSection(tasks.get(i), futures.get(i), deadline);
+            parts.add(binding != null ? binding.value() : null);
+            complete &= binding != null && binding.isComplete();
+        }
+
+        long elapsedNanos = sample.stop(extractionTimer);
+        CriteriaResponse response = CriteriaSectionMerger.merge(parts);
+        logger.info("Extracted criteria from {} sections in {} ms (complete={}): region={}, asset_rules={}, income_rules={}",
+                tasks.size(), elapsedNanos / 1_000_000, complete, response.residenceRegion(),
+                response.assetLimits().size(), response.incomeRatios().size());
+        return new Extraction(response, complete);
+    }
+
+    private Binding<?> awaitSection(SectionTask task, Future<Binding<?>> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.error("Criteria section {} timed out after {} s. Cancelled.", task.section(), sectionTimeoutSeconds);
+        } catch (ExecutionException e) {
+            logger.error("Failed to extract criteria section {}.", task.section(), e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sectionExecutor.shutdownNow();
+    }
+
+    private Binding<?> extractSection(SectionTask task) {
+        CriteriaSection section = task.section();
+        int tokens = tokenCountEstimator.estimate(task.text());
+        inputTokens.record(tokens);
+        long startNanos = System.nanoTime();
+
+        Binding<?> part = structuredOutput.call(chatClient, sectionPromptResource,
+                Map.of("instruction", section.getInstruction(), "text", task.text()),
+                section.getResponseType());
+
+        logger.debug("Criteria section {} took {} ms for {} input tokens",
+                section, (System.nanoTime() - startNanos) / 1_000_000, tokens);
+        return part;
+    }
+
+    /**
+     * 규칙 기반으로 읽은 값이 있으면 LLM 결과보다 우선합니다.
+     */
+    private CriteriaResponse merge(CriteriaResponse response, ParsedTables parsedTables) {
+        if (parsedTables.isEmpty()) {
+            return response;
+        }
+        return new CriteriaResponse(
+                response.residenceRegion(),
+                response.minAge(),
+                response.requiresHomeless(),
+                parsedTables.incomeBenchmark().isEmpty() ? response.incomeBenchmark() : parsedTables.incomeBenchmark(),
+                parsedTables.assetLimits().isEmpty() ? response.assetLimits() : parsedTables.assetLimits(),
+                response.incomeRatios()
+        );
     }
 
     public CriteriaResponse extract(String tableText) {
+        return extractFullText(tableText).response();
+    }
+
+    private Extraction extractFullText(String tableText) {
         if (tableText == null || tableText.isBlank()) {
             logger.warn("Input text for criteria extraction is empty.");
-            return CriteriaResponse.empty();
+            return new Extraction(CriteriaResponse.empty(), false);
         }
 
+        int tokens = tokenCountEstimator.estimate(tableText);
+        inputTokens.record(tokens);
+        Timer.Sample sample = Timer.start();
+
         try {
-            logger.info("Extracting criteria matrix from announcement tables...");
-            CriteriaResponse response = chatClient.prompt()
-                    .advisors(AdvisorParams.ENABLE_NATIVE_STRUCTURED_OUTPUT) // Native Structured Output 활성화
-                    .user(spec -> spec.text(promptResource)
-                            .param("text", tableText))
-                    .call()
-                    .entity(CriteriaResponse.class);
-
-            if (response != null) {
-                logger.info("Successfully extracted criteria: region={}, asset_rules={}, income_rules={}",
-                        response.residenceRegion(), 
-                        response.assetLimits() != null ? response.assetLimits().size() : 0,
-                        response.incomeRatios() != null ? response.incomeRatios().size() : 0);
-                return response;
-            }
-            return CriteriaResponse.empty();
+            logger.info("Extracting criteria matrix from announcement tables ({} tokens)...", tokens);
+            Binding<CriteriaResponse> binding = structuredOutput.call(
+                    chatClient, promptResource, Map.of("text", tableText), CriteriaResponse.class);
+            CriteriaResponse response = withDefaults(binding.value());
+
+            logger.info("Successfully extracted criteria: region={}, asset_rules={}, income_rules={}, missing={}",
+                    response.residenceRegion(), response.assetLimits().size(), response.incomeRatios().size(),
+                    binding.missingFields());
+            return new Extraction(response, binding.isComplete());
         } catch (Exception e) {
             logger.error("Failed to extract criteria from text.", e);
-            return CriteriaResponse.empty();
+            return new Extraction(CriteriaResponse.empty(), false);
+        } finally {
+            long elapsedNanos = sample.stop(extractionTimer);
+            logger.info("Criteria extraction took {} ms for {} input tokens", elapsedNanos / 1_000_000, tokens);
+        }
+    }
+
+    /**
+     * 부분 바인딩으로 비어 있는 항목을 기본값으로 채웁니다. (거주 지역은 null이 '제한 없음'이므로 그대로 둠)
+     */
+    private CriteriaResponse withDefaults(CriteriaResponse response) {
+        CriteriaResponse defaults = CriteriaResponse.empty();
+        return new CriteriaResponse(
+                response.residenceRegion(),
+                response.minAge() != null ? response.minAge() : defaults.minAge(),
+                response.requiresHomeless() != null ? response.requiresHomeless() : defaults.requiresHomeless(),
+                response.incomeBenchmark() != null ? response.incomeBenchmark() : defaults.incomeBenchmark(),
+                response.assetLimits() != null ? response.assetLimits() : defaults.assetLimits(),
+                response.incomeRatios() != null ? response.incomeRatios() : defaults.incomeRatios()
+        );
+    }
+
+    private Optional<CriteriaResponse> findCached(String fingerprint) {
+        try {
+            Optional<CriteriaResponse> cached = cacheRepository.findById(fingerprint)
+                    .map(CriteriaExtractionCache::getResponse);
+            if (cached.isPresent()) {
+                cacheRepository.incrementHitCount(fingerprint);
+            }
+            return cached;
+        } catch (Exception e) {
+            logger.warn("Failed to read criteria cache for fingerprint: {}", fingerprint, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveToCache(String fingerprint, CriteriaResponse response) {
+        try {
+            // 중복 키 등 제약 위반은 flush 시점에 발생하므로 저장과 flush를 함께 실행해 여기서 처리
+            cacheRepository.saveAndFlush(CriteriaExtractionCache.builder()
+                    .fingerprint(fingerprint)
+                    .response(response)
+                    .build());
+        } catch (Exception e) {
+            // 동시에 같은 표를 처리한 경우 등 - 캐시 저장 실패는 추출 결과에 영향 없음
+            logger.debug("Failed to store criteria cache for fingerprint: {}", fingerprint, e);
+        }
+    }
+
+    private static String hashPrompt(Resource promptResource) {
+        try {
+            return TableFingerprint.sha256(promptResource.getContentAsString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read criteria extraction prompt", e);
         }
     }
 }
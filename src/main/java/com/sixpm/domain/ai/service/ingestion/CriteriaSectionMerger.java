@@ -0,0 +1,84 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import com.sixpm.domain.ai.dto.CriteriaResponse.AssetLimitRule;
+import com.sixpm.domain.ai.dto.CriteriaResponse.IncomeRatioRule;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.AssetLimitPart;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.EligibilityPart;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.IncomeBenchmarkPart;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.IncomeRatioPart;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 영역별 추출 결과를 하나의 CriteriaResponse로 합칩니다.
+ * 결과는 작업 순서(문서 순서)대로 전달되며, 같은 키가 여러 번 나오면 먼저 나온 값을 사용하고
+ * 목록은 정렬하여 응답이 도착한 순서와 관계없이 항상 같은 결과가 나오도록 합니다.
+ */
+public final class CriteriaSectionMerger {
+
+    private static final Comparator<IncomeRatioRule> RATIO_ORDER = Comparator
+            .comparing(IncomeRatioRule::supplyType, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(IncomeRatioRule::minHousehold)
+            .thenComparingInt(IncomeRatioRule::maxHousehold)
+            .thenComparingInt(IncomeRatioRule::childCount)
+            .thenComparingInt(IncomeRatioRule::ratio);
+
+    private CriteriaSectionMerger() {
+    }
+
+    /**
+     * @param parts 작업 순서대로 나열한 영역별 응답 (실패한 영역은 null)
+     */
+    public static CriteriaResponse merge(List<?> parts) {
+        CriteriaResponse defaults = CriteriaResponse.empty();
+        String residenceRegion = null;
+        Integer minAge = null;
+        Boolean requiresHomeless = null;
+        Map<Integer, Long> incomeBenchmark = new TreeMap<>();
+        Map<Integer, AssetLimitRule> assetLimits = new TreeMap<>();
+        Set<IncomeRatioRule> incomeRatios = new LinkedHashSet<>();
+
+        // 실패했거나 값이 없는 영역(null)은 기본값 유지
+        for (Object part : parts) {
+            if (part instanceof EligibilityPart eligibility) {
+                residenceRegion = residenceRegion != null ? residenceRegion : eligibility.residenceRegion();
+                minAge = minAge != null ? minAge : eligibility.minAge();
+                requiresHomeless = requiresHomeless != null ? requiresHomeless : eligibility.requiresHomeless();
+            } else if (part instanceof IncomeBenchmarkPart benchmark && benchmark.incomeBenchmark() != null) {
+                benchmark.incomeBenchmark().forEach((household, amount) -> {
+                    if (household != null && amount != null && amount > 0) {
+                        incomeBenchmark.putIfAbsent(household, amount);
+                    }
+                });
+            } else if (part instanceof AssetLimitPart assets && assets.assetLimits() != null) {
+                assets.assetLimits().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(rule -> assetLimits.putIfAbsent(rule.childCount(), rule));
+            } else if (part instanceof IncomeRatioPart ratios && ratios.incomeRatios() != null) {
+                ratios.incomeRatios().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(incomeRatios::add);
+            }
+        }
+
+        List<IncomeRatioRule> sortedRatios = new ArrayList<>(incomeRatios);
+        sortedRatios.sort(RATIO_ORDER);
+
+        return new CriteriaResponse(
+                residenceRegion,
+                minAge != null ? minAge : defaults.minAge(),
+                requiresHomeless != null ? requiresHomeless : defaults.requiresHomeless(),
+                incomeBenchmark,
+                new ArrayList<>(assetLimits.values()),
+                sortedRatios
+        );
+    }
+}
@@ -0,0 +1,138 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.enums.CriteriaSection;
+import com.sixpm.domain.ai.service.ingestion.CriteriaTableSelector.SelectedTable;
+import com.sixpm.domain.ai.service.ingestion.StandardTableParser.ParsedTables;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 선별된 표를 자격 요건 영역(기본 자격, 소득 기준 금액, 자산 한도, 공급유형별 소득 비율)별로 나누어
+ * 서로 독립적으로 추출할 수 있는 작업 목록을 만듭니다.
+ * 한 표가 여러 영역에 해당하면 각 작업에 모두 포함되고, 소득 비율 표는 토큰 예산 단위로 다시 나눕니다.
+ * 기본 자격 작업에는 표 외에 신청자격 섹션의 문단도 함께 전달합니다.
+ */
+@Component
+public class CriteriaSectionPlanner {
+
+    private static final List<String> BENCHMARK_KEYWORDS = List.of("월평균", "도시근로자");
+    private static final List<String> ASSET_KEYWORDS = List.of("자산", "자동차");
+    private static final List<String> ELIGIBILITY_KEYWORDS =
+            List.of("거주", "무주택", "신청자격", "입주자격", "연령", "성년", "세대구성원");
+
+    private final CriteriaTableSelector tableSelector;
+    private final int sectionTokenBudget;
+
+    public CriteriaSectionPlanner(
+            CriteriaTableSelector tableSelector,
+            @Value("${criteria.extraction.section-token-budget:2000}") int sectionTokenBudget
+    ) {
+        this.tableSelector = tableSelector;
+        this.sectionTokenBudget = sectionTokenBudget;
+    }
+
+    /**
+     * 영역별 추출 작업. 목록 순서가 병합 시 우선순위가 됩니다.
+     *
+     * @param text LLM에 전달할 표 텍스트
+     */
+    public record SectionTask(CriteriaSection section, String text) {}
+
+    /**
+     * @param tables          선별된 표 전체 (문서 순서)
+     * @param parsed          규칙 기반으로 이미 읽은 값 (해당 영역 작업과 기본 자격 작업에서 제외)
+     * @param eligibilityProse 신청자격 섹션의 문단 텍스트 (CriteriaTableSelector.eligibilityProse)
+     */
+    public List<SectionTask> plan(List<SelectedTable> tables, ParsedTables parsed, String eligibilityProse) {
+        List<SelectedTable> eligibility = new ArrayList<>();
+        List<SelectedTable> benchmark = new ArrayList<>();
+        List<SelectedTable> assets = new ArrayList<>();
+        List<SelectedTable> ratios = new ArrayList<>();
+
+        for (SelectedTable table : tables) {
+            String text = table.context() + "\n" + CriteriaTableSelector.textOf(table.table());
+            // 규칙으로 다 읽은 표도 공급유형별 소득 비율 열이 있을 수 있으므로 소득 비율 작업에는 포함
+            boolean recognized = parsed.recognizedOrders().contains(table.order());
+            boolean routed = false;
+
+            boolean isBenchmark = containsAny(text, BENCHMARK_KEYWORDS);
+            if (isBenchmark && parsed.incomeBenchmark().isEmpty()) {
+                benchmark.add(table);
+                routed = true;
+            }
+            if (containsAny(text, ASSET_KEYWORDS) && parsed.assetLimits().isEmpty()) {
+                assets.add(table);
+                routed = true;
+            }
+            if (text.contains("%") && !isBenchmark) {
+                ratios.add(table);
+                routed = true;
+            }
+            // 어느 영역에도 해당하지 않는 표는 기본 자격 작업에서 함께 본다
+            if (!recognized && (containsAny(text, ELIGIBILITY_KEYWORDS) || (!routed && !isBenchmark))) {
+                eligibility.add(table);
+            }
+        }
+
+        List<SectionTask> tasks = new ArrayList<>();
+        // 기본 자격은 문장으로 적힌 경우가 많으므로 신청자격 문단과 관련 표를 함께 전달
+        // (관련 표가 없으면 표 앞의 섹션 제목/설명만 덧붙임)
+        String eligibilityTables = eligibility.isEmpty() ? contextsOf(tables) : tableSelector.render(eligibility);
+        String eligibilityText = Stream.of(eligibilityProse, eligibilityTables)
+                .filter(text -> text != null && !text.isBlank())
+                .collect(Collectors.joining("\n\n"));
+        if (!eligibilityText.isBlank()) {
+            tasks.add(new SectionTask(CriteriaSection.ELIGIBILITY, eligibilityText));
+        }
+        if (!benchmark.isEmpty()) {
+            tasks.add(new SectionTask(CriteriaSection.INCOME_BENCHMARK, tableSelector.render(benchmark)));
+        }
+        if (!assets.isEmpty()) {
+            tasks.add(new SectionTask(CriteriaSection.ASSET_LIMITS, tableSelector.render(assets)));
+        }
+        for (List<SelectedTable> batch : batches(ratios)) {
+            tasks.add(new SectionTask(CriteriaSection.INCOME_RATIOS, tableSelector.render(batch)));
+        }
+        return tasks;
+    }
+
+    /**
+     * 공급유형별 소득 비율 표는 공고마다 수가 많으므로 토큰 예산 단위로 나눕니다. (문서 순서 유지)
+     */
+    private List<List<SelectedTable>> batches(List<SelectedTable> tables) {
+        List<List<SelectedTable>> batches = new ArrayList<>();
+        List<SelectedTable> current = new ArrayList<>();
+        int usedTokens = 0;
+
+        for (SelectedTable table : tables) {
+            if (!current.isEmpty() && usedTokens + table.tokens() > sectionTokenBudget) {
+                batches.add(current);
+                current = new ArrayList<>();
+                usedTokens = 0;
+            }
+            current.add(table);
+            usedTokens += table.tokens();
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private String contextsOf(List<SelectedTable> tables) {
+        return tables.stream()
+                .map(SelectedTable::context)
+                .filter(context -> !context.isBlank())
+                .distinct()
+                .collect(Collectors.joining("\n"));
+    }
+
+    private boolean containsAny(String text, List<String> keywords) {
+        return keywords.stream().anyMatch(text::contains);
+    }
+}
@@ -0,0 +1,238 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.util.CompactTableSerializer;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자격 요건 추출에 필요한 표만 골라내는 사전 선별 단계.
+ * 공고문 전체 대신 소득/자산/자격 관련 표를 관련도 순으로 골라 토큰 예산 안에서만 LLM에 전달합니다.
+ */
+@Component
+public class CriteriaTableSelector {
+
+    private static final Logger logger = LoggerFactory.getLogger(CriteriaTableSelector.class);
+
+    // 키워드별 가중치 (표 본문 1배, 표 앞 섹션 제목/설명 2배)
+    private static final Map<String, Integer> KEYWORD_WEIGHTS = Map.ofEntries(
+            Map.entry("소득", 3),
+            Map.entry("자산", 3),
+            Map.entry("자동차", 3),
+            Map.entry("가구원수", 3),
+            Map.entry("가구원 수", 3),
+            Map.entry("월평균", 2),
+            Map.entry("자녀", 2),
+            Map.entry("무주택", 2),
+            Map.entry("신청자격", 2),
+            Map.entry("입주자격", 2),
+            Map.entry("거주", 1),
+            Map.entry("기준", 1)
+    );
+
+    private static final int MAX_KEYWORD_HITS = 5;
+    private static final int MAX_CONTEXT_LENGTH = 200;
+
+    // 신청자격 문단을 찾는 섹션 제목 (공백 제거 후 비교)
+    private static final List<String> ELIGIBILITY_HEADINGS =
+            List.of("신청자격", "입주자격", "자격요건", "신청대상", "입주대상", "공급대상");
+    // 섹션 제목이 없는 문서(로컬 텍스트 추출 등)에서 자격 요건 문단을 찾는 키워드
+    private static final List<String> ELIGIBILITY_KEYWORDS =
+            List.of("무주택", "거주", "세대구성원", "성년", "만 19세", "혼인", "연령");
+    private static final Set<String> NON_PROSE_CATEGORIES = Set.of("table", "figure", "chart", "header", "footer");
+
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int tokenBudget;
+    private final int proseTokenBudget;
+
+    public CriteriaTableSelector(
+            TokenCountEstimator tokenCountEstimator,
+            @Value("${criteria.extraction.table-token-budget:6000}") int tokenBudget,
+            @Value("${criteria.extraction.prose-token-budget:1500}") int proseTokenBudget
+    ) {
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.tokenBudget = tokenBudget;
+        this.proseTokenBudget = proseTokenBudget;
+    }
+
+    /**
+     * 선별된 표 (문서 내 순서 유지용 인덱스와 앞선 섹션 문맥 포함)
+     */
+    public record SelectedTable(int order, String context, Element table, int score, int tokens) {}
+
+    /**
+     * 관련도 점수가 있는 표를 점수 순으로 예산 안에서 고른 뒤 문서 순서로 반환합니다.
+     */
+    public List<SelectedTable> selectTables(ParsedDocument parsedDoc) {
+        List<SelectedTable> candidates = new ArrayList<>();
+        String heading = "";
+        String lastText = "";
+
+        List<Element> elements = parsedDoc.elements();
+        for (int i = 0; i < elements.size(); i++) {
+            Element element = elements.get(i);
+            String text = textOf(element);
+
+            if ("heading1".equals(element.category())) {
+                heading = text;
+                lastText = "";
+            } else if ("table".equals(element.category())) {
+                String context = buildContext(heading, lastText);
+                int score = score(text, 1) + score(context, 2);
+                if (score > 0) {
+                    candidates.add(new SelectedTable(i, context, element, score,
+                            tokenCountEstimator.estimate(context + "\n"
+                                    + CompactTableSerializer.serialize(text, context))));
+                }
+            } else if (!text.isBlank() && !"header".equals(element.category())
+                    && !"footer".equals(element.category())) {
+                lastText = text;
+            }
+        }
+
+        candidates.sort(Comparator.comparingInt(SelectedTable::score).reversed());
+
+        List<SelectedTable> selected = new ArrayList<>();
+        int usedTokens = 0;
+        for (SelectedTable candidate : candidates) {
+            if (usedTokens + candidate.tokens() > tokenBudget) {
+                continue;
+            }
+            selected.add(candidate);
+            usedTokens += candidate.tokens();
+        }
+
+        selected.sort(Comparator.comparingInt(SelectedTable::order));
+        logger.debug("Selected {} of {} candidate tables ({} tokens, budget {})",
+                selected.size(), candidates.size(), usedTokens, tokenBudget);
+        return selected;
+    }
+
+    /**
+     * 신청자격 섹션의 문단/목록 텍스트를 문서 순서로 모읍니다. (prose-token-budget 이내, 남은 예산을 넘는 문단은 건너뜀)
+     * 거주 지역, 연령, 무주택, 혼인 요건은 표가 아닌 문장으로 적힌 경우가 많으므로 표와 함께 기본 자격 추출에 전달합니다.
+     * 신청자격 제목이 없는 문서는 자격 요건 키워드가 들어 있는 문단을 사용합니다.
+     */
+    public String eligibilityProse(ParsedDocument parsedDoc) {
+        List<String> underHeading = new ArrayList<>();
+        List<String> byKeyword = new ArrayList<>();
+        boolean inEligibility = false;
+
+        for (Element element : parsedDoc.elements()) {
+            String category = element.category() != null ? element.category() : "";
+            String text = textOf(element).strip();
+            if ("heading1".equals(category)) {
+                String heading = text.replace(" ", "");
+                inEligibility = ELIGIBILITY_HEADINGS.stream().anyMatch(heading::contains);
+                continue;
+            }
+            if (text.isEmpty() || NON_PROSE_CATEGORIES.contains(category)) {
+                continue;
+            }
+            if (inEligibility) {
+                underHeading.add(text);
+            } else if (ELIGIBILITY_KEYWORDS.stream().anyMatch(text::contains)) {
+                byKeyword.add(text);
+            }
+        }
+
+        List<String> paragraphs = underHeading.isEmpty() ? byKeyword : underHeading;
+        StringBuilder builder = new StringBuilder();
+        int usedTokens = 0;
+        for (String paragraph : paragraphs) {
+            int tokens = tokenCountEstimator.estimate(paragraph);
+            // 긴 문단 하나 때문에 뒤의 짧은 요건 문단(거주지, 연령 등)까지 버리지 않도록 건너뛰기만 함
+            if (usedTokens + tokens > proseTokenBudget) {
+                logger.debug("Skipping eligibility paragraph over prose budget ({} tokens, {} used)", tokens, usedTokens);
+                continue;
+            }
+            builder.append(paragraph).append('\n');
+            usedTokens += tokens;
+        }
+        return builder.toString().strip();
+    }
+
+    /**
+     * 신청자격 문단과 선별된 표를 LLM 입력 텍스트로 만듭니다. 선별된 표가 없으면 전체 텍스트를 그대로 사용합니다.
+     */
+    public String select(ParsedDocument parsedDoc) {
+        List<SelectedTable> tables = selectTables(parsedDoc);
+        if (tables.isEmpty()) {
+            logger.info("No relevant tables found. Falling back to full text for criteria extraction.");
+            return parsedDoc.fullText();
+        }
+
+        String prose = eligibilityProse(parsedDoc);
+        String selectedText = prose.isEmpty() ? render(tables) : prose + "\n\n" + render(tables);
+        logger.info("Criteria input reduced to {} tables: {} -> {} tokens", tables.size(),
+                tokenCountEstimator.estimate(parsedDoc.fullText()), tokenCountEstimator.estimate(selectedText));
+        return selectedText;
+    }
+
+    /**
+     * 표마다 앞선 섹션 문맥을 붙여 LLM 입력 텍스트로 이어 붙입니다.
+     * 표는 탭 구분 압축 형식으로 바꾸고 금액은 원 단위로 통일합니다. (CompactTableSerializer)
+     */
+    public String render(List<SelectedTable> tables) {
+        StringBuilder builder = new StringBuilder();
+        for (SelectedTable table : tables) {
+            if (!table.context().isBlank()) {
+                builder.append("[").append(table.context()).append("]\n");
+            }
+            builder.append(CompactTableSerializer.serialize(textOf(table.table()), table.context()))
+                    .append("\n\n");
+        }
+        return builder.toString().strip();
+    }
+
+    private int score(String text, int weight) {
+        if (text.isBlank()) {
+            return 0;
+        }
+
+        int score = 0;
+        for (Map.Entry<String, Integer> keyword : KEYWORD_WEIGHTS.entrySet()) {
+            int hits = countOccurrences(text, keyword.getKey());
+            score += Math.min(hits, MAX_KEYWORD_HITS) * keyword.getValue() * weight;
+        }
+        return score;
+    }
+
+    private int countOccurrences(String text, String keyword) {
+        int count = 0;
+        int index = text.indexOf(keyword);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(keyword, index + keyword.length());
+        }
+        return count;
+    }
+
+    private String buildContext(String heading, String lastText) {
+        String context = heading.isBlank() ? lastText : (lastText.isBlank() ? heading : heading + " / " + lastText);
+        context = context.replace('\n', ' ').strip();
+        return context.length() > MAX_CONTEXT_LENGTH ? context.substring(0, MAX_CONTEXT_LENGTH) : context;
+    }
+
+    static String textOf(Element element) {
+        Content content = element.content();
+        if (content == null) {
+            return "";
+        }
+        if (content.markdown() != null) {
+            return content.markdown();
+        }
+        return content.text() != null ? content.text() : "";
+    }
+}
@@ -0,0 +1,152 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.enums.LlmPriority;
+import com.sixpm.domain.ai.service.gateway.LlmTokenBudget;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 청크 임베딩을 토큰 수 기준 배치로 나누어 여러 배치를 동시에 요청합니다.
+ * 각 배치는 호출 전에 임베딩 모델의 분당 토큰/요청 한도(LlmTokenBudget)를 예약하므로
+ * 동시 요청 수를 늘려도 한도를 넘지 않습니다.
+ */
+@Component
+public class EmbeddingBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingBatcher.class);
+
+    private final EmbeddingModel embeddingModel;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final LlmTokenBudget tokenBudget;
+    private final String model;
+    private final int maxBatchTokens;
+    private final int maxBatchSize;
+    private final Semaphore inFlight;
+    private final Timer batchLatency;
+    private final DistributionSummary batchTokens;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EmbeddingBatcher(
+            EmbeddingModel embeddingModel,
+            TokenCountEstimator tokenCountEstimator,
+            LlmTokenBudget tokenBudget,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.openai.embedding.options.model:default}") String model,
+            @Value("${embedding.batch.max-tokens:40000}") int maxBatchTokens,
+            @Value("${embedding.batch.max-size:512}") int maxBatchSize,
+            @Value("${embedding.batch.max-concurrency:4}") int maxConcurrency
+    ) {
+        this.embeddingModel = embeddingModel;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.tokenBudget = tokenBudget;
+        this.model = model;
+        this.maxBatchTokens = maxBatchTokens;
+        this.maxBatchSize = maxBatchSize;
+        // 여러 공고를 동시에 처리해도 전체 동시 요청 수는 이 값을 넘지 않음
+        this.inFlight = new Semaphore(maxConcurrency);
+        this.batchLatency = Timer.builder("embedding.batch.latency")
+                .description("Latency of one embedding API request")
+                .tag("model", model)
+                .register(meterRegistry);
+        this.batchTokens = DistributionSummary.builder("embedding.batch.tokens")
+                .description("Estimated input tokens per embedding API request")
+                .baseUnit("tokens")
+                .tag("model", model)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 텍스트 목록을 임베딩합니다. 결과는 입력 순서와 같습니다.
+     *
+     * @throws IllegalStateException 배치 중 하나라도 실패한 경우
+     */
+    public List<float[]> embed(List<String> texts) {
+        List<Batch> batches = batches(texts);
+        if (batches.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<List<float[]>>> futures = batches.stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> embedBatch(batch), executor))
+                .toList();
+
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        try {
+            for (CompletableFuture<List<float[]>> future : futures) {
+                embeddings.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Embedding batch failed", e.getCause());
+        }
+
+        logger.info("Embedded {} texts in {} batches", texts.size(), batches.size());
+        return embeddings;
+    }
+
+    private List<float[]> embedBatch(Batch batch) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for embedding slot", e);
+        }
+
+        try {
+            // 임베딩 응답의 사용량은 입력 토큰과 같으므로 예약량을 보정하지 않음
+            tokenBudget.acquire(model, batch.tokens(), LlmPriority.BACKGROUND);
+            batchTokens.record(batch.tokens());
+
+            List<float[]> embeddings = batchLatency.record(() -> embeddingModel.embed(batch.texts()));
+            if (embeddings == null || embeddings.size() != batch.texts().size()) {
+                throw new IllegalStateException("Embedding response size mismatch: expected "
+                        + batch.texts().size() + ", got " + (embeddings == null ? 0 : embeddings.size()));
+            }
+            return embeddings;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 입력 순서를 유지하며 토큰 수(max-tokens)와 개수(max-size) 한도 안에서 배치를 만듭니다.
+     */
+    private List<Batch> batches(List<String> texts) {
+        List<Batch> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (String text : texts) {
+            int tokens = tokenCountEstimator.estimate(text);
+            if (!current.isEmpty() && (currentTokens + tokens > maxBatchTokens || current.size() >= maxBatchSize)) {
+                batches.add(new Batch(current, currentTokens));
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(text);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(new Batch(current, currentTokens));
+        }
+        return batches;
+    }
+
+    private record Batch(List<String> texts, int tokens) {}
+}
@@ -0,0 +1,107 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.util.PgVectorLiteral;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청크 텍스트 해시별 임베딩 캐시. (embedding_cache 테이블)
+ * 모델과 차원 수를 키에 포함하므로 모델을 바꾸면 자연히 새로 임베딩됩니다.
+ * 모델과 차원 수는 EmbeddingConfig가 임베딩 모델을 만들 때 쓰는 속성과 같은 속성에서 읽습니다.
+ * 캐시 조회/저장 실패는 임베딩을 새로 만드는 것으로 대신하며 적재를 실패시키지 않습니다.
+ */
+@Component
+public class EmbeddingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingCache.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String model;
+    private final int dimensions;
+    private final Counter hits;
+    private final Counter misses;
+
+    public EmbeddingCache(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.openai.embedding.options.model:default}") String model,
+            @Value("${spring.ai.openai.embedding.options.dimensions:1536}") int dimensions
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.model = model;
+        this.dimensions = dimensions;
+        this.hits = Counter.builder("embedding.cache")
+                .description("Chunk embedding cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("embedding.cache")
+                .description("Chunk embedding cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있는 임베딩을 조회합니다.
+     *
+     * @param contentHashes 청크 텍스트 해시 (중복 없음)
+     * @return 해시별 임베딩 (캐시에 없는 해시는 포함하지 않음)
+     */
+    public Map<String, float[]> getAll(Collection<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> params = new ArrayList<>();
+        params.add(model);
+        params.add(dimensions);
+        params.addAll(contentHashes);
+
+        String placeholders = String.join(", ", Collections.nCopies(contentHashes.size(), "?"));
+        String sql = "SELECT content_hash, embedding::text FROM embedding_cache " +
+                "WHERE model = ? AND dimensions = ? AND content_hash IN (" + placeholders + ")";
+
+        Map<String, float[]> cached = new HashMap<>();
+        try {
+            jdbcTemplate.query(sql, rs -> {
+                cached.put(rs.getString(1), PgVectorLiteral.parse(rs.getString(2)));
+            }, params.toArray());
+        } catch (Exception e) {
+            logger.warn("Failed to read embedding cache. Embedding all chunks.", e);
+            cached.clear();
+        }
+
+        hits.increment(cached.size());
+        misses.increment(contentHashes.size() - cached.size());
+        return cached;
+    }
+
+    /**
+     * 새로 만든 임베딩을 저장합니다. 이미 있는 해시는 그대로 둡니다.
+     */
+    public void putAll(Map<String, float[]> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(embeddings.size());
+        embeddings.forEach((hash, embedding) -> rows.add(new Object[]{model, dimensions, hash, PgVectorLiteral.format(embedding)}));
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO embedding_cache (model, dimensions, content_hash, embedding) " +
+                    "VALUES (?, ?, ?, ?::vector) ON CONFLICT DO NOTHING", rows);
+        } catch (Exception e) {
+            logger.warn("Failed to store {} embeddings in cache", embeddings.size(), e);
+        }
+    }
+}
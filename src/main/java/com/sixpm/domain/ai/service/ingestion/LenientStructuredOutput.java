@@ -0,0 +1,134 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sixpm.domain.ai.util.LenientJson;
+import com.sixpm.domain.ai.util.LenientJson.Binding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.ResponseFormat;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구조화 출력(JSON Schema) 호출 결과를 관대하게 읽는 호출기.
+ * `.entity()`는 바인딩이 하나라도 실패하면 응답 전체를 버리므로, 원문 JSON을 직접 받아 복구/부분 바인딩하고
+ * 읽지 못한 필드만 한 번 더 요청합니다. (전체 재시도 없음)
+ */
+@Component
+public class LenientStructuredOutput {
+
+    private static final Logger logger = LoggerFactory.getLogger(LenientStructuredOutput.class);
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public LenientStructuredOutput(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 프롬프트를 호출하고 응답을 레코드 타입으로 읽습니다.
+     *
+     * @return 바인딩 결과. 다시 요청한 뒤에도 읽지 못한 필드는 missingFields에 남습니다.
+     * @throws IllegalStateException 응답에서 아무 필드도 읽지 못한 경우
+     */
+    public <T> Binding<T> call(ChatClient chatClient, Resource promptResource, Map<String, ?> params,
+                               Class<T> type) {
+        String userText = new PromptTemplate(promptResource).render(new HashMap<>(params));
+        String schema = new BeanOutputConverter<>(type).getJsonSchema();
+
+        String raw = callRaw(chatClient, userText, schema);
+        Binding<T> binding = LenientJson.bind(raw, type, objectMapper);
+
+        if (binding.value() == null) {
+            record("failed");
+            throw new IllegalStateException("Structured output could not be read as " + type.getSimpleName());
+        }
+        if (binding.isComplete()) {
+            record("complete");
+            return binding;
+        }
+
+        // 일부 필드만 읽지 못한 경우: 해당 필드만 다시 요청
+        List<String> missing = binding.missingFields();
+        logger.info("Re-asking {} missing fields of {}: {}", missing.size(), type.getSimpleName(), missing);
+        try {
+            String reaskText = userText + "\n\n이전 응답에서 다음 항목을 읽지 못했습니다: " + String.join(", ", missing)
+                    + "\n위 항목만 다시 추출하세요.";
+            String reaskRaw = callRaw(chatClient, reaskText, restrictSchema(schema, missing));
+            Binding<T> reask = LenientJson.bind(reaskRaw, type, objectMapper);
+
+            List<String> recovered = new ArrayList<>(missing);
+            if (reask.value() == null) {
+                recovered.clear();
+            } else {
+                recovered.removeAll(reask.missingFields());
+            }
+
+            T merged = LenientJson.copyFields(binding.value(), reask.value(), recovered);
+            List<String> stillMissing = new ArrayList<>(missing);
+            stillMissing.removeAll(recovered);
+
+            record(stillMissing.isEmpty() ? "reasked" : "partial");
+            return new Binding<>(merged, stillMissing);
+        } catch (Exception e) {
+            logger.warn("Re-ask for missing fields of {} failed. Using partial result.", type.getSimpleName(), e);
+            record("partial");
+            return binding;
+        }
+    }
+
+    private String callRaw(ChatClient chatClient, String userText, String schema) {
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .responseFormat(ResponseFormat.builder()
+                        .type(ResponseFormat.Type.JSON_SCHEMA)
+                        .jsonSchema(schema)
+                        .build())
+                .build();
+
+        return chatClient.prompt()
+                .options(options)
+                .user(userText)
+                .call()
+                .content();
+    }
+
+    /**
+     * 스키마의 properties/required를 지정한 필드로 제한합니다.
+     */
+    private String restrictSchema(String schema, List<String> fields) {
+        try {
+            ObjectNode root = (ObjectNode) objectMapper.readTree(schema);
+            if (root.get("properties") instanceof ObjectNode properties) {
+                properties.retain(fields);
+            }
+            ArrayNode required = root.putArray("required");
+            fields.forEach(required::add);
+            return objectMapper.writeValueAsString(root);
+        } catch (Exception e) {
+            return schema;
+        }
+    }
+
+    private void record(String outcome) {
+        Counter.builder("llm.structured-output.recovery")
+                .description("Structured output binding outcomes")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
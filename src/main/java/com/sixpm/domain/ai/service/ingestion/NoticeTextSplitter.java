@@ -1,25 +1,48 @@
 package com.sixpm.domain.ai.service.ingestion;
 
+import com.sixpm.domain.ai.util.NoticeChunker;
+import com.sixpm.domain.ai.util.NoticeChunker.Chunk;
+import com.sixpm.domain.ai.util.NoticeSections.Section;
 import org.springframework.ai.document.Document;
-import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 공고문 섹션을 요소 경계 기반 청크(Document)로 나눕니다.
+ * 토큰 수는 공용 TokenCountEstimator(o200k_base)로 계산합니다.
+ */
 @Component
 public class NoticeTextSplitter {
 
-    private final TokenTextSplitter tokenTextSplitter;
+    private final NoticeChunker chunker;
 
-    public NoticeTextSplitter() {
-        // 기본값: 청크 크기 800 토큰, 최소 350자, 최대 2000자 등 설정 가능
-        // 여기서는 기본 생성자 또는 커스텀 설정 사용
-        this.tokenTextSplitter = new TokenTextSplitter(
+    public NoticeTextSplitter(
+            TokenCountEstimator tokenCountEstimator,
+            @Value("${chunking.max-tokens:800}") int maxTokens,
+            @Value("${chunking.min-tokens:200}") int minTokens
+    ) {
+        this.chunker = new NoticeChunker(tokenCountEstimator::estimate, maxTokens, minTokens);
+    }
 
-        );
+    /**
+     * @param metadata 모든 청크에 공통으로 넣을 메타데이터 (공고 ID, 섹션 해시 등)
+     */
+    public List<Document> split(Section section, Map<String, Object> metadata) {
+        return chunker.chunk(section).stream()
+                .map(chunk -> new Document(chunk.text(), metadataOf(chunk, metadata)))
+                .toList();
     }
 
-    public List<Document> apply(List<Document> documents) {
-        return tokenTextSplitter.apply(documents);
+    private Map<String, Object> metadataOf(Chunk chunk, Map<String, Object> metadata) {
+        Map<String, Object> chunkMetadata = new HashMap<>(metadata);
+        chunkMetadata.put("section_title", chunk.sectionTitle());
+        chunkMetadata.put("page_start", chunk.pageStart());
+        chunkMetadata.put("page_end", chunk.pageEnd());
+        return chunkMetadata;
     }
 }
@@ -0,0 +1,339 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import com.sixpm.domain.ai.service.ingestion.CriteriaTableSelector.SelectedTable;
+import com.sixpm.domain.ai.util.KoreanAmount;
+import com.sixpm.domain.ai.util.TableRows;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 표준 양식의 소득 기준표와 자산/자동차 기준표를 규칙 기반으로 읽는 파서.
+ * 양식이 일치하는 표는 LLM 없이 값을 채우고, 인식하지 못한 표만 LLM 추출 대상으로 남깁니다.
+ */
+@Component
+public class StandardTableParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandardTableParser.class);
+
+    private static final Pattern HOUSEHOLD = Pattern.compile("^(\\d)\\s*인(?:\\s*가구)?(?:\\s*이상)?$");
+    private static final Pattern PERCENT = Pattern.compile("(\\d{2,3})\\s*%");
+    private static final Pattern CHILD_COUNT = Pattern.compile("(\\d)\\s*(?:명|자녀|인)");
+    private static final Pattern NO_CAR = Pattern.compile("미보유|보유\\s*불가|없음|^-$");
+
+    // 월평균소득 100% 금액으로 보기 위한 범위 (원)
+    private static final long MIN_MONTHLY_INCOME = 500_000L;
+    private static final long MAX_MONTHLY_INCOME = 30_000_000L;
+
+    private static final int MIN_HOUSEHOLD_COLUMNS = 3;
+    private static final int MAX_CHILD_COUNT = 2;
+
+    /**
+     * 규칙 기반 파싱 결과
+     *
+     * @param incomeBenchmark   가구원수별 월평균소득 100% 금액 (인식 못하면 빈 맵)
+     * @param assetLimits       자녀 수별 자산/자동차 한도 (인식 못하면 빈 목록)
+     * @param recognizedOrders  전부 해석되어 LLM에 보낼 필요가 없는 표의 순서 인덱스
+     */
+    public record ParsedTables(
+            Map<Integer, Long> incomeBenchmark,
+            List<CriteriaResponse.AssetLimitRule> assetLimits,
+            Set<Integer> recognizedOrders
+    ) {
+        public boolean isEmpty() {
+            return incomeBenchmark.isEmpty() && assetLimits.isEmpty();
+        }
+    }
+
+    record TableResult<T>(T value, boolean complete) {}
+
+    public ParsedTables parse(List<SelectedTable> tables) {
+        Map<Integer, Long> incomeBenchmark = Map.of();
+        List<CriteriaResponse.AssetLimitRule> assetLimits = List.of();
+        Set<Integer> recognizedOrders = new HashSet<>();
+
+        for (SelectedTable table : tables) {
+            String text = CriteriaTableSelector.textOf(table.table());
+
+            if (incomeBenchmark.isEmpty()) {
+                TableResult<Map<Integer, Long>> income = parseIncomeBenchmark(text, table.context());
+                if (income != null) {
+                    incomeBenchmark = income.value();
+                    if (income.complete()) {
+                        recognizedOrders.add(table.order());
+                    }
+                    continue;
+                }
+            }
+
+            if (assetLimits.isEmpty()) {
+                TableResult<List<CriteriaResponse.AssetLimitRule>> asset = parseAssetLimits(text);
+                if (asset != null) {
+                    assetLimits = asset.value();
+                    if (asset.complete()) {
+                        recognizedOrders.add(table.order());
+                    }
+                }
+            }
+        }
+
+        logger.debug("Standard table parser: benchmark={} households, asset rules={}, recognized tables={}",
+                incomeBenchmark.size(), assetLimits.size(), recognizedOrders.size());
+        return new ParsedTables(incomeBenchmark, assetLimits, recognizedOrders);
+    }
+
+    /**
+     * 가구원수별 월평균소득 100% 금액을 읽습니다. 가구원수가 열(1인, 2인 ...)인 표와 행인 표를 모두 지원합니다.
+     *
+     * @return 인식하지 못하면 null. 모든 데이터 행이 비율(%) 금액 행이면 complete
+     */
+    TableResult<Map<Integer, Long>> parseIncomeBenchmark(String table, String context) {
+        List<List<String>> rows = TableRows.parse(table);
+        long unit = KoreanAmount.tableUnitMultiplier(context + "\n" + table);
+
+        TableResult<Map<Integer, Long>> byColumns = parseHouseholdColumns(rows, unit, context + "\n" + table);
+        return byColumns != null ? byColumns : parseHouseholdRows(rows, unit);
+    }
+
+    private TableResult<Map<Integer, Long>> parseHouseholdColumns(List<List<String>> rows, long unit, String surrounding) {
+        for (int header = 0; header < rows.size(); header++) {
+            Map<Integer, Integer> householdColumns = householdColumns(rows.get(header));
+            if (householdColumns.size() < MIN_HOUSEHOLD_COLUMNS) {
+                continue;
+            }
+
+            List<List<String>> dataRows = rows.subList(header + 1, rows.size());
+            List<String> benchmarkRow = null;
+            boolean allPercentRows = !dataRows.isEmpty();
+            for (List<String> row : dataRows) {
+                String label = row.isEmpty() ? "" : row.get(0);
+                Matcher percent = PERCENT.matcher(label);
+                boolean isPercentRow = percent.find();
+                allPercentRows &= isPercentRow;
+                if (isPercentRow && "100".equals(percent.group(1)) && benchmarkRow == null) {
+                    benchmarkRow = row;
+                }
+            }
+
+            // 비율 표기 없이 금액 행이 하나뿐인 '월평균소득' 표
+            if (benchmarkRow == null && dataRows.size() == 1 && surrounding.contains("월평균")) {
+                benchmarkRow = dataRows.get(0);
+                allPercentRows = true;
+            }
+            if (benchmarkRow == null) {
+                return null;
+            }
+
+            Map<Integer, Long> benchmark = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Integer> column : householdColumns.entrySet()) {
+                if (column.getKey() < benchmarkRow.size()) {
+                    Long amount = KoreanAmount.parseWon(benchmarkRow.get(column.getKey()), unit);
+                    if (isMonthlyIncome(amount)) {
+                        benchmark.put(column.getValue(), amount);
+                    }
+                }
+            }
+            return benchmark.size() >= MIN_HOUSEHOLD_COLUMNS
+                    ? new TableResult<>(benchmark, allPercentRows && benchmark.size() == householdColumns.size())
+                    : null;
+        }
+        return null;
+    }
+
+    private TableResult<Map<Integer, Long>> parseHouseholdRows(List<List<String>> rows, long unit) {
+        for (int header = 0; header < rows.size(); header++) {
+            int benchmarkColumn = benchmarkColumn(rows.get(header));
+            if (benchmarkColumn < 0) {
+                continue;
+            }
+
+            Map<Integer, Long> benchmark = new LinkedHashMap<>();
+            boolean complete = true;
+            for (List<String> row : rows.subList(header + 1, rows.size())) {
+                Matcher household = row.isEmpty() ? null : HOUSEHOLD.matcher(row.get(0));
+                if (household == null || !household.matches() || benchmarkColumn >= row.size()) {
+                    complete = false;
+                    continue;
+                }
+
+                Long amount = KoreanAmount.parseWon(row.get(benchmarkColumn), unit);
+                if (isMonthlyIncome(amount)) {
+                    benchmark.put(Integer.parseInt(household.group(1)), amount);
+                } else {
+                    complete = false;
+                }
+            }
+            return benchmark.size() >= MIN_HOUSEHOLD_COLUMNS ? new TableResult<>(benchmark, complete) : null;
+        }
+        return null;
+    }
+
+    /**
+     * 자산/자동차 기준표를 읽습니다. 자녀 수 구분이 없으면 같은 한도를 자녀 0~2명 모두에 적용합니다.
+     *
+     * @return 인식하지 못하면 null. 모든 데이터 행을 해석했으면 complete
+     */
+    TableResult<List<CriteriaResponse.AssetLimitRule>> parseAssetLimits(String table) {
+        List<List<String>> rows = TableRows.parse(table);
+        long unit = KoreanAmount.tableUnitMultiplier(table);
+
+        TableResult<List<CriteriaResponse.AssetLimitRule>> byColumns = parseAssetColumns(rows, unit);
+        return byColumns != null ? byColumns : parseAssetRows(rows, unit);
+    }
+
+    private TableResult<List<CriteriaResponse.AssetLimitRule>> parseAssetColumns(List<List<String>> rows, long unit) {
+        for (int header = 0; header < rows.size(); header++) {
+            int assetColumn = columnContaining(rows.get(header), "자산");
+            int carColumn = columnContaining(rows.get(header), "자동차");
+            if (assetColumn < 0 || carColumn < 0 || assetColumn == carColumn) {
+                continue;
+            }
+
+            List<List<String>> dataRows = rows.subList(header + 1, rows.size());
+            Map<Integer, CriteriaResponse.AssetLimitRule> rules = new LinkedHashMap<>();
+            for (List<String> row : dataRows) {
+                if (Math.max(assetColumn, carColumn) >= row.size()) {
+                    return null;
+                }
+
+                Long assetLimit = KoreanAmount.parseWon(row.get(assetColumn), unit);
+                Long carLimit = carLimit(row.get(carColumn), unit);
+                Integer childCount = childCount(row.get(0), dataRows.size());
+                if (assetLimit == null || carLimit == null || childCount == null) {
+                    // 공급유형별 한도 등 자녀 수로 표현할 수 없는 표는 LLM에 맡긴다
+                    return null;
+                }
+                rules.put(childCount, new CriteriaResponse.AssetLimitRule(childCount, assetLimit, carLimit));
+            }
+
+            return rules.isEmpty() ? null : new TableResult<>(expandChildCounts(rules), true);
+        }
+        return null;
+    }
+
+    private TableResult<List<CriteriaResponse.AssetLimitRule>> parseAssetRows(List<List<String>> rows, long unit) {
+        Long assetLimit = null;
+        Long carLimit = null;
+        boolean complete = true;
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> row = rows.get(i);
+            String label = row.isEmpty() ? "" : row.get(0);
+            boolean assetRow = label.contains("자산");
+            boolean carRow = label.contains("자동차");
+            if (i == 0 && !assetRow && !carRow) {
+                // 머리글 행
+                continue;
+            }
+            if (row.size() < 2) {
+                complete = false;
+                continue;
+            }
+
+            // 총자산/자동차 한 행씩이 아닌 행(부동산, 금융자산 세부 한도 등)이 있으면 LLM 결과로 보완
+            String value = row.get(row.size() - 1);
+            if (assetRow && assetLimit == null) {
+                assetLimit = KoreanAmount.parseWon(value, unit);
+                complete &= assetLimit != null;
+            } else if (carRow && carLimit == null) {
+                carLimit = carLimit(value, unit);
+                complete &= carLimit != null;
+            } else {
+                complete = false;
+            }
+        }
+
+        if (assetLimit == null || carLimit == null) {
+            return null;
+        }
+        Map<Integer, CriteriaResponse.AssetLimitRule> rules = new LinkedHashMap<>();
+        rules.put(0, new CriteriaResponse.AssetLimitRule(0, assetLimit, carLimit));
+        return new TableResult<>(expandChildCounts(rules), complete);
+    }
+
+    private Map<Integer, Integer> householdColumns(List<String> row) {
+        Map<Integer, Integer> columns = new LinkedHashMap<>();
+        for (int i = 0; i < row.size(); i++) {
+            Matcher matcher = HOUSEHOLD.matcher(row.get(i));
+            if (matcher.matches()) {
+                columns.put(i, Integer.parseInt(matcher.group(1)));
+            }
+        }
+        return columns;
+    }
+
+    private int benchmarkColumn(List<String> header) {
+        for (int i = 1; i < header.size(); i++) {
+            Matcher percent = PERCENT.matcher(header.get(i));
+            if (percent.find() && "100".equals(percent.group(1))) {
+                return i;
+            }
+        }
+        // 금액 열이 하나뿐인 '월평균소득' 표
+        if (header.size() == 2 && header.get(1).contains("월평균")) {
+            return 1;
+        }
+        return -1;
+    }
+
+    private int columnContaining(List<String> row, String keyword) {
+        for (int i = 1; i < row.size(); i++) {
+            if (row.get(i).contains(keyword)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Integer childCount(String label, int dataRowCount) {
+        if (label.contains("자녀")) {
+            Matcher matcher = CHILD_COUNT.matcher(label);
+            if (matcher.find()) {
+                return Math.min(Integer.parseInt(matcher.group(1)), MAX_CHILD_COUNT);
+            }
+            if (label.contains("없")) {
+                return 0;
+            }
+        }
+        // 구분 없는 단일 기준
+        return dataRowCount == 1 ? 0 : null;
+    }
+
+    private Long carLimit(String cell, long unit) {
+        if (NO_CAR.matcher(cell.strip()).find()) {
+            return 0L;
+        }
+        return KoreanAmount.parseWon(cell, unit);
+    }
+
+    /**
+     * 조회 시 자녀 수(최대 2)로 규칙을 찾으므로, 빠진 자녀 수는 바로 아래 자녀 수의 한도를 그대로 적용합니다.
+     */
+    private List<CriteriaResponse.AssetLimitRule> expandChildCounts(Map<Integer, CriteriaResponse.AssetLimitRule> rules) {
+        List<CriteriaResponse.AssetLimitRule> expanded = new ArrayList<>();
+        CriteriaResponse.AssetLimitRule previous = null;
+        for (int childCount = 0; childCount <= MAX_CHILD_COUNT; childCount++) {
+            CriteriaResponse.AssetLimitRule rule = rules.get(childCount);
+            if (rule != null) {
+                previous = rule;
+            }
+            if (previous != null) {
+                expanded.add(new CriteriaResponse.AssetLimitRule(childCount, previous.assetLimit(), previous.carLimit()));
+            }
+        }
+        return expanded;
+    }
+
+    private boolean isMonthlyIncome(Long amount) {
+        return amount != null && amount >= MIN_MONTHLY_INCOME && amount <= MAX_MONTHLY_INCOME;
+    }
+}
@@ -1,74 +1,266 @@
 package com.sixpm.domain.ai.service.ingestion;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.ai.service.retrieval.LocalHnswVectorStore;
+import com.sixpm.domain.ai.util.NoticeSections;
+import com.sixpm.domain.ai.util.NoticeSections.Section;
+import com.sixpm.domain.ai.util.PgVectorLiteral;
+import com.sixpm.domain.ai.util.TableFingerprint;
 import com.sixpm.domain.announcement.dto.response.ParsedDocument;
-import com.sixpm.infrastructure.upstage.dto.response.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class VectorIngester {
 
     private static final Logger logger = LoggerFactory.getLogger(VectorIngester.class);
-    
-    private final VectorStore vectorStore;
+
     private final NoticeTextSplitter noticeTextSplitter;
+    private final EmbeddingBatcher embeddingBatcher;
+    private final EmbeddingCache embeddingCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<LocalHnswVectorStore> localStore;
+    private final String tableName;
 
-    public VectorIngester(VectorStore vectorStore, NoticeTextSplitter noticeTextSplitter) {
-        this.vectorStore = vectorStore;
+    public VectorIngester(
+            NoticeTextSplitter noticeTextSplitter,
+            EmbeddingBatcher embeddingBatcher,
+            EmbeddingCache embeddingCache,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<LocalHnswVectorStore> localStore,
+            @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName
+    ) {
         this.noticeTextSplitter = noticeTextSplitter;
+        this.embeddingBatcher = embeddingBatcher;
+        this.embeddingCache = embeddingCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.localStore = localStore;
+        this.tableName = tableName;
     }
 
     public void ingest(ParsedDocument parsedDoc, Long noticeId, String noticeTitle) {
+        ingest(parsedDoc, noticeId, noticeTitle, null, Set.of());
+    }
+
+    /**
+     * 공고문을 섹션 단위로 분할하여 임베딩하고, 공고의 기존 청크를 새 청크로 교체합니다.
+     * 유사 공고(sibling)와 내용이 같은 섹션은 임베딩을 다시 만들지 않고 기존 청크를 복사합니다.
+     *
+     * 청크 ID는 (공고 ID, 청크 순번, 내용 해시)로 정해지므로 같은 공고를 다시 적재해도 행이 늘어나지 않으며,
+     * 이번 적재에 포함되지 않은 기존 청크는 같은 트랜잭션에서 삭제됩니다.
+     *
+     * @param siblingNoticeId       청크를 재사용할 기존 공고 ID (없으면 null)
+     * @param reusableSectionHashes 기존 공고와 내용이 같은 섹션 해시
+     */
+    public void ingest(ParsedDocument parsedDoc, Long noticeId, String noticeTitle,
+                       Long siblingNoticeId, Set<String> reusableSectionHashes) {
         if (parsedDoc == null || parsedDoc.elements().isEmpty()) {
             logger.warn("Parsed document is empty, skipping ingestion.");
             return;
         }
 
-        // 1. 테이블이 아닌 텍스트 요소들을 하나의 긴 문자열로 병합
-        StringBuilder fullTextBuilder = new StringBuilder();
-
-        for (Element element : parsedDoc.elements()) {
-            // Table은 제외 (CriteriaExtractor에서 별도로 처리됨)
-            // Figure(이미지 등) 제외
-            if (!"table".equalsIgnoreCase(element.category()) && 
-                !"figure".equalsIgnoreCase(element.category())) {
-                
-                String text = element.content() != null ? element.content().text() : "";
-                if (text != null && !text.isBlank()) {
-                    fullTextBuilder.append(text).append("\n");
-                }
+        // 1. 바뀌지 않은 섹션 중 유사 공고에 청크가 있는 섹션은 복사 대상
+        Set<String> copiedSections = siblingNoticeId != null && !reusableSectionHashes.isEmpty()
+                ? copyableSections(siblingNoticeId, reusableSectionHashes)
+                : Set.of();
+
+        // 2. 나머지 섹션을 요소(제목/문단/목록) 경계에 맞춰 분할한 뒤 결정적 청크 ID 부여
+        List<Document> sectionChunks = new ArrayList<>();
+        for (Section section : NoticeSections.split(parsedDoc)) {
+            if (copiedSections.contains(section.hash())) {
+                continue;
             }
+
+            sectionChunks.addAll(noticeTextSplitter.split(section, Map.of(
+                    "notice_id", noticeId,
+                    "notice_title", noticeTitle,
+                    "source_type", "text",
+                    "section_hash", section.hash()
+            )));
         }
+        List<Document> chunks = withChunkIds(noticeId, sectionChunks);
 
-        String fullText = fullTextBuilder.toString();
-        if (fullText.isBlank()) {
-            logger.info("No text content found to ingest for notice: {}", noticeTitle);
+        // 3. 임베딩 (캐시에 없는 청크만 배치 단위 병렬 요청)
+        List<float[]> embeddings = chunks.isEmpty() ? List.of() : embed(chunks);
+
+        // 4. 복사/저장/기존 청크 삭제를 한 트랜잭션으로 교체
+        Integer removed = transactionTemplate.execute(status -> {
+            Set<String> liveIds = new HashSet<>();
+            if (!copiedSections.isEmpty()) {
+                liveIds.addAll(copyChunks(siblingNoticeId, noticeId, noticeTitle, copiedSections));
+            }
+            upsertChunks(chunks, embeddings);
+            chunks.forEach(chunk -> liveIds.add(chunk.getId()));
+            return deleteStaleChunks(noticeId, liveIds);
+        });
+
+        logger.info("Successfully ingested {} chunks for notice: {} (copied sections: {}, removed stale chunks: {})",
+                chunks.size(), noticeTitle, copiedSections.size(), removed);
+
+        // 이 노드에 로컬 HNSW 인덱스가 있으면 반영 요청 (별도 스레드에서 반영, 다른 노드는 주기적 동기화로 반영)
+        localStore.ifAvailable(store -> store.refreshNotice(noticeId));
+    }
+
+    /**
+     * 청크 ID를 (공고 ID, 청크 순번, 내용 해시)에서 만든 UUID로 지정합니다.
+     */
+    private List<Document> withChunkIds(Long noticeId, List<Document> chunks) {
+        List<Document> identified = new ArrayList<>(chunks.size());
+        for (int ordinal = 0; ordinal < chunks.size(); ordinal++) {
+            Document chunk = chunks.get(ordinal);
+            String key = noticeId + ":" + ordinal + ":" + TableFingerprint.sha256(chunk.getText());
+            identified.add(Document.builder()
+                    .id(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString())
+                    .text(chunk.getText())
+                    .metadata(chunk.getMetadata())
+                    .build());
+        }
+        return identified;
+    }
+
+    /**
+     * 청크 텍스트 해시로 임베딩 캐시를 먼저 확인하고, 없는 텍스트만 임베딩한 뒤 캐시에 저장합니다.
+     * 같은 공고 안에서 반복되는 텍스트도 한 번만 임베딩합니다.
+     */
+    private List<float[]> embed(List<Document> chunks) {
+        List<String> hashes = chunks.stream().map(chunk -> TableFingerprint.sha256(chunk.getText())).toList();
+        Map<String, float[]> embeddings = new HashMap<>(embeddingCache.getAll(new LinkedHashSet<>(hashes)));
+
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            if (!embeddings.containsKey(hashes.get(i))) {
+                missing.putIfAbsent(hashes.get(i), chunks.get(i).getText());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<float[]> created = embeddingBatcher.embed(new ArrayList<>(missing.values()));
+            Map<String, float[]> createdByHash = new HashMap<>();
+            int index = 0;
+            for (String hash : missing.keySet()) {
+                createdByHash.put(hash, created.get(index++));
+            }
+            embeddingCache.putAll(createdByHash);
+            embeddings.putAll(createdByHash);
+        }
+
+        logger.info("Embedding cache: {} of {} distinct chunks reused",
+                embeddings.size() - missing.size(), embeddings.size());
+        return hashes.stream().map(embeddings::get).toList();
+    }
+
+    /**
+     * 임베딩이 끝난 청크를 한 번의 배치 UPSERT로 저장합니다. (PgVectorStore.add와 같은 컬럼 구성)
+     */
+    private void upsertChunks(List<Document> chunks, List<float[]> embeddings) {
+        if (chunks.isEmpty()) {
             return;
         }
+        String sql = "INSERT INTO " + tableName + " (id, content, metadata, embedding) " +
+                "VALUES (?::uuid, ?, ?::jsonb, ?::vector) " +
+                "ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content, " +
+                "metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding";
+
+        List<Object[]> rows = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            Document chunk = chunks.get(i);
+            rows.add(new Object[]{
+                    chunk.getId(),
+                    chunk.getText(),
+                    toJson(chunk.getMetadata()),
+                    PgVectorLiteral.format(embeddings.get(i))
+            });
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    /**
+     * 공고의 청크 중 이번 적재에 포함되지 않은 청크를 삭제합니다.
+     */
+    private int deleteStaleChunks(Long noticeId, Set<String> liveIds) {
+        String idArray = "{" + String.join(",", liveIds) + "}";
+        return jdbcTemplate.update("DELETE FROM " + tableName + " " +
+                "WHERE notice_id = ? AND id <> ALL (?::uuid[])", noticeId, idArray);
+    }
+
+    private String toJson(Map<String, Object> metadata) {
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize chunk metadata", e);
+        }
+    }
+
+    /**
+     * 기존 공고에서 지정한 섹션 중 실제로 청크가 있는 섹션 해시를 반환합니다.
+     * (섹션 해시 메타데이터가 없는 예전 청크는 복사할 수 없으므로 해당 섹션은 새로 임베딩됨)
+     */
+    private Set<String> copyableSections(Long siblingNoticeId, Set<String> sectionHashes) {
+        List<Object> params = new ArrayList<>();
+        params.add(siblingNoticeId);
+        params.addAll(sectionHashes);
+
+        String placeholders = String.join(", ", Collections.nCopies(sectionHashes.size(), "?"));
+        String sql = "SELECT DISTINCT metadata->>'section_hash' FROM " + tableName + " " +
+                "WHERE notice_id = ? AND metadata->>'section_hash' IN (" + placeholders + ")";
 
-        // 2. 단일 대형 Document 생성
-        Document sourceDocument = new Document(
-            fullText, 
-            Map.of(
-                "notice_id", noticeId,
-                "notice_title", noticeTitle,
-                "source_type", "text"
-            )
-        );
-
-        // 3. 효율적인 분할 (토큰 기반, 오버랩 적용)
-        List<Document> chunks = noticeTextSplitter.apply(List.of(sourceDocument));
-
-        // 4. Vector Store 저장
-        if (!chunks.isEmpty()) {
-            vectorStore.add(chunks);
-            logger.info("Successfully ingested {} chunks for notice: {}", chunks.size(), noticeTitle);
+        try {
+            return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, params.toArray()));
+        } catch (Exception e) {
+            logger.warn("Failed to look up chunks of notice {}. Embedding all sections.", siblingNoticeId, e);
+            return Set.of();
         }
     }
+
+    /**
+     * 기존 공고의 청크 중 지정한 섹션의 행을 새 공고 ID/제목으로 복사하고, 복사된 청크 ID를 반환합니다.
+     * 복사본 ID는 (새 공고 ID, 원본 청크 ID)에서 정해지므로 다시 복사해도 행이 늘어나지 않습니다.
+     */
+    private List<String> copyChunks(Long siblingNoticeId, Long noticeId, String noticeTitle, Set<String> sectionHashes) {
+        List<Object> params = new ArrayList<>();
+        params.add(noticeId.toString());
+        params.add(noticeId);
+        params.add(noticeTitle);
+        params.add(siblingNoticeId);
+        params.addAll(sectionHashes);
+
+        String placeholders = String.join(", ", Collections.nCopies(sectionHashes.size(), "?"));
+        String sql = "INSERT INTO " + tableName + " (id, content, metadata, embedding) " +
+                "SELECT md5(?::text || ':' || id::text)::uuid, content, " +
+                "metadata || jsonb_build_object('notice_id', ?::bigint, 'notice_title', ?::text), embedding " +
+                "FROM " + tableName + " " +
+                "WHERE notice_id = ? AND metadata->>'section_hash' IN (" + placeholders + ") " +
+                "ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content, " +
+                "metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding " +
+                "RETURNING id::text";
+
+        List<String> copied = jdbcTemplate.queryForList(sql, String.class, params.toArray());
+        logger.info("Copied {} chunks from notice {} to notice {}", copied.size(), siblingNoticeId, noticeId);
+        return copied;
+    }
 }
@@ -0,0 +1,51 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 검색 결과 행(id, content, metadata, distance)을 Document로 변환합니다.
+ * 유사도 점수는 1 - 코사인 거리이며, 거리는 PgVectorStore와 같이 metadata.distance에도 넣습니다.
+ */
+class ChunkRowMapper implements RowMapper<Document> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRowMapper.class);
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    ChunkRowMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Document mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Map<String, Object> metadata = new HashMap<>(readMetadata(rs.getString(3)));
+        double distance = rs.getDouble(4);
+        metadata.put("distance", distance);
+        return Document.builder()
+                .id(rs.getString(1))
+                .text(rs.getString(2))
+                .metadata(metadata)
+                .score(1 - distance)
+                .build();
+    }
+
+    private Map<String, Object> readMetadata(String json) {
+        try {
+            return json != null ? objectMapper.readValue(json, METADATA_TYPE) : Map.of();
+        } catch (Exception e) {
+            logger.warn("Failed to read chunk metadata: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+}
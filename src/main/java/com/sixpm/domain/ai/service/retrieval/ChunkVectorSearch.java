@@ -0,0 +1,306 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.common.lock.ClusterLock;
+import com.sixpm.domain.ai.enums.VectorStorageMode;
+import com.sixpm.domain.ai.util.NoticeDiversifier.Candidate;
+import com.sixpm.domain.ai.util.PgVectorLiteral;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 전체 공고 청크 대상 벡터 검색.
+ * 배포별로 1차 후보 탐색 방식(retrieval.vector.storage-mode)을 고를 수 있으며,
+ * 축소 벡터(halfvec, 앞부분 차원, bit) 인덱스로 topK x rerank-factor 개의 후보를 뽑은 뒤 원본 벡터 거리로 다시 정렬합니다.
+ *
+ * 축소 벡터 인덱스는 원본 embedding 컬럼에 대한 표현식 인덱스이므로 별도 컬럼/재적재 없이 전환할 수 있습니다.
+ * 인덱스 정의가 설정(방식, 앞부분 차원 수)에 따라 달라지므로 마이그레이션 대신 기동 후 CONCURRENTLY로 만듭니다.
+ * 축소 방식만 사용하는 배포에서는 V4의 원본 HNSW 인덱스를 삭제해 인덱스 크기를 줄일 수 있습니다.
+ *
+ * 로컬 HNSW 인덱스(LocalHnswVectorStore)가 켜져 있고 준비된 노드에서는 질의 검색을 로컬 인덱스에서 처리합니다.
+ */
+@Component
+public class ChunkVectorSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkVectorSearch.class);
+    private static final String INDEX_LOCK = "vector-search:create-index";
+
+    private final EmbeddingModel embeddingModel;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+    private final ChunkRowMapper rowMapper;
+    private final ObjectProvider<LocalHnswVectorStore> localStore;
+    private final String tableName;
+    private final VectorStorageMode storageMode;
+    private final int dimensions;
+    private final int truncatedDimensions;
+    private final int rerankFactor;
+    private final boolean createIndex;
+
+    public ChunkVectorSearch(
+            EmbeddingModel embeddingModel,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ClusterLock clusterLock,
+            ObjectMapper objectMapper,
+            ObjectProvider<LocalHnswVectorStore> localStore,
+            @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName,
+            @Value("${retrieval.vector.storage-mode:FULL}") VectorStorageMode storageMode,
+            @Value("${spring.ai.vectorstore.pgvector.dimensions:1536}") int dimensions,
+            @Value("${retrieval.vector.truncated-dimensions:512}") int truncatedDimensions,
+            @Value("${retrieval.vector.rerank-factor:4}") int rerankFactor,
+            @Value("${retrieval.vector.create-index:true}") boolean createIndex
+    ) {
+        this.embeddingModel = embeddingModel;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterLock = clusterLock;
+        this.rowMapper = new ChunkRowMapper(objectMapper);
+        this.localStore = localStore;
+        this.tableName = tableName;
+        this.storageMode = storageMode;
+        this.dimensions = dimensions;
+        this.truncatedDimensions = truncatedDimensions;
+        this.rerankFactor = rerankFactor;
+        this.createIndex = createIndex;
+    }
+
+    /**
+     * 설정한 방식의 축소 벡터 인덱스가 없으면 생성합니다. (FULL은 V4 인덱스 사용)
+     * CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 자동 커밋 커넥션에서 실행하며, 테이블 쓰기를 막지 않습니다.
+     * 인덱스 생성은 오래 걸릴 수 있어 별도 스레드에서 한 노드만 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndex() {
+        if (!createIndex || storageMode == VectorStorageMode.FULL) {
+            return;
+        }
+        Thread.ofVirtual().name("vector-index-build").start(() -> {
+            try {
+                boolean executed = clusterLock.runExclusively(INDEX_LOCK, Duration.ZERO, this::buildIndex);
+                if (!executed) {
+                    logger.info("Another node is building the vector index for storage mode {}.", storageMode);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to create vector index for storage mode {}. Searches fall back to a sequential scan.",
+                        storageMode, e);
+            }
+        });
+    }
+
+    private void buildIndex() {
+        String indexName = indexName(storageMode);
+        Boolean valid = jdbcTemplate.query(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?",
+                rs -> rs.next() ? rs.getBoolean(1) : null, indexName);
+        if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+        if (Boolean.FALSE.equals(valid)) {
+            // 중단된 CONCURRENTLY 생성은 INVALID 인덱스를 남기며 IF NOT EXISTS로는 다시 만들지 않음
+            logger.warn("Dropping invalid vector index {} left by an interrupted build.", indexName);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+        }
+
+        long startedAt = System.nanoTime();
+        jdbcTemplate.execute(createIndexSql(storageMode));
+        logger.info("Vector index ready for storage mode {}: {} ({} s)", storageMode, indexName,
+                Duration.ofNanos(System.nanoTime() - startedAt).toSeconds());
+    }
+
+    String createIndexSql(VectorStorageMode mode) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName(mode) + " ON " + tableName +
+                " USING hnsw ((" + indexedExpression(mode, "embedding") + ") " + operatorClass(mode) + ")";
+    }
+
+    public VectorStorageMode storageMode() {
+        return storageMode;
+    }
+
+    /**
+     * 질의와 가까운 청크를 유사도 내림차순으로 반환합니다.
+     */
+    public List<Document> search(String queryText, int topK, double similarityThreshold) {
+        float[] queryVector = embeddingModel.embed(queryText);
+        LocalHnswVectorStore local = localStore.getIfAvailable();
+        if (local != null && local.isReady()) {
+            return local.search(queryVector, topK, similarityThreshold, null);
+        }
+        return search(queryVector, topK, similarityThreshold, storageMode);
+    }
+
+    /**
+     * 지정한 방식으로 1차 후보를 뽑고 원본 벡터 거리로 다시 정렬합니다.
+     */
+    public List<Document> search(float[] queryVector, int topK, double similarityThreshold, VectorStorageMode mode) {
+        return query(queryVector, topK, similarityThreshold, mode, "id::text, content, metadata::text", rowMapper);
+    }
+
+    /**
+     * 공고 단위 다양화(NoticeDiversifier)용 청크 후보를 반환합니다. (유사도 내림차순)
+     * 공고 간 유사도는 공고별 대표 청크(최고 점수)로만 계산하므로, 임베딩은 대표 청크만 따로 읽어
+     * 같은 공고의 후보에 함께 붙입니다.
+     */
+    public List<Candidate> candidates(String queryText, int limit, double similarityThreshold) {
+        float[] queryVector = embeddingModel.embed(queryText);
+        LocalHnswVectorStore local = localStore.getIfAvailable();
+        if (local != null && local.isReady()) {
+            List<Hit> hits = local.search(queryVector, limit, similarityThreshold, null).stream()
+                    .map(document -> new Hit(document.getId(), noticeId(document.getMetadata().get("notice_id")),
+                            document.getScore()))
+                    .toList();
+            return withRepresentativeEmbeddings(hits, ids -> {
+                Map<String, float[]> vectors = new HashMap<>();
+                ids.forEach(id -> {
+                    float[] vector = local.vector(id);
+                    if (vector != null) {
+                        vectors.put(id, vector);
+                    }
+                });
+                return vectors;
+            });
+        }
+
+        RowMapper<Hit> mapper = (rs, rowNum) -> new Hit(
+                rs.getString(1),
+                rs.getObject(2) != null ? rs.getLong(2) : null,
+                1 - rs.getDouble(3));
+        List<Hit> hits = query(queryVector, limit, similarityThreshold, storageMode, "id::text, notice_id", mapper);
+        return withRepresentativeEmbeddings(hits, this::embeddings);
+    }
+
+    /**
+     * 청크 검색 결과
+     */
+    record Hit(String chunkId, Long noticeId, double score) {}
+
+    /**
+     * 공고별 최고 점수 청크의 임베딩만 읽어 그 공고의 모든 후보에 붙입니다. (공고 ID가 없거나 임베딩을 읽지 못한 후보는 제외)
+     *
+     * @param embeddings 청크 ID 목록 -> 청크 ID별 임베딩
+     */
+    static List<Candidate> withRepresentativeEmbeddings(List<Hit> hits,
+                                                        Function<List<String>, Map<String, float[]>> embeddings) {
+        Map<Long, Hit> representatives = new LinkedHashMap<>();
+        for (Hit hit : hits) {
+            if (hit.noticeId() != null) {
+                representatives.merge(hit.noticeId(), hit, (current, next) -> next.score() > current.score() ? next : current);
+            }
+        }
+        if (representatives.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, float[]> vectors = embeddings.apply(representatives.values().stream().map(Hit::chunkId).toList());
+        List<Candidate> candidates = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            if (hit.noticeId() == null) {
+                continue;
+            }
+            float[] embedding = vectors.get(representatives.get(hit.noticeId()).chunkId());
+            if (embedding != null) {
+                candidates.add(new Candidate(hit.noticeId(), hit.score(), embedding));
+            }
+        }
+        return candidates;
+    }
+
+    private Map<String, float[]> embeddings(List<String> chunkIds) {
+        Map<String, float[]> vectors = new HashMap<>();
+        jdbcTemplate.query("SELECT id::text, embedding::text FROM " + tableName + " WHERE id = ANY (?::uuid[])",
+                rs -> {
+                    vectors.put(rs.getString(1), PgVectorLiteral.parse(rs.getString(2)));
+                }, "{" + String.join(",", chunkIds) + "}");
+        return vectors;
+    }
+
+    private <T> List<T> query(float[] queryVector, int topK, double similarityThreshold, VectorStorageMode mode,
+                              String columns, RowMapper<T> mapper) {
+        String vector = PgVectorLiteral.format(queryVector);
+        int candidates = mode == VectorStorageMode.FULL ? topK : topK * rerankFactor;
+        String sql = searchSql(mode, columns);
+
+        return transactionTemplate.execute(status -> {
+            // HNSW는 ef_search보다 많은 후보를 반환하지 않으므로 후보 수만큼 늘림
+            jdbcTemplate.queryForObject("SELECT set_config('hnsw.ef_search', ?, true)", String.class,
+                    String.valueOf(Math.max(40, candidates)));
+            return jdbcTemplate.query(sql, mapper, vector, candidates, vector, vector, 1 - similarityThreshold, topK);
+        });
+    }
+
+    /**
+     * 파라미터: 질의 벡터, 1차 후보 수, 질의 벡터, 질의 벡터, 최대 거리, topK
+     */
+    String searchSql(VectorStorageMode mode, String columns) {
+        // MATERIALIZED: 1차 후보(인덱스 스캔)를 먼저 확정한 뒤 원본 거리로 재정렬
+        return "WITH candidates AS MATERIALIZED (" +
+                "SELECT id, content, metadata, notice_id, embedding FROM " + tableName + " " +
+                "ORDER BY " + indexedExpression(mode, "embedding") + " " + distanceOperator(mode) + " " +
+                indexedExpression(mode, "?::vector") + " LIMIT ?) " +
+                "SELECT " + columns + ", embedding <=> ?::vector AS distance FROM candidates " +
+                "WHERE embedding <=> ?::vector <= ? ORDER BY distance LIMIT ?";
+    }
+
+    /**
+     * 인덱스/1차 탐색에 사용하는 표현식. 인덱스가 사용되도록 인덱스 정의와 같은 형태여야 합니다.
+     */
+    String indexedExpression(VectorStorageMode mode, String vector) {
+        return switch (mode) {
+            case FULL -> vector;
+            case HALFVEC -> vector + "::halfvec(" + dimensions + ")";
+            case HALFVEC_TRUNCATED -> "subvector(" + vector + ", 1, " + truncatedDimensions + ")::halfvec("
+                    + truncatedDimensions + ")";
+            case BINARY -> "binary_quantize(" + vector + ")::bit(" + dimensions + ")";
+        };
+    }
+
+    String indexName(VectorStorageMode mode) {
+        return "idx_" + tableName + "_" + mode.name().toLowerCase()
+                + (mode == VectorStorageMode.HALFVEC_TRUNCATED ? "_" + truncatedDimensions : "");
+    }
+
+    boolean hasIndex(VectorStorageMode mode) {
+        if (mode == VectorStorageMode.FULL) {
+            return true;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = ? AND indexname = ?",
+                Integer.class, tableName, indexName(mode));
+        return count != null && count > 0;
+    }
+
+    private static Long noticeId(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    private String distanceOperator(VectorStorageMode mode) {
+        return mode == VectorStorageMode.BINARY ? "<~>" : "<=>";
+    }
+
+    private String operatorClass(VectorStorageMode mode) {
+        return switch (mode) {
+            case FULL -> "vector_cosine_ops";
+            case HALFVEC, HALFVEC_TRUNCATED -> "halfvec_cosine_ops";
+            case BINARY -> "bit_hamming_ops";
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.sixpm.domain.ai.enums.NoticeScoreAggregation;
+import com.sixpm.domain.ai.util.NoticeDiversifier;
+import com.sixpm.domain.ai.util.RankFusion;
+import com.sixpm.domain.ai.util.SearchQueryTerms;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 벡터 검색과 키워드 검색을 함께 사용하는 공고 검색.
+ * 청크 벡터 검색, 청크 본문 키워드 검색, 주택명 키워드 검색을 동시에 실행하고
+ * 각 결과의 공고 순위를 Reciprocal Rank Fusion으로 합칩니다.
+ * 벡터 검색은 청크를 넉넉히 뽑아 공고 단위로 묶고 MMR로 다양화하므로, 긴 공고 하나가 상위 청크를 독차지해도
+ * 서로 다른 공고가 순위에 오릅니다.
+ * 한 검색이 실패해도 나머지 검색 결과로 순위를 만듭니다.
+ */
+@Component
+public class HybridNoticeSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(HybridNoticeSearch.class);
+
+    private final ChunkVectorSearch chunkVectorSearch;
+    private final LexicalNoticeSearch lexicalNoticeSearch;
+    private final int candidates;
+    private final int chunkCandidates;
+    private final double similarityThreshold;
+    private final int rrfK;
+    private final double diversityLambda;
+    private final NoticeScoreAggregation aggregation;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public HybridNoticeSearch(
+            ChunkVectorSearch chunkVectorSearch,
+            LexicalNoticeSearch lexicalNoticeSearch,
+            @Value("${retrieval.hybrid.candidates:20}") int candidates,
+            @Value("${retrieval.hybrid.chunk-candidates:100}") int chunkCandidates,
+            @Value("${retrieval.hybrid.similarity-threshold:0.5}") double similarityThreshold,
+            @Value("${retrieval.hybrid.rrf-k:60}") int rrfK,
+            @Value("${retrieval.hybrid.diversity-lambda:0.7}") double diversityLambda,
+            @Value("${retrieval.hybrid.score-aggregation:MAX}") NoticeScoreAggregation aggregation
+    ) {
+        this.chunkVectorSearch = chunkVectorSearch;
+        this.lexicalNoticeSearch = lexicalNoticeSearch;
+        this.candidates = candidates;
+        this.chunkCandidates = chunkCandidates;
+        this.similarityThreshold = similarityThreshold;
+        this.rrfK = rrfK;
+        this.diversityLambda = diversityLambda;
+        this.aggregation = aggregation;
+    }
+
+    /**
+     * 질의와 관련된 서로 다른 공고 ID를 합산 순위대로 최대 limit개 반환합니다.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = SearchQueryTerms.terms(query);
+
+        CompletableFuture<List<Long>> vector = async("vector", () -> NoticeDiversifier.diversify(
+                chunkVectorSearch.candidates(query, chunkCandidates, similarityThreshold),
+                candidates, diversityLambda, aggregation));
+        CompletableFuture<List<Long>> chunkKeyword = async("chunk keyword",
+                () -> lexicalNoticeSearch.searchChunks(terms, candidates));
+        CompletableFuture<List<Long>> titleKeyword = async("title keyword",
+                () -> lexicalNoticeSearch.searchTitles(query, terms, candidates));
+
+        List<List<Long>> rankings = List.of(vector.join(), chunkKeyword.join(), titleKeyword.join());
+        logger.info("Hybrid search hits: vector={}, chunkKeyword={}, titleKeyword={}",
+                rankings.get(0).size(), rankings.get(1).size(), rankings.get(2).size());
+
+        return RankFusion.fuse(rankings, rrfK).keySet().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private CompletableFuture<List<Long>> async(String name, Supplier<List<Long>> search) {
+        return CompletableFuture.supplyAsync(search, executor)
+                .exceptionally(e -> {
+                    logger.warn("Hybrid search: {} search failed. Fusing remaining results.", name, e);
+                    return List.of();
+                });
+    }
+}
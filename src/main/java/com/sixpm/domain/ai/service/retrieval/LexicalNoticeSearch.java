@@ -0,0 +1,88 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.sixpm.domain.ai.util.SearchQueryTerms;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 키워드 부분 일치 기반 공고 검색 (V14 트라이그램 인덱스 사용).
+ * 청크 본문과 주택명에서 각각 검색하며, 일치한 키워드 수가 많은 공고부터 반환합니다.
+ *
+ * 3글자 미만 키워드('%청년%')는 트라이그램을 만들 수 없어 인덱스를 쓰지 못하고,
+ * OR 조건 중 하나라도 인덱스를 쓰지 못하면 테이블 전체를 순차 탐색합니다.
+ * 청크 테이블은 크므로 짧은 키워드는 주택명 검색에만 사용합니다. (공고 테이블은 공고당 한 행)
+ */
+@Component
+public class LexicalNoticeSearch {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tableName;
+
+    public LexicalNoticeSearch(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableName = tableName;
+    }
+
+    /**
+     * 청크 본문에 키워드가 포함된 공고 ID (일치 키워드 수, 일치 청크 수 내림차순)
+     * 3글자 이상 키워드만 사용하며, 해당 키워드가 없으면 검색하지 않습니다.
+     */
+    public List<Long> searchChunks(List<String> queryTerms, int limit) {
+        List<String> terms = SearchQueryTerms.trigramTerms(queryTerms);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT notice_id FROM (" +
+                "SELECT notice_id, " + matchedCount("content", terms.size()) + " AS matched FROM " + tableName + " " +
+                "WHERE notice_id IS NOT NULL AND (" + anyMatch("content", terms.size()) + ")) t " +
+                "GROUP BY notice_id ORDER BY max(matched) DESC, count(*) DESC, notice_id DESC LIMIT ?";
+
+        List<Object> args = new ArrayList<>();
+        args.addAll(patterns(terms));
+        args.addAll(patterns(terms));
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * 주택명에 키워드가 포함된 공고 ID (일치 키워드 수, 검색어와의 유사도 내림차순)
+     */
+    public List<Long> searchTitles(String query, List<String> terms, int limit) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT id FROM announcements " +
+                "WHERE " + anyMatch("house_nm", terms.size()) + " " +
+                "ORDER BY " + matchedCount("house_nm", terms.size()) + " DESC, similarity(house_nm, ?) DESC, id DESC " +
+                "LIMIT ?";
+
+        List<Object> args = new ArrayList<>();
+        args.addAll(patterns(terms));
+        args.addAll(patterns(terms));
+        args.add(query);
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    private List<String> patterns(List<String> terms) {
+        return terms.stream().map(SearchQueryTerms::containsPattern).toList();
+    }
+
+    // 모든 ILIKE 조건이 트라이그램 GIN 인덱스를 쓸 수 있을 때만 조건별 Bitmap Index Scan을 BitmapOr로 합침
+    private String anyMatch(String column, int count) {
+        return String.join(" OR ", Collections.nCopies(count, column + " ILIKE ?"));
+    }
+
+    private String matchedCount(String column, int count) {
+        return "(" + String.join(" + ", Collections.nCopies(count,
+                "CASE WHEN " + column + " ILIKE ? THEN 1 ELSE 0 END")) + ")";
+    }
+}
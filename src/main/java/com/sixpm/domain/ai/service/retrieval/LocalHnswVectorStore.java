@@ -0,0 +1,699 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.ai.util.HnswGraph;
+import com.sixpm.domain.ai.util.HnswGraph.Result;
+import com.sixpm.domain.ai.util.MappedVectorArena;
+import com.sixpm.domain.ai.util.PgVectorLiteral;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 검색 노드용 JVM 내부 HNSW 벡터 저장소.
+ * pgvector(vector_store)가 원본이며, 이 저장소는 그 복제본을 메모리 매핑 파일 위의 HNSW 그래프로 유지해
+ * 검색/RAG 조회를 DB 왕복 없이 처리합니다. (retrieval.local-index.enabled=true인 노드에서만 생성)
+ *
+ * 동기화:
+ * - 스냅샷(그래프 + 청크 내용 + 변경 기록 기준 시각)이 없으면 DB의 전체 청크를 적재
+ * - 이후에는 vector_store_changes(트리거가 기록하는 공고별 청크 변경 시각)에서 기준 시각 이후 바뀐 공고만
+ *   청크 ID를 비교해 반영 (시작 시, 주기적으로 sync-interval마다)
+ * - 같은 노드에서 적재한 공고는 VectorIngester가 적재 직후 refreshNotice로 요청하며, 적재를 막지 않도록 별도 스레드에서 반영
+ * 청크 ID는 내용 해시로 정해지므로 ID 비교만으로 내용 변경을 알 수 있습니다.
+ *
+ * 메타데이터 필터는 notice_id, region(모집지역코드) 등 청크 메타데이터 키에 대해 EQ/NE/IN/NIN/AND/OR/NOT을 지원하며,
+ * notice_id 하나로 좁히는 검색은 그래프 대신 해당 공고의 청크만 정확하게 비교합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "retrieval.local-index.enabled", havingValue = "true")
+public class LocalHnswVectorStore implements VectorStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalHnswVectorStore.class);
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {};
+    private static final String SNAPSHOT_FILE = "index.snapshot";
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int FETCH_BATCH_SIZE = 500;
+    private static final long GRAPH_SEED = 42L;
+    // 늦게 커밋된 트랜잭션의 변경(기준 시각보다 이른 시각으로 기록됨)을 놓치지 않도록 기준 시각 이전 구간도 다시 확인
+    private static final Duration CHANGE_OVERLAP = Duration.ofMinutes(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmbeddingModel embeddingModel;
+    private final ObjectMapper objectMapper;
+    private final String tableName;
+    private final int dimensions;
+    private final Path directory;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int segmentCapacity;
+
+    // 검색(읽기)과 그래프 변경(쓰기) 사이의 잠금
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 동기화/스냅샷/재구성과 직접 추가/삭제는 한 번에 하나만 실행
+    private final ReentrantLock maintenance = new ReentrantLock();
+    // 적재 직후 반영을 요청받아 아직 반영하지 않은 공고
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+
+    private HnswGraph graph;
+    private List<Entry> entries = new ArrayList<>();
+    private Map<String, Integer> ordinalById = new HashMap<>();
+    private Map<Long, Set<Integer>> ordinalsByNotice = new HashMap<>();
+    // 마지막으로 반영한 vector_store_changes.changed_at (null이면 변경 기록 전체)
+    private LocalDateTime changesWatermark;
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    /**
+     * 노드 순번별 청크 (삭제된 노드는 null)
+     */
+    private record Entry(String id, String content, Map<String, Object> metadata) {
+
+        Long noticeId() {
+            Object value = metadata.get("notice_id");
+            return value != null ? Long.valueOf(value.toString()) : null;
+        }
+    }
+
+    private record Row(String id, String content, Map<String, Object> metadata, float[] embedding) {}
+
+    public LocalHnswVectorStore(
+            JdbcTemplate jdbcTemplate,
+            EmbeddingModel embeddingModel,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName,
+            @Value("${spring.ai.vectorstore.pgvector.dimensions:1536}") int dimensions,
+            @Value("${retrieval.local-index.directory:./data/local-vector-index}") String directory,
+            @Value("${retrieval.local-index.m:16}") int m,
+            @Value("${retrieval.local-index.ef-construction:100}") int efConstruction,
+            @Value("${retrieval.local-index.ef-search:64}") int efSearch,
+            @Value("${retrieval.local-index.segment-capacity:16384}") int segmentCapacity
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.embeddingModel = embeddingModel;
+        this.objectMapper = objectMapper;
+        this.tableName = tableName;
+        this.dimensions = dimensions;
+        this.directory = Path.of(directory);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.segmentCapacity = segmentCapacity;
+
+        Gauge.builder("vector.local-index.size", this, store -> store.ordinalById.size())
+                .description("Live chunks in the in-process HNSW index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스냅샷을 복원하고 DB와 동기화합니다. 시작을 늦추지 않도록 별도 스레드에서 실행하며,
+     * 준비되기 전의 검색은 pgvector로 처리됩니다. (isReady)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("local-vector-index-load").start(() -> {
+            maintenance.lock();
+            try {
+                if (restore()) {
+                    syncChanges();
+                } else {
+                    graph = newGraph();
+                    syncAll();
+                }
+                snapshot();
+                ready = true;
+                logger.info("Local vector index ready: {} chunks", ordinalById.size());
+            } catch (Exception e) {
+                logger.error("Failed to load local vector index. Searches stay on pgvector.", e);
+            } finally {
+                maintenance.unlock();
+            }
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 다른 노드에서 적재/삭제된 청크를 주기적으로 반영하고, 변경이 있으면 스냅샷을 남깁니다.
+     */
+    @Scheduled(fixedDelayString = "${retrieval.local-index.sync-interval:PT1M}",
+            initialDelayString = "${retrieval.local-index.sync-interval:PT1M}")
+    public void scheduledSync() {
+        if (!ready || !maintenance.tryLock()) {
+            return;
+        }
+        try {
+            syncChanges();
+            if (graph.deletedCount() > Math.max(1000, ordinalById.size())) {
+                rebuild();
+            }
+            if (dirty) {
+                snapshot();
+            }
+        } catch (Exception e) {
+            logger.warn("Local vector index sync failed. Retrying next interval.", e);
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    /**
+     * 한 공고의 청크를 DB에서 다시 읽어 교체하도록 요청합니다. (적재 직후 호출)
+     * 재구성/동기화 중이어도 적재를 기다리게 하지 않도록 별도 스레드에서 반영하며, 이미 요청된 공고는 한 번만 반영합니다.
+     */
+    public void refreshNotice(Long noticeId) {
+        if (!ready || !pendingRefresh.add(noticeId)) {
+            return;
+        }
+        refresher.submit(() -> {
+            maintenance.lock();
+            try {
+                pendingRefresh.remove(noticeId);
+                syncNotices(List.of(noticeId));
+            } catch (Exception e) {
+                logger.warn("Failed to refresh notice {} in local vector index. Next sync will catch up.", noticeId, e);
+            } finally {
+                maintenance.unlock();
+            }
+        });
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        float[] vector = embeddingModel.embed(request.getQuery());
+        return search(vector, request.getTopK(), request.getSimilarityThreshold(),
+                request.hasFilterExpression() ? request.getFilterExpression() : null);
+    }
+
+    /**
+     * 임베딩된 질의로 검색합니다.
+     *
+     * @param filter 메타데이터 필터 (null이면 전체)
+     */
+    public List<Document> search(float[] queryVector, int topK, double similarityThreshold, Filter.Expression filter) {
+        lock.readLock().lock();
+        try {
+            if (graph == null) {
+                return List.of();
+            }
+            Long noticeId = filter != null ? LocalMetadataFilter.singleNoticeId(filter) : null;
+            List<Result> results;
+            if (noticeId != null) {
+                int[] ordinals = ordinalsByNotice.getOrDefault(noticeId, Set.of()).stream()
+                        .mapToInt(Integer::intValue).toArray();
+                results = graph.exact(queryVector, topK, ordinals);
+            } else {
+                IntPredicate accept = filter == null ? null
+                        : ordinal -> entries.get(ordinal) != null
+                        && LocalMetadataFilter.matches(filter, entries.get(ordinal).metadata());
+                results = graph.search(queryVector, topK, Math.max(efSearch, topK), accept);
+            }
+
+            List<Document> documents = new ArrayList<>(results.size());
+            for (Result result : results) {
+                if (result.score() < similarityThreshold) {
+                    continue;
+                }
+                Entry entry = entries.get(result.ordinal());
+                Map<String, Object> metadata = new HashMap<>(entry.metadata());
+                metadata.put("distance", 1 - result.score());
+                documents.add(Document.builder()
+                        .id(entry.id())
+                        .text(entry.content())
+                        .metadata(metadata)
+                        .score((double) result.score())
+                        .build());
+            }
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 청크의 (정규화된) 임베딩. 인덱스에 없으면 null
+     */
+    public float[] vector(String id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(id);
+            return ordinal != null ? graph.vectors().get(ordinal) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 임베딩해 이 노드의 인덱스에만 추가합니다. (원본 저장은 VectorIngester가 pgvector에 함)
+     */
+    @Override
+    public void add(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        List<float[]> embeddings = embeddingModel.embed(documents.stream().map(Document::getText).toList());
+        maintenance.lock();
+        lock.writeLock().lock();
+        try {
+            ensureGraph();
+            for (int i = 0; i < documents.size(); i++) {
+                Document document = documents.get(i);
+                Integer existing = ordinalById.get(document.getId());
+                if (existing != null) {
+                    remove(existing);
+                }
+                insert(new Row(document.getId(), document.getText(), document.getMetadata(), embeddings.get(i)));
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+            maintenance.unlock();
+        }
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        maintenance.lock();
+        lock.writeLock().lock();
+        try {
+            idList.stream().map(ordinalById::get).filter(Objects::nonNull).forEach(this::remove);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+            maintenance.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        maintenance.lock();
+        lock.writeLock().lock();
+        try {
+            for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+                Entry entry = entries.get(ordinal);
+                if (entry != null && LocalMetadataFilter.matches(filterExpression, entry.metadata())) {
+                    remove(ordinal);
+                }
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+            maintenance.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        refresher.shutdownNow();
+        if (ready && dirty) {
+            maintenance.lock();
+            try {
+                snapshot();
+            } finally {
+                maintenance.unlock();
+            }
+        }
+    }
+
+    /**
+     * DB의 전체 청크 ID와 비교해 빠진 청크는 읽어오고 DB에 없는 청크는 삭제합니다. (스냅샷이 없을 때만)
+     * 변경 기록 기준 시각은 ID를 읽기 전에 정하므로 그 사이의 변경은 다음 syncChanges에서 다시 확인합니다.
+     */
+    private void syncAll() {
+        LocalDateTime watermark = jdbcTemplate.queryForObject(
+                "SELECT max(changed_at) FROM vector_store_changes", LocalDateTime.class);
+        Set<String> databaseIds = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id::text FROM " + tableName, String.class));
+
+        List<String> missing;
+        List<Integer> stale = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            missing = databaseIds.stream().filter(id -> !ordinalById.containsKey(id)).toList();
+            ordinalById.forEach((id, ordinal) -> {
+                if (!databaseIds.contains(id)) {
+                    stale.add(ordinal);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        apply(missing, stale);
+        changesWatermark = watermark;
+    }
+
+    /**
+     * 기준 시각 이후 청크가 바뀐 공고만 DB와 비교해 반영합니다.
+     */
+    private void syncChanges() {
+        List<Long> noticeIds = new ArrayList<>();
+        LocalDateTime[] latest = {changesWatermark};
+        RowCallbackHandler collect = rs -> {
+            noticeIds.add(rs.getLong(1));
+            LocalDateTime changedAt = rs.getObject(2, LocalDateTime.class);
+            if (latest[0] == null || changedAt.isAfter(latest[0])) {
+                latest[0] = changedAt;
+            }
+        };
+        if (changesWatermark == null) {
+            jdbcTemplate.query("SELECT notice_id, changed_at FROM vector_store_changes", collect);
+        } else {
+            jdbcTemplate.query("SELECT notice_id, changed_at FROM vector_store_changes WHERE changed_at > ?",
+                    collect, changesWatermark.minus(CHANGE_OVERLAP));
+        }
+
+        syncNotices(noticeIds);
+        changesWatermark = latest[0];
+    }
+
+    /**
+     * 공고별로 DB의 청크 ID와 비교해 반영합니다.
+     */
+    private void syncNotices(List<Long> noticeIds) {
+        for (int from = 0; from < noticeIds.size(); from += FETCH_BATCH_SIZE) {
+            List<Long> batch = noticeIds.subList(from, Math.min(from + FETCH_BATCH_SIZE, noticeIds.size()));
+            String noticeArray = "{" + String.join(",", batch.stream().map(String::valueOf).toList()) + "}";
+            Set<String> databaseIds = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id::text FROM " + tableName + " WHERE notice_id = ANY (?::bigint[])",
+                    String.class, noticeArray));
+
+            List<String> missing;
+            List<Integer> stale = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                missing = databaseIds.stream().filter(id -> !ordinalById.containsKey(id)).toList();
+                for (Long noticeId : batch) {
+                    for (int ordinal : ordinalsByNotice.getOrDefault(noticeId, Set.of())) {
+                        if (!databaseIds.contains(entries.get(ordinal).id())) {
+                            stale.add(ordinal);
+                        }
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            apply(missing, stale);
+        }
+    }
+
+    /**
+     * DB에 없는 청크는 삭제하고 빠진 청크는 읽어옵니다.
+     */
+    private void apply(List<String> missing, List<Integer> stale) {
+        if (!stale.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                stale.forEach(this::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 배치마다 잠금을 풀어 긴 초기 적재 중에도 검색이 멈추지 않게 함
+        for (int from = 0; from < missing.size(); from += FETCH_BATCH_SIZE) {
+            List<String> batch = missing.subList(from, Math.min(from + FETCH_BATCH_SIZE, missing.size()));
+            List<Row> rows = fetchRows("v.id = ANY (?::uuid[])", "{" + String.join(",", batch) + "}");
+            lock.writeLock().lock();
+            try {
+                rows.stream().filter(row -> !ordinalById.containsKey(row.id())).forEach(this::insert);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (!missing.isEmpty() || !stale.isEmpty()) {
+            dirty = true;
+            logger.info("Local vector index synced: {} added, {} removed, {} live",
+                    missing.size(), stale.size(), ordinalById.size());
+        }
+    }
+
+    /**
+     * 청크 행과 공고의 모집지역코드(region)를 읽습니다.
+     */
+    private List<Row> fetchRows(String condition, Object arg) {
+        String sql = "SELECT v.id::text, v.content, v.metadata::text, v.embedding::text, a.subscrpt_area_code " +
+                "FROM " + tableName + " v LEFT JOIN announcements a ON a.id = v.notice_id " +
+                "WHERE " + condition;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Map<String, Object> metadata = new HashMap<>(readMetadata(rs.getString(3)));
+            if (rs.getString(5) != null) {
+                metadata.put("region", rs.getString(5));
+            }
+            return new Row(rs.getString(1), rs.getString(2), metadata, PgVectorLiteral.parse(rs.getString(4)));
+        }, arg);
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void insert(Row row) {
+        int ordinal = graph.add(row.embedding());
+        Entry entry = new Entry(row.id(), row.content(), row.metadata());
+        while (entries.size() <= ordinal) {
+            entries.add(null);
+        }
+        entries.set(ordinal, entry);
+        index(ordinal, entry);
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void remove(int ordinal) {
+        Entry entry = entries.get(ordinal);
+        if (entry == null) {
+            return;
+        }
+        graph.markDeleted(ordinal);
+        entries.set(ordinal, null);
+        ordinalById.remove(entry.id());
+        Long noticeId = entry.noticeId();
+        if (noticeId != null) {
+            Set<Integer> ordinals = ordinalsByNotice.get(noticeId);
+            if (ordinals != null) {
+                ordinals.remove(ordinal);
+                if (ordinals.isEmpty()) {
+                    ordinalsByNotice.remove(noticeId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 삭제 표시된 노드가 많아지면 살아 있는 청크만으로 그래프를 새 디렉터리에 다시 만들고 교체합니다.
+     * 새 그래프를 만드는 동안에는 기존 그래프로 검색합니다.
+     */
+    private void rebuild() {
+        HnswGraph rebuilt = newGraph();
+        List<Entry> liveEntries = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+                Entry entry = entries.get(ordinal);
+                if (entry != null) {
+                    rebuilt.add(graph.vectors().get(ordinal));
+                    liveEntries.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        HnswGraph previous;
+        lock.writeLock().lock();
+        try {
+            previous = graph;
+            graph = rebuilt;
+            entries = liveEntries;
+            ordinalById = new HashMap<>();
+            ordinalsByNotice = new HashMap<>();
+            for (int ordinal = 0; ordinal < liveEntries.size(); ordinal++) {
+                index(ordinal, liveEntries.get(ordinal));
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 새 그래프를 가리키는 스냅샷을 남긴 뒤 이전 벡터 파일 삭제
+        snapshot();
+        previous.vectors().deleteFiles();
+        logger.info("Local vector index rebuilt: {} live chunks", liveEntries.size());
+    }
+
+    private void index(int ordinal, Entry entry) {
+        ordinalById.put(entry.id(), ordinal);
+        if (entry.noticeId() != null) {
+            ordinalsByNotice.computeIfAbsent(entry.noticeId(), id -> new HashSet<>()).add(ordinal);
+        }
+    }
+
+    /**
+     * 스냅샷 파일: 변경 기록 기준 시각, 벡터 디렉터리 이름, 그래프, 노드별 청크(ID, 내용, 메타데이터).
+     * 벡터는 추가만 되므로 세그먼트 파일을 먼저 기록하고 스냅샷 파일을 원자적으로 교체하면 항상 일관된 쌍이 남습니다.
+     */
+    private void snapshot() {
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        lock.readLock().lock();
+        try {
+            if (graph == null) {
+                return;
+            }
+            graph.vectors().force();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(dimensions);
+                out.writeUTF(changesWatermark != null ? changesWatermark.toString() : "");
+                out.writeUTF(graph.vectors().directory().getFileName().toString());
+                out.writeInt(graph.vectors().size());
+                graph.write(out);
+                out.writeInt(graph.size());
+                for (int ordinal = 0; ordinal < graph.size(); ordinal++) {
+                    Entry entry = ordinal < entries.size() ? entries.get(ordinal) : null;
+                    out.writeBoolean(entry != null);
+                    if (entry != null) {
+                        out.writeUTF(entry.id());
+                        writeBytes(out, entry.content().getBytes(StandardCharsets.UTF_8));
+                        writeBytes(out, objectMapper.writeValueAsBytes(entry.metadata()));
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            logger.info("Local vector index snapshot written: {} nodes, {} live", graph.size(), ordinalById.size());
+        } catch (IOException e) {
+            logger.warn("Failed to write local vector index snapshot", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷이 있으면 복원합니다. 없거나 읽을 수 없으면 false를 반환하고 DB에서 새로 적재합니다.
+     */
+    private boolean restore() {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_VERSION || in.readInt() != dimensions) {
+                logger.warn("Local vector index snapshot format or dimensions changed. Rebuilding from pgvector.");
+                return false;
+            }
+            String watermark = in.readUTF();
+            MappedVectorArena vectors = new MappedVectorArena(
+                    directory.resolve(in.readUTF()), dimensions, segmentCapacity, in.readInt());
+            HnswGraph restored = HnswGraph.read(in, vectors, GRAPH_SEED);
+
+            int count = in.readInt();
+            List<Entry> restoredEntries = new ArrayList<>(count);
+            for (int ordinal = 0; ordinal < count; ordinal++) {
+                if (!in.readBoolean()) {
+                    restoredEntries.add(null);
+                    continue;
+                }
+                String id = in.readUTF();
+                String content = new String(readBytes(in), StandardCharsets.UTF_8);
+                Map<String, Object> metadata = objectMapper.readValue(readBytes(in), METADATA_TYPE);
+                restoredEntries.add(new Entry(id, content, metadata));
+            }
+
+            lock.writeLock().lock();
+            try {
+                graph = restored;
+                entries = restoredEntries;
+                changesWatermark = watermark.isEmpty() ? null : LocalDateTime.parse(watermark);
+                for (int ordinal = 0; ordinal < restoredEntries.size(); ordinal++) {
+                    if (restoredEntries.get(ordinal) != null) {
+                        index(ordinal, restoredEntries.get(ordinal));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Local vector index restored from snapshot: {} live chunks", ordinalById.size());
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to restore local vector index snapshot. Rebuilding from pgvector.", e);
+            return false;
+        }
+    }
+
+    private void ensureGraph() {
+        if (graph == null) {
+            graph = newGraph();
+        }
+    }
+
+    private HnswGraph newGraph() {
+        Path vectorDirectory = directory.resolve("vectors-" + System.currentTimeMillis());
+        return new HnswGraph(new MappedVectorArena(vectorDirectory, dimensions, segmentCapacity, 0),
+                m, efConstruction, GRAPH_SEED);
+    }
+
+    private Map<String, Object> readMetadata(String json) {
+        try {
+            return json != null ? objectMapper.readValue(json, METADATA_TYPE) : Map.of();
+        } catch (Exception e) {
+            logger.warn("Failed to read chunk metadata: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring AI 필터식을 청크 메타데이터에 직접 적용합니다. (LocalHnswVectorStore용)
+ * 지원: AND, OR, NOT, EQ, NE, IN, NIN. 숫자는 타입과 관계없이 값으로 비교합니다. (JSON에서 읽은 Integer와 Long 등)
+ */
+final class LocalMetadataFilter {
+
+    private LocalMetadataFilter() {
+    }
+
+    static boolean matches(Filter.Expression expression, Map<String, Object> metadata) {
+        return switch (expression.type()) {
+            case AND -> matches(operand(expression.left()), metadata) && matches(operand(expression.right()), metadata);
+            case OR -> matches(operand(expression.left()), metadata) || matches(operand(expression.right()), metadata);
+            case NOT -> !matches(operand(expression.left()), metadata);
+            case EQ -> valueEquals(metadata.get(key(expression)), value(expression));
+            case NE -> !valueEquals(metadata.get(key(expression)), value(expression));
+            case IN -> values(expression).stream().anyMatch(v -> valueEquals(metadata.get(key(expression)), v));
+            case NIN -> values(expression).stream().noneMatch(v -> valueEquals(metadata.get(key(expression)), v));
+            default -> throw new IllegalArgumentException("Unsupported filter operator for local index: " + expression.type());
+        };
+    }
+
+    /**
+     * 필터식이 공고 ID 하나만 지정하는 경우(notice_id == X) 그 공고 ID를 반환합니다.
+     */
+    static Long singleNoticeId(Filter.Expression expression) {
+        if (expression.type() != Filter.ExpressionType.EQ || !"notice_id".equals(key(expression))) {
+            return null;
+        }
+        Object value = value(expression);
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    private static Filter.Expression operand(Filter.Operand operand) {
+        if (operand instanceof Filter.Group group) {
+            return group.content();
+        }
+        if (operand instanceof Filter.Expression expression) {
+            return expression;
+        }
+        throw new IllegalArgumentException("Expected a filter expression, got " + operand);
+    }
+
+    private static String key(Filter.Expression expression) {
+        if (expression.left() instanceof Filter.Key key) {
+            // 따옴표로 감싼 키 허용 ("notice_id")
+            return key.key().replace("\"", "").replace("'", "");
+        }
+        throw new IllegalArgumentException("Expected a metadata key, got " + expression.left());
+    }
+
+    private static Object value(Filter.Expression expression) {
+        if (expression.right() instanceof Filter.Value value) {
+            return value.value();
+        }
+        throw new IllegalArgumentException("Expected a value, got " + expression.right());
+    }
+
+    private static Collection<?> values(Filter.Expression expression) {
+        Object value = value(expression);
+        return value instanceof Collection<?> collection ? collection : List.of(value);
+    }
+
+    private static boolean valueEquals(Object actual, Object expected) {
+        if (actual == null || expected == null) {
+            return actual == expected;
+        }
+        if (actual instanceof Number || expected instanceof Number) {
+            try {
+                return new BigDecimal(actual.toString()).compareTo(new BigDecimal(expected.toString())) == 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return actual.toString().equals(expected.toString());
+    }
+}
@@ -0,0 +1,95 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.ai.util.PgVectorLiteral;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.rag.retrieval.search.DocumentRetriever;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 한 공고의 청크만 대상으로 하는 RAG 검색기.
+ * notice_id 인덱스로 해당 공고의 행만 읽은 뒤 그 안에서 정확한 거리로 정렬하므로,
+ * 전체 HNSW 탐색 후 필터링할 때처럼 결과가 모자라거나 다른 공고의 행을 훑지 않습니다.
+ *
+ * 로컬 HNSW 인덱스(LocalHnswVectorStore)가 켜져 있고 준비된 노드에서는 DB 대신 로컬 인덱스에서 조회합니다.
+ *
+ * 공고 ID는 Advisor 파라미터로 전달합니다:
+ * {@code .advisors(a -> a.param(NoticeChunkRetriever.NOTICE_ID, announcementId))}
+ */
+@Component
+public class NoticeChunkRetriever implements DocumentRetriever {
+
+    public static final String NOTICE_ID = "rag_notice_id";
+
+    private static final Logger logger = LoggerFactory.getLogger(NoticeChunkRetriever.class);
+
+    private final EmbeddingModel embeddingModel;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChunkRowMapper rowMapper;
+    private final ObjectProvider<LocalHnswVectorStore> localStore;
+    private final String tableName;
+    private final int topK;
+    private final double similarityThreshold;
+
+    public NoticeChunkRetriever(
+            EmbeddingModel embeddingModel,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<LocalHnswVectorStore> localStore,
+            @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName,
+            @Value("${retrieval.notice.top-k:5}") int topK,
+            @Value("${retrieval.notice.similarity-threshold:0.5}") double similarityThreshold
+    ) {
+        this.embeddingModel = embeddingModel;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowMapper = new ChunkRowMapper(objectMapper);
+        this.localStore = localStore;
+        this.tableName = tableName;
+        this.topK = topK;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    @Override
+    public List<Document> retrieve(Query query) {
+        Object noticeId = query.context().get(NOTICE_ID);
+        if (noticeId == null) {
+            logger.warn("Notice-scoped retrieval called without {}. Returning no documents.", NOTICE_ID);
+            return List.of();
+        }
+        return retrieve(query.text(), Long.parseLong(noticeId.toString()));
+    }
+
+    /**
+     * 공고의 청크 중 질의와 가장 가까운 청크를 반환합니다. (유사도 내림차순)
+     */
+    public List<Document> retrieve(String queryText, Long noticeId) {
+        float[] embedding = embeddingModel.embed(queryText);
+
+        LocalHnswVectorStore local = localStore.getIfAvailable();
+        if (local != null && local.isReady()) {
+            return local.search(embedding, topK, similarityThreshold,
+                    new FilterExpressionBuilder().eq("notice_id", noticeId).build());
+        }
+
+        String queryVector = PgVectorLiteral.format(embedding);
+
+        // MATERIALIZED: 공고 청크를 먼저 추린 뒤 정렬하도록 강제 (HNSW 인덱스 스캔 + 사후 필터 방지)
+        String sql = "WITH notice_chunks AS MATERIALIZED (" +
+                "SELECT id, content, metadata, embedding <=> ?::vector AS distance " +
+                "FROM " + tableName + " WHERE notice_id = ?) " +
+                "SELECT id::text, content, metadata::text, distance FROM notice_chunks " +
+                "WHERE distance <= ? ORDER BY distance LIMIT ?";
+
+        return jdbcTemplate.query(sql, rowMapper, queryVector, noticeId, 1 - similarityThreshold, topK);
+    }
+}
@@ -0,0 +1,123 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.sixpm.domain.ai.dto.response.VectorBenchmarkResponse;
+import com.sixpm.domain.ai.dto.response.VectorBenchmarkResponse.ModeResult;
+import com.sixpm.domain.ai.enums.VectorStorageMode;
+import com.sixpm.domain.ai.util.PgVectorLiteral;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 저장된 청크 임베딩을 질의로 사용해 인덱스 방식별 recall@k와 지연 시간을 측정합니다.
+ * 정답은 원본 벡터 전체를 정확히 탐색한 상위 k개이며, 질의로 사용한 청크 자신은 양쪽 결과에서 제외합니다.
+ */
+@Service
+public class VectorSearchBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(VectorSearchBenchmark.class);
+
+    private final ChunkVectorSearch chunkVectorSearch;
+    private final JdbcTemplate jdbcTemplate;
+    private final String tableName;
+
+    public VectorSearchBenchmark(
+            ChunkVectorSearch chunkVectorSearch,
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.ai.vectorstore.pgvector.table-name:vector_store}") String tableName
+    ) {
+        this.chunkVectorSearch = chunkVectorSearch;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableName = tableName;
+    }
+
+    private record Sample(String id, float[] vector) {}
+
+    public VectorBenchmarkResponse run(int sampleSize, int k) {
+        List<Sample> samples = jdbcTemplate.query(
+                "SELECT id::text, embedding::text FROM " + tableName + " ORDER BY random() LIMIT ?",
+                (rs, rowNum) -> new Sample(rs.getString(1), PgVectorLiteral.parse(rs.getString(2))),
+                sampleSize);
+
+        List<Set<String>> truths = samples.stream().map(sample -> exactNeighbors(sample, k)).toList();
+
+        List<ModeResult> results = new ArrayList<>();
+        for (VectorStorageMode mode : VectorStorageMode.values()) {
+            results.add(measure(mode, samples, truths, k));
+        }
+
+        logger.info("Vector benchmark ({} samples, k={}): {}", samples.size(), k, results);
+        return VectorBenchmarkResponse.builder()
+                .activeMode(chunkVectorSearch.storageMode())
+                .sampleSize(samples.size())
+                .k(k)
+                .results(results)
+                .build();
+    }
+
+    private ModeResult measure(VectorStorageMode mode, List<Sample> samples, List<Set<String>> truths, int k) {
+        double[] latencies = new double[samples.size()];
+        int found = 0;
+        int expected = 0;
+
+        for (int i = 0; i < samples.size(); i++) {
+            Sample sample = samples.get(i);
+            long startedAt = System.nanoTime();
+            // 유사도 하한 없이 k+1개 (자기 자신 포함)
+            List<Document> documents = chunkVectorSearch.search(sample.vector(), k + 1, -1.0, mode);
+            latencies[i] = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+            Set<String> truth = truths.get(i);
+            found += hits(documents.stream().map(Document::getId).toList(), sample.id(), truth, k);
+            expected += truth.size();
+        }
+
+        Arrays.sort(latencies);
+        return ModeResult.builder()
+                .mode(mode)
+                .indexed(chunkVectorSearch.hasIndex(mode))
+                .recallAtK(expected == 0 ? 1.0 : (double) found / expected)
+                .p50Millis(percentile(latencies, 0.50))
+                .p95Millis(percentile(latencies, 0.95))
+                .build();
+    }
+
+    /**
+     * 인덱스를 사용하지 않는 정확 탐색 (MATERIALIZED로 전체 거리를 계산한 뒤 정렬)
+     */
+    private Set<String> exactNeighbors(Sample sample, int k) {
+        String sql = "WITH all_chunks AS MATERIALIZED (" +
+                "SELECT id, embedding <=> ?::vector AS distance FROM " + tableName + " WHERE id <> ?::uuid) " +
+                "SELECT id::text FROM all_chunks ORDER BY distance LIMIT ?";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class,
+                PgVectorLiteral.format(sample.vector()), sample.id(), k));
+    }
+
+    /**
+     * 결과 중 질의 청크 자신을 뺀 상위 k개에 정답이 몇 개 들어 있는지 셉니다.
+     */
+    static int hits(List<String> resultIds, String queryId, Set<String> truth, int k) {
+        return (int) resultIds.stream()
+                .filter(id -> !id.equals(queryId))
+                .limit(k)
+                .filter(truth::contains)
+                .count();
+    }
+
+    static double percentile(double[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
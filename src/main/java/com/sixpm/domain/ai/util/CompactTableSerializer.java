@@ -0,0 +1,90 @@
+package com.sixpm.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Upstage 표 요소를 LLM 입력용 압축 텍스트(탭 구분, 한 행 한 줄)로 변환하는 유틸리티
+ * 마크다운 열 맞춤 공백, 구분선 행, 페이지마다 반복되는 머리글 행을 제거하고 금액은 원 단위 정수로 통일합니다.
+ * 마크다운은 병합 셀을 빈 칸으로 내보내므로 비어 있는 앞쪽 항목 열은 위 행의 값을 이어받습니다.
+ */
+public class CompactTableSerializer {
+
+    private static final Pattern UNIT_NOTE = Pattern.compile("\\(?\\s*단위\\s*[:：]?\\s*(?:천원|만원|백만원|원)\\s*\\)?");
+    private static final Pattern DIGIT = Pattern.compile("\\d");
+
+    private CompactTableSerializer() {
+    }
+
+    /**
+     * @param table   표 요소의 마크다운 텍스트
+     * @param context 표 앞의 섹션 제목/설명 ("단위: 천원" 표기 탐지용, 없으면 빈 문자열)
+     * @return 압축된 표 텍스트, 표 형식이 아니면 원문
+     */
+    public static String serialize(String table, String context) {
+        List<List<String>> rows = TableRows.parse(table);
+        if (rows.isEmpty()) {
+            return table == null ? "" : table.strip();
+        }
+
+        long multiplier = KoreanAmount.tableUnitMultiplier(table);
+        if (multiplier == 1) {
+            multiplier = KoreanAmount.tableUnitMultiplier(context);
+        }
+
+        List<String> header = rows.get(0);
+        List<String> previous = null;
+        List<String> lines = new ArrayList<>();
+
+        for (int r = 0; r < rows.size(); r++) {
+            List<String> row = rows.get(r);
+            // 페이지가 넘어가며 반복된 머리글 행
+            if (r > 0 && row.equals(header)) {
+                continue;
+            }
+            if (row.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+
+            List<String> cells = fillMergedLabels(row, previous);
+            previous = cells;
+
+            List<String> normalized = new ArrayList<>(cells.size());
+            for (String cell : cells) {
+                String value = multiplier > 1 ? UNIT_NOTE.matcher(cell).replaceAll("").strip() : cell;
+                normalized.add(KoreanAmount.normalizeAmounts(value, multiplier));
+            }
+
+            while (!normalized.isEmpty() && normalized.get(normalized.size() - 1).isBlank()) {
+                normalized.remove(normalized.size() - 1);
+            }
+            if (!normalized.isEmpty()) {
+                lines.add(String.join("\t", normalized));
+            }
+        }
+
+        return String.join("\n", lines);
+    }
+
+    /**
+     * 마크다운 표는 병합 셀을 빈 칸으로 내보내므로, 숫자가 나오기 전의 앞쪽 항목 열이 비어 있으면 위 행의 값을 채웁니다.
+     */
+    private static List<String> fillMergedLabels(List<String> row, List<String> previous) {
+        if (previous == null) {
+            return row;
+        }
+
+        List<String> filled = new ArrayList<>(row);
+        for (int i = 0; i < filled.size() && i < previous.size(); i++) {
+            String cell = filled.get(i);
+            if (DIGIT.matcher(cell).find()) {
+                break;
+            }
+            if (cell.isBlank()) {
+                filled.set(i, previous.get(i));
+            }
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,372 @@
+package com.sixpm.domain.ai.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+
+/**
+ * 코사인 유사도 기반 HNSW(Hierarchical Navigable Small World) 그래프.
+ * 벡터는 정규화해 MappedVectorArena에 저장하므로 유사도는 내적으로 계산합니다.
+ *
+ * 삭제는 표시만 하며 삭제된 노드도 탐색 경로로는 계속 사용합니다. (결과에서만 제외)
+ * 필터 검색은 탐색은 전체 그래프로 하되 결과에는 조건을 만족하는 노드만 담습니다.
+ *
+ * 동시성: 검색끼리는 동시에 실행할 수 있지만 추가/삭제는 호출하는 쪽에서 배타적으로 잠가야 합니다.
+ */
+public class HnswGraph {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final MappedVectorArena vectors;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    // 노드별, 층별 이웃 순번
+    private final List<int[][]> neighbors = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param vectors        벡터 저장소 (비어 있어야 함)
+     * @param m              노드당 이웃 수 (0층은 2배)
+     * @param efConstruction 추가 시 탐색 후보 수
+     * @param seed           층 배정 난수 시드
+     */
+    public HnswGraph(MappedVectorArena vectors, int m, int efConstruction, long seed) {
+        this.vectors = vectors;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param ordinal 노드 순번
+     * @param score   코사인 유사도
+     */
+    public record Result(int ordinal, float score) {}
+
+    public MappedVectorArena vectors() {
+        return vectors;
+    }
+
+    /**
+     * 삭제된 노드를 포함한 전체 노드 수
+     */
+    public int size() {
+        return neighbors.size();
+    }
+
+    public int deletedCount() {
+        return deleted.cardinality();
+    }
+
+    public boolean isDeleted(int ordinal) {
+        return deleted.get(ordinal);
+    }
+
+    /**
+     * 벡터를 추가하고 노드 순번을 반환합니다.
+     */
+    public int add(float[] vector) {
+        float[] normalized = normalize(vector);
+        int node = vectors.append(normalized);
+        int level = randomLevel();
+
+        int[][] levels = new int[level + 1][];
+        Arrays.fill(levels, new int[0]);
+        neighbors.add(levels);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedy(normalized, current, l);
+        }
+
+        List<Integer> entries = List.of(current);
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Result> candidates = searchLayer(normalized, entries, efConstruction, l, null);
+            int[] selected = selectNeighbors(candidates, l == 0 ? maxM0 : m);
+            levels[l] = selected;
+            for (int neighbor : selected) {
+                connect(neighbor, node, l);
+            }
+            entries = candidates.stream().map(Result::ordinal).toList();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+        return node;
+    }
+
+    public void markDeleted(int ordinal) {
+        deleted.set(ordinal);
+    }
+
+    /**
+     * 질의와 가장 가까운 노드를 유사도 내림차순으로 반환합니다.
+     *
+     * @param ef     0층 탐색 후보 수 (k보다 작으면 k 사용)
+     * @param accept 결과에 포함할 노드 조건 (null이면 삭제되지 않은 모든 노드)
+     */
+    public List<Result> search(float[] query, int k, int ef, IntPredicate accept) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        float[] normalized = normalize(query);
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedy(normalized, current, l);
+        }
+
+        IntPredicate live = ordinal -> !deleted.get(ordinal) && (accept == null || accept.test(ordinal));
+        List<Result> results = searchLayer(normalized, List.of(current), Math.max(ef, k), 0, live);
+        return results.size() > k ? results.subList(0, k) : results;
+    }
+
+    /**
+     * 지정한 노드만 정확하게 비교합니다. (조건에 맞는 노드가 적을 때 그래프 탐색 대신 사용)
+     */
+    public List<Result> exact(float[] query, int k, int[] ordinals) {
+        float[] normalized = normalize(query);
+        return Arrays.stream(ordinals)
+                .filter(ordinal -> !deleted.get(ordinal))
+                .mapToObj(ordinal -> new Result(ordinal, vectors.dot(ordinal, normalized)))
+                .sorted(Comparator.comparingDouble(Result::score).reversed())
+                .limit(k)
+                .toList();
+    }
+
+    /**
+     * 그래프 구조를 기록합니다. 벡터는 MappedVectorArena의 세그먼트 파일에 있으므로 노드 수만 기록합니다.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(m);
+        out.writeInt(efConstruction);
+        out.writeInt(neighbors.size());
+        out.writeInt(entryPoint);
+        out.writeInt(maxLevel);
+        for (int[][] levels : neighbors) {
+            out.writeInt(levels.length);
+            for (int[] level : levels) {
+                out.writeInt(level.length);
+                for (int neighbor : level) {
+                    out.writeInt(neighbor);
+                }
+            }
+        }
+        long[] deletedWords = deleted.toLongArray();
+        out.writeInt(deletedWords.length);
+        for (long word : deletedWords) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * write로 기록한 그래프를 읽습니다.
+     *
+     * @param vectors 기록 당시의 벡터가 들어 있는 저장소 (노드 수 이상 저장되어 있어야 함)
+     */
+    public static HnswGraph read(DataInputStream in, MappedVectorArena vectors, long seed) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported HNSW snapshot version: " + version);
+        }
+        HnswGraph graph = new HnswGraph(vectors, in.readInt(), in.readInt(), seed);
+        int size = in.readInt();
+        if (vectors.size() < size) {
+            throw new IOException("Vector file has " + vectors.size() + " vectors, graph expects " + size);
+        }
+        graph.entryPoint = in.readInt();
+        graph.maxLevel = in.readInt();
+        for (int node = 0; node < size; node++) {
+            int[][] levels = new int[in.readInt()][];
+            for (int l = 0; l < levels.length; l++) {
+                levels[l] = new int[in.readInt()];
+                for (int i = 0; i < levels[l].length; i++) {
+                    levels[l][i] = in.readInt();
+                }
+            }
+            graph.neighbors.add(levels);
+        }
+        long[] deletedWords = new long[in.readInt()];
+        for (int i = 0; i < deletedWords.length; i++) {
+            deletedWords[i] = in.readLong();
+        }
+        graph.deleted.or(BitSet.valueOf(deletedWords));
+        return graph;
+    }
+
+    private int randomLevel() {
+        double r = 1.0 - random.nextDouble();
+        return (int) (-Math.log(r) * levelMultiplier);
+    }
+
+    /**
+     * 상위 층에서 질의에 가장 가까운 노드를 찾아 내려갈 시작점으로 사용합니다.
+     */
+    private int greedy(float[] query, int start, int level) {
+        int current = start;
+        float best = vectors.dot(current, query);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : neighborsOf(current, level)) {
+                float score = vectors.dot(neighbor, query);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 ef개 후보를 유지하며 탐색합니다. accept를 만족하는 노드만 결과에 담습니다.
+     */
+    private List<Result> searchLayer(float[] query, List<Integer> entries, int ef, int level, IntPredicate accept) {
+        BitSet visited = new BitSet(neighbors.size());
+        PriorityQueue<Result> candidates = new PriorityQueue<>(Comparator.comparingDouble(Result::score).reversed());
+        PriorityQueue<Result> results = new PriorityQueue<>(Comparator.comparingDouble(Result::score));
+
+        for (int entry : entries) {
+            if (visited.get(entry)) {
+                continue;
+            }
+            visited.set(entry);
+            Result result = new Result(entry, vectors.dot(entry, query));
+            candidates.add(result);
+            if (accept == null || accept.test(entry)) {
+                results.add(result);
+            }
+        }
+        while (results.size() > ef) {
+            results.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Result candidate = candidates.poll();
+            if (results.size() >= ef && candidate.score() < results.peek().score()) {
+                break;
+            }
+            for (int neighbor : neighborsOf(candidate.ordinal(), level)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = vectors.dot(neighbor, query);
+                if (results.size() < ef || score > results.peek().score()) {
+                    candidates.add(new Result(neighbor, score));
+                    if (accept == null || accept.test(neighbor)) {
+                        results.add(new Result(neighbor, score));
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Result> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Result::score).reversed());
+        return sorted;
+    }
+
+    /**
+     * 후보 중 이미 고른 이웃보다 질의에 더 가까운 노드만 고르는 휴리스틱 (한쪽에 몰린 이웃 방지).
+     * 자리가 남으면 제외했던 후보로 채웁니다.
+     */
+    private int[] selectNeighbors(List<Result> candidates, int max) {
+        List<Result> selected = new ArrayList<>(max);
+        List<Result> skipped = new ArrayList<>();
+        for (Result candidate : candidates) {
+            if (selected.size() >= max) {
+                break;
+            }
+            boolean diverse = true;
+            float[] vector = vectors.get(candidate.ordinal());
+            for (Result chosen : selected) {
+                if (vectors.dot(chosen.ordinal(), vector) > candidate.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < max; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected.stream().mapToInt(Result::ordinal).toArray();
+    }
+
+    private void connect(int node, int neighbor, int level) {
+        int[][] levels = neighbors.get(node);
+        int[] current = levels[level];
+        int max = level == 0 ? maxM0 : m;
+        int[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = neighbor;
+        if (extended.length <= max) {
+            levels[level] = extended;
+            return;
+        }
+
+        // 이웃 수가 넘치면 이 노드 기준으로 다시 고름
+        float[] vector = vectors.get(node);
+        List<Result> candidates = new ArrayList<>(extended.length);
+        for (int candidate : extended) {
+            candidates.add(new Result(candidate, vectors.dot(candidate, vector)));
+        }
+        candidates.sort(Comparator.comparingDouble(Result::score).reversed());
+        levels[level] = selectNeighbors(candidates, max);
+    }
+
+    private int[] neighborsOf(int node, int level) {
+        int[][] levels = neighbors.get(node);
+        return level < levels.length ? levels[level] : new int[0];
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+        if (norm == 0) {
+            return vector.clone();
+        }
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,127 @@
+package com.sixpm.domain.ai.util;
+
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한국식 금액 표기 -> 원 단위 변환 유틸리티
+ * 예: "3억 6,100만원" -> 361000000, "3,803만원" -> 38030000, "3,482,964원" -> 3482964
+ */
+public class KoreanAmount {
+
+    private static final Pattern PIECE = Pattern.compile("(\\d+(?:\\.\\d+)?)(억|천만|백만|만|천)?");
+    private static final Pattern TABLE_UNIT = Pattern.compile("단위\\s*[:：]?\\s*(천원|만원|백만원|원)");
+
+    // 금액 표현: "3억 6,100만원", "1억", "3,803만원", "3,482,964원" (만/천 단위는 '원'이 붙은 경우만 - "4천세대" 등 제외)
+    private static final Pattern AMOUNT_EXPRESSION = Pattern.compile(
+            "\\d[\\d,]*(?:\\.\\d+)?\\s*억(?:\\s*\\d[\\d,]*(?:\\.\\d+)?\\s*(?:천만|백만|만|천))?\\s*원?"
+                    + "|\\d[\\d,]*(?:\\.\\d+)?\\s*(?:천만|백만|만|천)\\s*원"
+                    + "|\\d[\\d,]*\\s*원");
+    private static final Pattern PLAIN_NUMBER = Pattern.compile("\\d{1,3}(?:,\\d{3})+|\\d+");
+    private static final Pattern THOUSANDS_SEPARATED = Pattern.compile("\\d{1,3}(?:,\\d{3})+(?!\\d)");
+
+    private KoreanAmount() {
+    }
+
+    /**
+     * 문자열에서 첫 번째 금액 표현을 원 단위로 변환합니다.
+     *
+     * @param text             금액 문자열
+     * @param defaultMultiplier 단위 표기가 없는 숫자에 곱할 값 (표 단위가 '천원'이면 1000 등)
+     * @return 원 단위 금액, 금액이 없으면 null
+     */
+    public static Long parseWon(String text, long defaultMultiplier) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        String compact = text.replace(",", "").replaceAll("\\s+", "");
+        Matcher matcher = PIECE.matcher(compact);
+
+        BigDecimal total = BigDecimal.ZERO;
+        int expectedStart = -1;
+        boolean found = false;
+
+        while (matcher.find()) {
+            // "3억6100만원"처럼 이어진 조각만 하나의 금액으로 본다
+            if (expectedStart >= 0 && matcher.start() != expectedStart) {
+                break;
+            }
+
+            BigDecimal number = new BigDecimal(matcher.group(1));
+            String unit = matcher.group(2);
+            boolean wonFollows = matcher.end() < compact.length() && compact.charAt(matcher.end()) == '원';
+            long multiplier = unit != null ? unitMultiplier(unit) : (wonFollows ? 1 : defaultMultiplier);
+
+            total = total.add(number.multiply(BigDecimal.valueOf(multiplier)));
+            found = true;
+
+            if (unit == null) {
+                break;
+            }
+            expectedStart = matcher.end();
+        }
+
+        return found ? total.longValue() : null;
+    }
+
+    public static Long parseWon(String text) {
+        return parseWon(text, 1);
+    }
+
+    /**
+     * 문자열 안의 금액 표현을 원 단위 정수로 바꿉니다. ("3억 6,100만원 이하" -> "361000000원 이하")
+     * 숫자만 있는 셀은 표 단위(defaultMultiplier)가 있으면 원 단위로 환산하고, 그 밖의 숫자는 천 단위 구분 기호만 제거합니다.
+     */
+    public static String normalizeAmounts(String text, long defaultMultiplier) {
+        if (text == null || text.isBlank()) {
+            return text;
+        }
+
+        String stripped = text.strip();
+        if (defaultMultiplier > 1 && PLAIN_NUMBER.matcher(stripped).matches()) {
+            return parseWon(stripped, defaultMultiplier) + "원";
+        }
+
+        Matcher matcher = AMOUNT_EXPRESSION.matcher(text);
+        StringBuilder builder = new StringBuilder();
+        while (matcher.find()) {
+            Long won = parseWon(matcher.group(), 1);
+            matcher.appendReplacement(builder, won != null ? won + "원" : Matcher.quoteReplacement(matcher.group()));
+        }
+        matcher.appendTail(builder);
+
+        return THOUSANDS_SEPARATED.matcher(builder).replaceAll(match -> match.group().replace(",", ""));
+    }
+
+    /**
+     * 표에 "(단위: 천원)" 등의 표기가 있으면 그 배수를, 없으면 1을 반환합니다.
+     */
+    public static long tableUnitMultiplier(String tableText) {
+        if (tableText == null) {
+            return 1;
+        }
+        Matcher matcher = TABLE_UNIT.matcher(tableText);
+        if (!matcher.find()) {
+            return 1;
+        }
+        return switch (matcher.group(1)) {
+            case "천원" -> 1_000L;
+            case "만원" -> 10_000L;
+            case "백만원" -> 1_000_000L;
+            default -> 1L;
+        };
+    }
+
+    private static long unitMultiplier(String unit) {
+        return switch (unit) {
+            case "억" -> 100_000_000L;
+            case "천만" -> 10_000_000L;
+            case "백만" -> 1_000_000L;
+            case "만" -> 10_000L;
+            case "천" -> 1_000L;
+            default -> 1L;
+        };
+    }
+}
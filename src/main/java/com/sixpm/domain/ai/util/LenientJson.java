@@ -0,0 +1,418 @@
+package com.sixpm.domain.ai.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 구조화 응답(JSON)을 관대하게 읽는 유틸리티
+ * 잘린 응답, 후행 쉼표, 코드 블록 표기를 복구하고, 레코드의 필드를 하나씩 바인딩하여 읽을 수 있는 값만 살립니다.
+ * 숫자 필드에 "3,803만원" 같은 문자열이 오면 원 단위로 변환합니다.
+ */
+public class LenientJson {
+
+    private static final Pattern CODE_FENCE = Pattern.compile("```(?:json)?\\s*(.*?)\\s*(?:```|$)", Pattern.DOTALL);
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    private LenientJson() {
+    }
+
+    /**
+     * 바인딩 결과
+     *
+     * @param value         읽은 값 (JSON 자체를 읽지 못하면 null)
+     * @param missingFields 값이 없거나 읽지 못한 최상위 필드 이름 (읽지 못한 원소를 버린 목록/맵 필드 포함)
+     */
+    public record Binding<T>(T value, List<String> missingFields) {
+
+        public boolean isComplete() {
+            return value != null && missingFields.isEmpty();
+        }
+    }
+
+    /**
+     * 손상된 JSON 문자열을 가능한 범위에서 복구합니다.
+     * 응답이 중간에 잘린 경우 마지막으로 완성된 값까지만 남기고 열린 괄호를 닫습니다.
+     */
+    public static String repair(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return raw;
+        }
+
+        String text = raw.strip();
+        Matcher fence = CODE_FENCE.matcher(text);
+        if (fence.find()) {
+            text = fence.group(1);
+        }
+
+        int start = firstIndexOf(text, '{', '[');
+        if (start < 0) {
+            return text;
+        }
+
+        Scan scan = scan(text.substring(start));
+        if (scan.closers().isEmpty() && !scan.inString()) {
+            return scan.text();
+        }
+
+        // 잘린 응답: 마지막으로 완성된 값 뒤까지만 남기고 다시 괄호를 계산
+        String truncated = stripTrailingComma(scan.text().substring(0, scan.lastSafeEnd()));
+        Scan rescanned = scan(truncated);
+        StringBuilder builder = new StringBuilder(stripTrailingComma(rescanned.text()));
+        for (char closer : rescanned.closers()) {
+            builder.append(closer);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 레코드 타입으로 필드별 바인딩을 시도합니다. 읽지 못한 필드는 null(기본형은 기본값)로 두고 missingFields에 담습니다.
+     * 목록/맵 필드는 읽을 수 있는 원소만 남기되, 버린 원소가 있으면 불완전한 값이므로 missingFields에 함께 담습니다.
+     */
+    public static <T> Binding<T> bind(String raw, Class<T> recordType, ObjectMapper objectMapper) {
+        List<String> allFields = new ArrayList<>();
+        for (RecordComponent component : recordType.getRecordComponents()) {
+            allFields.add(component.getName());
+        }
+
+        JsonNode root;
+        try {
+            String repaired = repair(raw);
+            root = repaired == null ? null : objectMapper.readTree(repaired);
+        } catch (Exception e) {
+            root = null;
+        }
+        if (root == null || !root.isObject()) {
+            return new Binding<>(null, allFields);
+        }
+
+        RecordComponent[] components = recordType.getRecordComponents();
+        Object[] args = new Object[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        List<String> missing = new ArrayList<>();
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            parameterTypes[i] = component.getType();
+            Drops drops = new Drops();
+            try {
+                args[i] = bindValue(root.get(component.getName()), component.getGenericType(), objectMapper, drops);
+                if (drops.dropped) {
+                    missing.add(component.getName());
+                }
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                missing.add(component.getName());
+                args[i] = defaultValue(component.getType());
+            }
+        }
+
+        return new Binding<>(construct(recordType, parameterTypes, args), missing);
+    }
+
+    /**
+     * base 레코드에서 지정한 필드만 patch의 값으로 바꾼 새 레코드를 만듭니다. (누락 필드 재요청 결과 병합용)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyFields(T base, T patch, Collection<String> fields) {
+        if (patch == null || fields.isEmpty()) {
+            return base;
+        }
+
+        Class<T> recordType = (Class<T>) base.getClass();
+        RecordComponent[] components = recordType.getRecordComponents();
+        Object[] args = new Object[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        try {
+            for (int i = 0; i < components.length; i++) {
+                RecordComponent component = components[i];
+                parameterTypes[i] = component.getType();
+                Method accessor = component.getAccessor();
+                accessor.setAccessible(true);
+                args[i] = accessor.invoke(fields.contains(component.getName()) ? patch : base);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Failed to read " + recordType.getSimpleName(), e);
+        }
+        return construct(recordType, parameterTypes, args);
+    }
+
+    /**
+     * 목록/맵에서 읽지 못해 버린 원소가 있는지 기록합니다. (최상위 필드 단위)
+     */
+    private static final class Drops {
+        private boolean dropped;
+    }
+
+    private static Object bindValue(JsonNode node, Type type, ObjectMapper objectMapper, Drops drops) {
+        if (node == null || node.isMissingNode()) {
+            throw new IllegalArgumentException("missing value");
+        }
+
+        Class<?> rawType = rawClass(type);
+        if (node.isNull()) {
+            if (rawType.isPrimitive()) {
+                throw new IllegalArgumentException("null for primitive");
+            }
+            return null;
+        }
+
+        if (rawType == long.class || rawType == Long.class) {
+            return toLong(node);
+        }
+        if (rawType == int.class || rawType == Integer.class) {
+            return Math.toIntExact(toLong(node));
+        }
+        if (rawType == boolean.class || rawType == Boolean.class) {
+            return toBoolean(node);
+        }
+        if (rawType == String.class) {
+            if (!node.isValueNode()) {
+                throw new IllegalArgumentException("not a text value");
+            }
+            return node.asText();
+        }
+        if (List.class.isAssignableFrom(rawType)) {
+            return toList(node, typeArgument(type, 0), objectMapper, drops);
+        }
+        if (Map.class.isAssignableFrom(rawType)) {
+            return toMap(node, typeArgument(type, 0), typeArgument(type, 1), objectMapper, drops);
+        }
+        if (rawType.isRecord()) {
+            return toRecord(node, rawType, objectMapper, drops);
+        }
+        return objectMapper.convertValue(node, objectMapper.constructType(type));
+    }
+
+    private static long toLong(JsonNode node) {
+        if (node.isNumber()) {
+            return node.longValue();
+        }
+        if (node.isTextual()) {
+            Long won = KoreanAmount.parseWon(node.asText());
+            if (won != null) {
+                return won;
+            }
+        }
+        throw new IllegalArgumentException("not a number: " + node);
+    }
+
+    private static boolean toBoolean(JsonNode node) {
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isTextual()) {
+            String text = node.asText().strip().toLowerCase();
+            if (text.equals("true") || text.equals("y") || text.equals("예")) {
+                return true;
+            }
+            if (text.equals("false") || text.equals("n") || text.equals("아니오")) {
+                return false;
+            }
+        }
+        throw new IllegalArgumentException("not a boolean: " + node);
+    }
+
+    private static List<Object> toList(JsonNode node, Type elementType, ObjectMapper objectMapper, Drops drops) {
+        if (!node.isArray()) {
+            throw new IllegalArgumentException("not an array");
+        }
+        List<Object> values = new ArrayList<>();
+        for (JsonNode element : node) {
+            try {
+                values.add(bindValue(element, elementType, objectMapper, drops));
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                // 읽을 수 없는 원소만 버리고 나머지는 유지
+                drops.dropped = true;
+            }
+        }
+        return values;
+    }
+
+    private static Map<Object, Object> toMap(JsonNode node, Type keyType, Type valueType, ObjectMapper objectMapper,
+                                             Drops drops) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("not an object");
+        }
+        Map<Object, Object> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            try {
+                values.put(toKey(field.getKey(), keyType), bindValue(field.getValue(), valueType, objectMapper, drops));
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                // 읽을 수 없는 항목만 버림
+                drops.dropped = true;
+            }
+        }
+        return values;
+    }
+
+    private static Object toKey(String key, Type keyType) {
+        Class<?> rawType = rawClass(keyType);
+        if (rawType == Integer.class || rawType == Long.class) {
+            // "1인", "2인 가구" 같은 키도 숫자로 읽는다
+            Matcher digits = DIGITS.matcher(key);
+            if (!digits.find()) {
+                throw new IllegalArgumentException("not a numeric key: " + key);
+            }
+            long value = Long.parseLong(digits.group());
+            return rawType == Integer.class ? (Object) Math.toIntExact(value) : (Object) value;
+        }
+        return key;
+    }
+
+    private static Object toRecord(JsonNode node, Class<?> recordType, ObjectMapper objectMapper, Drops drops) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("not an object");
+        }
+        RecordComponent[] components = recordType.getRecordComponents();
+        Object[] args = new Object[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+            args[i] = bindValue(node.get(components[i].getName()), components[i].getGenericType(), objectMapper, drops);
+        }
+        return construct(recordType, parameterTypes, args);
+    }
+
+    private static <T> T construct(Class<T> recordType, Class<?>[] parameterTypes, Object[] args) {
+        try {
+            Constructor<T> constructor = recordType.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Failed to construct " + recordType.getSimpleName(), e);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        return null;
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        }
+        return Object.class;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        return Object.class;
+    }
+
+    // --- 복구용 스캔 ---
+
+    /**
+     * @param text        괄호 짝이 맞지 않는 닫는 괄호와 최상위 값 뒤의 문자를 제거한 텍스트
+     * @param closers     닫히지 않은 괄호를 닫는 문자 (안쪽부터)
+     * @param inString    문자열 도중에 끝났는지 여부
+     * @param lastSafeEnd 완성된 값 직후(또는 쉼표 직전) 위치 중 마지막 위치
+     */
+    private record Scan(String text, Deque<Character> closers, boolean inString, int lastSafeEnd) {}
+
+    private static Scan scan(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        Deque<Character> closers = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+        int lastSafeEnd = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (inString) {
+                out.append(c);
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+                out.append(c);
+            } else if (c == '{' || c == '[') {
+                closers.push(c == '{' ? '}' : ']');
+                out.append(c);
+                lastSafeEnd = out.length();
+            } else if (c == '}' || c == ']') {
+                if (closers.isEmpty() || closers.peek() != c) {
+                    continue;
+                }
+                // 후행 쉼표 제거: {"a": 1,} -> {"a": 1}
+                trimTrailingComma(out);
+                out.append(c);
+                closers.pop();
+                lastSafeEnd = out.length();
+                if (closers.isEmpty()) {
+                    break;
+                }
+            } else if (c == ',') {
+                lastSafeEnd = out.length();
+                out.append(c);
+            } else {
+                out.append(c);
+            }
+        }
+
+        return new Scan(out.toString(), closers, inString, lastSafeEnd);
+    }
+
+    private static void trimTrailingComma(StringBuilder builder) {
+        int end = builder.length();
+        while (end > 0 && Character.isWhitespace(builder.charAt(end - 1))) {
+            end--;
+        }
+        if (end > 0 && builder.charAt(end - 1) == ',') {
+            builder.setLength(end - 1);
+        }
+    }
+
+    private static String stripTrailingComma(String text) {
+        String stripped = text.stripTrailing();
+        return stripped.endsWith(",") ? stripped.substring(0, stripped.length() - 1).stripTrailing() : stripped;
+    }
+
+    private static int firstIndexOf(String text, char first, char second) {
+        int a = text.indexOf(first);
+        int b = text.indexOf(second);
+        if (a < 0) {
+            return b;
+        }
+        return b < 0 ? a : Math.min(a, b);
+    }
+}
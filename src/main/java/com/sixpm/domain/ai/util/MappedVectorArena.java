@@ -0,0 +1,151 @@
+package com.sixpm.domain.ai.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 힙 밖에 float 벡터를 순서대로 저장하는 추가 전용 저장소.
+ * 디렉터리를 지정하면 고정 크기 세그먼트 파일을 메모리 매핑하므로 재시작 시 파일을 다시 매핑해 그대로 사용할 수 있고,
+ * 지정하지 않으면 direct buffer에 저장합니다.
+ *
+ * 저장된 벡터는 수정하지 않으므로 읽기는 잠금 없이 여러 스레드에서 할 수 있습니다. (추가는 한 스레드에서만)
+ */
+public class MappedVectorArena implements AutoCloseable {
+
+    private static final String SEGMENT_FILE = "vectors-%05d.f32";
+
+    private final Path directory;
+    private final int dimensions;
+    private final int segmentCapacity;
+    private final List<FloatBuffer> segments = new ArrayList<>();
+    private final List<MappedByteBuffer> mapped = new ArrayList<>();
+    private volatile int size;
+
+    /**
+     * @param directory       세그먼트 파일 디렉터리 (null이면 메모리에만 저장)
+     * @param dimensions      벡터 차원
+     * @param segmentCapacity 세그먼트 하나에 저장할 벡터 수
+     * @param size            이미 저장된 벡터 수 (기존 세그먼트 파일을 다시 열 때)
+     */
+    public MappedVectorArena(Path directory, int dimensions, int segmentCapacity, int size) {
+        this.directory = directory;
+        this.dimensions = dimensions;
+        this.segmentCapacity = segmentCapacity;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create vector directory " + directory, e);
+            }
+        }
+        int segmentCount = (size + segmentCapacity - 1) / segmentCapacity;
+        for (int i = 0; i < segmentCount; i++) {
+            addSegment();
+        }
+        this.size = size;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * 벡터를 추가하고 순번을 반환합니다.
+     */
+    public int append(float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected " + dimensions + " dimensions, got " + vector.length);
+        }
+        int ordinal = size;
+        if (ordinal / segmentCapacity >= segments.size()) {
+            addSegment();
+        }
+        segments.get(ordinal / segmentCapacity).put((ordinal % segmentCapacity) * dimensions, vector);
+        size = ordinal + 1;
+        return ordinal;
+    }
+
+    public float[] get(int ordinal) {
+        float[] vector = new float[dimensions];
+        segments.get(ordinal / segmentCapacity).get((ordinal % segmentCapacity) * dimensions, vector);
+        return vector;
+    }
+
+    /**
+     * 저장된 벡터와 질의 벡터의 내적
+     */
+    public float dot(int ordinal, float[] query) {
+        FloatBuffer segment = segments.get(ordinal / segmentCapacity);
+        int offset = (ordinal % segmentCapacity) * dimensions;
+        float sum = 0f;
+        for (int i = 0; i < dimensions; i++) {
+            sum += segment.get(offset + i) * query[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 매핑된 세그먼트의 변경 내용을 디스크에 기록합니다.
+     */
+    public void force() {
+        mapped.forEach(MappedByteBuffer::force);
+    }
+
+    /**
+     * 세그먼트 파일을 삭제합니다. (매핑은 GC 시 해제됨)
+     */
+    public void deleteFiles() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            for (int i = 0; i < segments.size(); i++) {
+                Files.deleteIfExists(directory.resolve(SEGMENT_FILE.formatted(i)));
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete vector directory " + directory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private void addSegment() {
+        long bytes = (long) segmentCapacity * dimensions * Float.BYTES;
+        if (directory == null) {
+            segments.add(ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder()).asFloatBuffer());
+            return;
+        }
+        Path file = directory.resolve(SEGMENT_FILE.formatted(segments.size()));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.add(buffer);
+            segments.add(buffer.asFloatBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map vector segment " + file, e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.sixpm.domain.ai.util;
+
+import com.sixpm.domain.ai.util.NoticeSections.Section;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * 공고문 섹션을 Upstage 요소(제목, 문단, 목록 등) 경계에 맞춰 청크로 나누는 유틸리티
+ * 요소를 중간에서 자르지 않고 토큰 한도 안에서 이어 붙이며, 한 요소가 한도보다 길 때만 줄/문장 단위로 나눕니다.
+ * 각 청크 앞에는 섹션 제목(과 소제목)을 붙여 청크만 보고도 어느 항목의 내용인지 알 수 있게 합니다.
+ */
+public class NoticeChunker {
+
+    // 표는 CriteriaExtractor에서 별도로 처리, 그림/차트와 머리말/꼬리말(페이지 번호 등)은 제외
+    private static final Set<String> SKIPPED_CATEGORIES = Set.of("table", "figure", "chart", "header", "footer");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
+
+    private final ToIntFunction<String> tokenCounter;
+    private final int maxTokens;
+    private final int minTokens;
+
+    /**
+     * @param tokenCounter 토큰 수 계산 함수 (임베딩 모델과 같은 인코딩 권장)
+     * @param maxTokens    청크 최대 토큰 수 (제목 접두어 포함)
+     * @param minTokens    소제목이 바뀌어도 이보다 작은 청크는 다음 내용과 이어 붙임
+     */
+    public NoticeChunker(ToIntFunction<String> tokenCounter, int maxTokens, int minTokens) {
+        this.tokenCounter = tokenCounter;
+        this.maxTokens = maxTokens;
+        this.minTokens = minTokens;
+    }
+
+    /**
+     * 공고문 청크
+     *
+     * @param text         섹션 제목 접두어를 포함한 청크 텍스트
+     * @param sectionTitle 섹션 제목 (heading1)
+     * @param pageStart    청크 내용이 시작하는 페이지
+     * @param pageEnd      청크 내용이 끝나는 페이지
+     */
+    public record Chunk(String text, String sectionTitle, int pageStart, int pageEnd) {}
+
+    private record Block(String text, int page, int tokens) {}
+
+    public List<Chunk> chunk(Section section) {
+        List<Chunk> chunks = new ArrayList<>();
+        List<Block> pending = new ArrayList<>();
+        int pendingTokens = 0;
+        String subheading = "";
+        String pendingSubheading = "";
+
+        for (Element element : section.elements()) {
+            String category = element.category() != null ? element.category().toLowerCase() : "";
+            String text = textOf(element);
+            // heading1은 섹션 제목으로 접두어에 들어가므로 본문에서 제외
+            if (SKIPPED_CATEGORIES.contains(category) || "heading1".equals(category) || text.isBlank()) {
+                continue;
+            }
+
+            boolean heading = category.startsWith("heading");
+            if (heading) {
+                // 소제목이 바뀌면 충분히 큰 청크는 여기서 끊음
+                if (pendingTokens >= minTokens) {
+                    chunks.add(toChunk(section.heading(), pendingSubheading, pending));
+                    pending = new ArrayList<>();
+                    pendingTokens = 0;
+                }
+                subheading = text;
+            }
+
+            if (pending.isEmpty()) {
+                pendingSubheading = heading ? "" : subheading;
+            }
+            int budget = budget(section.heading(), pendingSubheading);
+
+            for (String piece : fit(text, budget)) {
+                Block block = new Block(piece, element.page(), tokenCounter.applyAsInt(piece));
+                if (!pending.isEmpty() && pendingTokens + block.tokens() > budget) {
+                    chunks.add(toChunk(section.heading(), pendingSubheading, pending));
+                    pending = new ArrayList<>();
+                    pendingTokens = 0;
+                    pendingSubheading = heading ? "" : subheading;
+                    budget = budget(section.heading(), pendingSubheading);
+                }
+                pending.add(block);
+                pendingTokens += block.tokens();
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            chunks.add(toChunk(section.heading(), pendingSubheading, pending));
+        }
+        return chunks;
+    }
+
+    private Chunk toChunk(String sectionTitle, String subheading, List<Block> blocks) {
+        StringBuilder builder = new StringBuilder();
+        String prefix = prefix(sectionTitle, subheading);
+        if (!prefix.isEmpty()) {
+            builder.append(prefix).append('\n');
+        }
+        int pageStart = Integer.MAX_VALUE;
+        int pageEnd = Integer.MIN_VALUE;
+        for (Block block : blocks) {
+            builder.append(block.text()).append('\n');
+            pageStart = Math.min(pageStart, block.page());
+            pageEnd = Math.max(pageEnd, block.page());
+        }
+        return new Chunk(builder.toString().strip(), sectionTitle, pageStart, pageEnd);
+    }
+
+    private int budget(String sectionTitle, String subheading) {
+        return Math.max(1, maxTokens - tokenCounter.applyAsInt(prefix(sectionTitle, subheading)));
+    }
+
+    /**
+     * 청크 접두어. 청크가 소제목 중간부터 시작하면 소제목도 함께 표시합니다.
+     */
+    private String prefix(String sectionTitle, String subheading) {
+        if (subheading.isEmpty()) {
+            return sectionTitle.isEmpty() ? "" : "[" + sectionTitle + "]";
+        }
+        return sectionTitle.isEmpty() ? "[" + subheading + "]" : "[" + sectionTitle + " > " + subheading + "]";
+    }
+
+    /**
+     * 한도보다 긴 요소만 줄 → 문장 → 글자 수 순서로 나눕니다.
+     */
+    private List<String> fit(String text, int budget) {
+        if (tokenCounter.applyAsInt(text) <= budget) {
+            return List.of(text);
+        }
+
+        List<String> pieces = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (tokenCounter.applyAsInt(line) <= budget) {
+                pieces.add(line.strip());
+                continue;
+            }
+            for (String sentence : SENTENCE_END.split(line)) {
+                pieces.addAll(cut(sentence.strip(), budget));
+            }
+        }
+        return pack(pieces, budget);
+    }
+
+    /**
+     * 나눈 조각을 순서대로 한도 안에서 다시 이어 붙입니다.
+     */
+    private List<String> pack(List<String> pieces, int budget) {
+        List<String> packed = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String piece : pieces) {
+            String candidate = current.isEmpty() ? piece : current + "\n" + piece;
+            if (!current.isEmpty() && tokenCounter.applyAsInt(candidate) > budget) {
+                packed.add(current.toString());
+                current = new StringBuilder(piece);
+            } else {
+                current = new StringBuilder(candidate);
+            }
+        }
+        if (!current.isEmpty()) {
+            packed.add(current.toString());
+        }
+        return packed;
+    }
+
+    /**
+     * 문장 하나가 한도보다 긴 경우 글자 수 비율로 자릅니다.
+     */
+    private List<String> cut(String sentence, int budget) {
+        List<String> parts = new ArrayList<>();
+        String rest = sentence;
+        while (!rest.isEmpty() && tokenCounter.applyAsInt(rest) > budget) {
+            int tokens = tokenCounter.applyAsInt(rest);
+            int length = Math.max(1, (int) ((long) rest.length() * budget / tokens));
+            String part = rest.substring(0, length).strip();
+            if (!part.isEmpty()) {
+                parts.add(part);
+            }
+            rest = rest.substring(length).strip();
+        }
+        if (!rest.isEmpty()) {
+            parts.add(rest);
+        }
+        return parts;
+    }
+
+    private static String textOf(Element element) {
+        Content content = element.content();
+        if (content == null) {
+            return "";
+        }
+        String text = content.text() != null ? content.text() : content.markdown();
+        return text != null ? text.strip() : "";
+    }
+}
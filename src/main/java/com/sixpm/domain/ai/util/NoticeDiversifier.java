@@ -0,0 +1,93 @@
+package com.sixpm.domain.ai.util;
+
+import com.sixpm.domain.ai.enums.NoticeScoreAggregation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청크 검색 후보를 공고 단위로 묶고 MMR(Maximal Marginal Relevance)로 다양한 공고를 고르는 유틸리티.
+ * 긴 공고 하나의 청크가 상위를 모두 차지해도 서로 다른 공고가 결과에 오르도록 합니다.
+ *
+ * 공고 점수는 청크 유사도의 최댓값 또는 합이며, 공고 간 유사도는 각 공고의 최고 점수 청크 임베딩으로 계산합니다.
+ */
+public class NoticeDiversifier {
+
+    private NoticeDiversifier() {
+    }
+
+    /**
+     * 청크 검색 후보
+     *
+     * @param noticeId  청크가 속한 공고 ID
+     * @param score     질의와의 코사인 유사도
+     * @param embedding 청크 임베딩 (공고 간 유사도 계산용이므로 공고의 최고 점수 청크 임베딩을 써도 됨)
+     */
+    public record Candidate(Long noticeId, double score, float[] embedding) {}
+
+    /**
+     * @param candidates  청크 후보 (순서 무관)
+     * @param size        반환할 공고 수
+     * @param lambda      관련도 가중치 (1이면 점수순, 0에 가까울수록 다양성 우선)
+     * @param aggregation 공고 점수 계산 방식
+     * @return 서로 다른 공고 ID (MMR 선택 순서)
+     */
+    public static List<Long> diversify(List<Candidate> candidates, int size, double lambda,
+                                       NoticeScoreAggregation aggregation) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        Map<Long, Candidate> representatives = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            if (candidate.noticeId() == null) {
+                continue;
+            }
+            scores.merge(candidate.noticeId(), candidate.score(),
+                    aggregation == NoticeScoreAggregation.SUM ? Double::sum : Math::max);
+            representatives.merge(candidate.noticeId(), candidate,
+                    (current, next) -> next.score() > current.score() ? next : current);
+        }
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        // 합산 점수도 유사도(0~1)와 같은 범위에서 비교되도록 최고 점수로 나눔
+        double maxScore = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(1);
+        double scale = maxScore > 0 ? maxScore : 1;
+
+        List<Long> remaining = new ArrayList<>(scores.keySet());
+        List<Long> selected = new ArrayList<>();
+        while (selected.size() < size && !remaining.isEmpty()) {
+            Long best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Long noticeId : remaining) {
+                double relevance = scores.get(noticeId) / scale;
+                double redundancy = 0;
+                for (Long chosen : selected) {
+                    redundancy = Math.max(redundancy, cosine(
+                            representatives.get(noticeId).embedding(), representatives.get(chosen).embedding()));
+                }
+                double value = lambda * relevance - (1 - lambda) * redundancy;
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = noticeId;
+                }
+            }
+            selected.add(best);
+            remaining.remove(best);
+        }
+        return selected;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return normA == 0 || normB == 0 ? 0 : dot / Math.sqrt(normA * normB);
+    }
+}
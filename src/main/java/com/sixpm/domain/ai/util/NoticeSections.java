@@ -0,0 +1,75 @@
+package com.sixpm.domain.ai.util;
+
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 파싱된 공고문을 제목(heading1) 단위 섹션으로 나누는 유틸리티
+ * 섹션 해시는 정정공고와 원본 공고 사이에서 바뀐 섹션만 골라 다시 처리하는 데 사용합니다.
+ */
+public class NoticeSections {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private NoticeSections() {
+    }
+
+    /**
+     * 공고문 섹션
+     *
+     * @param heading  섹션 제목 (첫 제목 이전 내용은 빈 문자열)
+     * @param elements 섹션에 속한 요소 (제목 요소 포함)
+     * @param hash     섹션 전체 내용(표 포함)을 공백 정규화한 SHA-256
+     */
+    public record Section(String heading, List<Element> elements, String hash) {}
+
+    public static List<Section> split(ParsedDocument parsedDoc) {
+        List<Section> sections = new ArrayList<>();
+        List<Element> current = new ArrayList<>();
+        String heading = "";
+
+        for (Element element : parsedDoc.elements()) {
+            if ("heading1".equals(element.category()) && !current.isEmpty()) {
+                sections.add(toSection(heading, current));
+                current = new ArrayList<>();
+            }
+            if ("heading1".equals(element.category())) {
+                heading = textOf(element).strip();
+            }
+            current.add(element);
+        }
+        if (!current.isEmpty()) {
+            sections.add(toSection(heading, current));
+        }
+        return sections;
+    }
+
+    public static String textOf(Element element) {
+        Content content = element.content();
+        if (content == null) {
+            return "";
+        }
+        if (content.markdown() != null) {
+            return content.markdown();
+        }
+        return content.text() != null ? content.text() : "";
+    }
+
+    private static Section toSection(String heading, List<Element> elements) {
+        StringBuilder builder = new StringBuilder();
+        for (Element element : elements) {
+            // 머리말/꼬리말(페이지 번호 등)은 내용 비교에서 제외
+            if ("header".equals(element.category()) || "footer".equals(element.category())) {
+                continue;
+            }
+            builder.append(textOf(element)).append('\n');
+        }
+        String normalized = WHITESPACE.matcher(builder).replaceAll(" ").strip();
+        return new Section(heading, List.copyOf(elements), TableFingerprint.sha256(normalized));
+    }
+}
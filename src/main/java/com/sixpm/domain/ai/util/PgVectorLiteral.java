@@ -0,0 +1,35 @@
+package com.sixpm.domain.ai.util;
+
+/**
+ * pgvector 텍스트 표현("[0.1,0.2,...]") 변환 유틸리티
+ * JDBC로 vector 컬럼을 읽고 쓸 때 '?::vector' 파라미터와 'embedding::text' 결과에 사용합니다.
+ */
+public class PgVectorLiteral {
+
+    private PgVectorLiteral() {
+    }
+
+    public static String format(float[] vector) {
+        StringBuilder builder = new StringBuilder(vector.length * 12).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(vector[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    public static float[] parse(String literal) {
+        String body = literal.substring(literal.indexOf('[') + 1, literal.lastIndexOf(']'));
+        if (body.isBlank()) {
+            return new float[0];
+        }
+        String[] values = body.split(",");
+        float[] vector = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            vector[i] = Float.parseFloat(values[i].strip());
+        }
+        return vector;
+    }
+}
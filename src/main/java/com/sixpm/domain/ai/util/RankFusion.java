@@ -0,0 +1,44 @@
+package com.sixpm.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 검색 결과 순위를 Reciprocal Rank Fusion(RRF)으로 합치는 유틸리티
+ * 점수 = Σ 1 / (k + 순위), 순위는 1부터 시작합니다. 점수가 같으면 먼저 나온 결과 목록의 순서를 따릅니다.
+ */
+public class RankFusion {
+
+    private RankFusion() {
+    }
+
+    /**
+     * @param rankings 검색 방식별 결과 (앞쪽일수록 높은 순위, 목록 안의 중복은 첫 순위만 사용)
+     * @return 점수 내림차순으로 정렬된 항목별 RRF 점수
+     */
+    public static <T> LinkedHashMap<T, Double> fuse(List<List<T>> rankings, int k) {
+        Map<T, Double> scores = new HashMap<>();
+        LinkedHashSet<T> firstSeen = new LinkedHashSet<>();
+
+        for (List<T> ranking : rankings) {
+            int rank = 0;
+            for (T item : new LinkedHashSet<>(ranking)) {
+                rank++;
+                scores.merge(item, 1.0 / (k + rank), Double::sum);
+                firstSeen.add(item);
+            }
+        }
+
+        List<T> ordered = new ArrayList<>(firstSeen);
+        // 안정 정렬이므로 동점이면 처음 나온 순서 유지
+        ordered.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+
+        LinkedHashMap<T, Double> fused = new LinkedHashMap<>();
+        ordered.forEach(item -> fused.put(item, scores.get(item)));
+        return fused;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sixpm.domain.ai.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 공고 검색어를 키워드로 나누고, LLM 질의 재작성이 필요한 문장형 질의인지 판별하는 유틸리티
+ */
+public class SearchQueryTerms {
+
+    private static final int MAX_TERMS = 8;
+    private static final int MAX_KEYWORD_TERMS = 4;
+    // pg_trgm은 부분 일치 패턴 안의 연속 3글자로만 인덱스를 탐색하므로 더 짧은 키워드는 인덱스를 쓰지 못함
+    private static final int MIN_TRIGRAM_TERM_LENGTH = 3;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[\\s,./·()\\[\\]\"'!?~]+");
+    // 질문/요청 표현이 있으면 문장형 질의로 보고 재작성
+    private static final Pattern SENTENCE_MARKER = Pattern.compile(
+            "[?？]|알려|찾아|추천|싶|있[나는을어]|어떤|어디|무엇|뭐|할\\s*수|되나|인가|해줘|주세요");
+
+    private SearchQueryTerms() {
+    }
+
+    /**
+     * 검색어를 공백/문장부호로 나눈 키워드 (한 글자 키워드 제외, 최대 8개, 순서 유지)
+     */
+    public static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATOR.split(query.strip()))
+                .filter(term -> term.length() >= 2)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    /**
+     * 트라이그램 인덱스로 찾을 수 있는 키워드 (3글자 이상)
+     */
+    public static List<String> trigramTerms(List<String> terms) {
+        return terms.stream()
+                .filter(term -> term.length() >= MIN_TRIGRAM_TERM_LENGTH)
+                .toList();
+    }
+
+    /**
+     * 단지명, 지역명, 공급유형처럼 키워드만 나열한 짧은 질의인지 판별합니다.
+     * 이런 질의는 LLM 재작성 없이 그대로 검색합니다.
+     */
+    public static boolean isKeywordQuery(String query) {
+        List<String> terms = terms(query);
+        return !terms.isEmpty() && terms.size() <= MAX_KEYWORD_TERMS && !SENTENCE_MARKER.matcher(query).find();
+    }
+
+    /**
+     * LIKE 패턴 특수문자를 이스케이프한 부분 일치 패턴 ('\' 이스케이프)
+     */
+    public static String containsPattern(String term) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
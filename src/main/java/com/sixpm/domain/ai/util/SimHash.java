@@ -0,0 +1,74 @@
+package com.sixpm.domain.ai.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 문서 유사도 판별용 64비트 SimHash 유틸리티
+ * 공백을 제거한 텍스트의 문자 n-gram을 특징으로 사용하므로 띄어쓰기/줄바꿈 차이에 영향을 받지 않고,
+ * 일부 문장만 바뀐 정정공고는 원본과 해밍 거리가 작게 나옵니다.
+ */
+public class SimHash {
+
+    public static final int BAND_COUNT = 4;
+    private static final int BAND_BITS = 16;
+    private static final int SHINGLE_LENGTH = 4;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SimHash() {
+    }
+
+    public static long of(String text) {
+        if (text == null) {
+            return 0L;
+        }
+
+        String compact = WHITESPACE.matcher(text).replaceAll("");
+        if (compact.length() < SHINGLE_LENGTH) {
+            return compact.isEmpty() ? 0L : hash(compact, 0, compact.length());
+        }
+
+        int[] weights = new int[Long.SIZE];
+        for (int start = 0; start + SHINGLE_LENGTH <= compact.length(); start++) {
+            long hash = hash(compact, start, start + SHINGLE_LENGTH);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long simHash = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                simHash |= 1L << bit;
+            }
+        }
+        return simHash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * 64비트를 16비트씩 4개 구간으로 나눈 값. 해밍 거리 3 이하인 두 해시는 적어도 한 구간이 같으므로
+     * 구간 값 일치로 후보를 찾은 뒤 실제 거리를 비교합니다.
+     */
+    public static int band(long simHash, int index) {
+        return (int) ((simHash >>> (index * BAND_BITS)) & 0xFFFFL);
+    }
+
+    // FNV-1a 64 + splitmix64 finalizer
+    private static long hash(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sixpm.domain.ai.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 자격 요건 추출 입력(표 텍스트)의 정규화 및 해시 유틸리티
+ * 공백/번호/공고명 차이만 있는 표는 같은 fingerprint를 갖도록 정규화합니다.
+ */
+public class TableFingerprint {
+
+    // 마크다운 표 구분선 (|---|:---:|)
+    private static final Pattern SEPARATOR_LINE = Pattern.compile("(?m)^[\\s|:\\-]*-{3,}[\\s|:\\-]*$");
+
+    // 줄/셀/대괄호 앞 번호 및 글머리 기호 (1. 1) (1) 가. (가) ① □ ■ ○ ● ※ 등). 1.5 같은 소수는 제외
+    private static final Pattern NUMBERING = Pattern.compile(
+            "(^|[|\\[])\\s*(?:\\d{1,2}[.)](?!\\d)|\\(\\d{1,2}\\)|[가-하][.)]|\\([가-하]\\)|[①-⑳]|[□■○●◦▪▶※·\\-])\\s*",
+            Pattern.MULTILINE);
+
+    private static final Pattern CELL_PADDING = Pattern.compile("[ \\t]*\\|[ \\t]*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TableFingerprint() {
+    }
+
+    /**
+     * 정규화된 텍스트의 SHA-256 해시 (hex, 64자)
+     *
+     * @param text        표 텍스트
+     * @param noticeTitle 공고명 (텍스트에서 제거, null 가능)
+     */
+    public static String of(String text, String noticeTitle) {
+        return sha256(normalize(text, noticeTitle));
+    }
+
+    public static String normalize(String text, String noticeTitle) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+
+        String normalized = text;
+        // 공고명 전체 문자열만 제거 (개별 단어는 지역명 등 의미 있는 값일 수 있으므로 유지)
+        if (noticeTitle != null && !noticeTitle.isBlank()) {
+            normalized = normalized.replace(noticeTitle.strip(), "");
+        }
+
+        normalized = SEPARATOR_LINE.matcher(normalized).replaceAll("");
+        normalized = NUMBERING.matcher(normalized).replaceAll("$1");
+        normalized = CELL_PADDING.matcher(normalized).replaceAll("|");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.strip();
+    }
+
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sixpm.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Upstage 표 요소(마크다운)를 셀 2차원 목록으로 변환하는 유틸리티
+ * 구분선 행은 제외하고, 병합 셀은 Upstage 출력 그대로 빈 칸으로 둡니다.
+ */
+public class TableRows {
+
+    private static final Pattern SEPARATOR_CELL = Pattern.compile(":?-{3,}:?");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TableRows() {
+    }
+
+    public static List<List<String>> parse(String table) {
+        if (table == null || table.isBlank()) {
+            return List.of();
+        }
+        List<List<String>> rows = new ArrayList<>();
+        for (String line : table.split("\n")) {
+            String trimmed = line.strip();
+            if (!trimmed.startsWith("|")) {
+                continue;
+            }
+
+            String inner = trimmed.substring(1, trimmed.endsWith("|") && trimmed.length() > 1
+                    ? trimmed.length() - 1 : trimmed.length());
+            List<String> cells = new ArrayList<>();
+            for (String cell : inner.split("\\|", -1)) {
+                cells.add(clean(cell));
+            }
+
+            if (cells.stream().allMatch(cell -> cell.isEmpty() || SEPARATOR_CELL.matcher(cell).matches())) {
+                continue;
+            }
+            rows.add(cells);
+        }
+        return rows;
+    }
+
+    private static String clean(String cell) {
+        String unescaped = cell.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&")
+                .replace("<br>", " ");
+        return WHITESPACE.matcher(unescaped).replaceAll(" ").strip();
+    }
+}
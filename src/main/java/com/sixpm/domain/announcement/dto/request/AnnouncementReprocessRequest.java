@@ -0,0 +1,40 @@
+package com.sixpm.domain.announcement.dto.request;
+
+import com.sixpm.domain.announcement.enums.ProcessingStage;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * 청약 공고 일괄 재처리 요청
+ */
+@Data
+@Schema(description = "청약 공고 일괄 재처리 요청 (조건을 지정하지 않으면 전체 공고)")
+public class AnnouncementReprocessRequest {
+
+    @Pattern(regexp = "\\d{8}", message = "날짜는 YYYYMMDD 형식이어야 합니다")
+    @Schema(description = "모집공고일 시작 (YYYYMMDD)", example = "20250101")
+    private String fromDate;
+
+    @Pattern(regexp = "\\d{8}", message = "날짜는 YYYYMMDD 형식이어야 합니다")
+    @Schema(description = "모집공고일 종료 (YYYYMMDD)", example = "20251231")
+    private String toDate;
+
+    @Schema(description = "지역명 또는 모집지역코드", example = "광주광역시")
+    private String region;
+
+    @Schema(description = "상세 처리 상태", example = "FAILED")
+    private ProcessingStatus processingStatus;
+
+    @Schema(description = "자격 요건이 없는 공고만 선택", example = "false")
+    private boolean criteriaMissing;
+
+    @Schema(description = "재처리 단계 (ALL: 전체, EXTRACT: 자격 요건만, EMBED: 임베딩만)", example = "EXTRACT")
+    private ProcessingStage stage = ProcessingStage.ALL;
+
+    @Min(value = 1, message = "동시 처리 수는 1 이상이어야 합니다")
+    @Schema(description = "동시 처리 수 (서버 설정 상한을 넘으면 상한 적용)", example = "2")
+    private Integer concurrency;
+}
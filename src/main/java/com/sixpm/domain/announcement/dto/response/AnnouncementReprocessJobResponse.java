@@ -0,0 +1,57 @@
+package com.sixpm.domain.announcement.dto.response;
+
+import com.sixpm.domain.announcement.enums.ProcessingStage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청약 공고 일괄 재처리 작업 진행 상황 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "청약 공고 일괄 재처리 작업 진행 상황")
+public class AnnouncementReprocessJobResponse {
+
+    @Schema(description = "작업 ID")
+    private String jobId;
+
+    @Schema(description = "작업 상태 (RUNNING, COMPLETED, CANCELLED)")
+    private String status;
+
+    @Schema(description = "재처리 단계")
+    private ProcessingStage stage;
+
+    @Schema(description = "동시 처리 수")
+    private Integer concurrency;
+
+    @Schema(description = "대상 공고 수")
+    private Integer total;
+
+    @Schema(description = "처리를 마친 공고 수")
+    private Integer processed;
+
+    @Schema(description = "성공 수")
+    private Integer succeeded;
+
+    @Schema(description = "실패 수")
+    private Integer failed;
+
+    @Schema(description = "생략 수 (PDF 없음, 다른 작업이 처리 중)")
+    private Integer skipped;
+
+    @Schema(description = "진행률 (%)")
+    private Double progressPercent;
+
+    @Schema(description = "시작 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각 (진행 중이면 null)")
+    private LocalDateTime finishedAt;
+}
@@ -6,4 +6,10 @@ import java.util.List;
 public record ParsedDocument(
     String fullText,
     List<Element> elements
-) {}
+) {
+    public ParsedDocument {
+        // 캐시/재사용 시 공유되므로 불변으로 보관
+        fullText = fullText != null ? fullText : "";
+        elements = elements != null ? List.copyOf(elements) : List.of();
+    }
+}
@@ -1,5 +1,6 @@
 package com.sixpm.domain.announcement.entity;
 
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -131,6 +132,20 @@ public class Announcement {
     @Column(name = "fetch_date", nullable = false, length = 8)
     private String fetchDate;
 
+    // 상세 처리 상태 (파싱, 자격 요건 추출, 임베딩)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status", nullable = false, length = 20)
+    private ProcessingStatus processingStatus = ProcessingStatus.PENDING;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "processing_started_at")
+    private LocalDateTime processingStartedAt;
+
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -43,6 +43,11 @@ public class AnnouncementCriteria {
     @Column(name = "income_benchmark", columnDefinition = "jsonb")
     private Map<Integer, Long> incomeBenchmark;
 
+    // 공유 기준 소득표 참조 (동일 기준표를 쓰는 공고끼리 같은 행을 가리킴)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "income_benchmark_reference_id")
+    private IncomeBenchmarkReference incomeBenchmarkReference;
+
     // 3. 자산 기준 매트릭스
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "asset_limits", columnDefinition = "jsonb")
@@ -63,22 +68,26 @@ public class AnnouncementCriteria {
 
     @Builder
     public AnnouncementCriteria(Announcement announcement, String residenceRegion, Integer minAge, Boolean requiresHomeless,
-                                Map<Integer, Long> incomeBenchmark, List<AssetLimitRule> assetLimits, List<IncomeRatioRule> incomeRatios) {
+                                Map<Integer, Long> incomeBenchmark, IncomeBenchmarkReference incomeBenchmarkReference,
+                                List<AssetLimitRule> assetLimits, List<IncomeRatioRule> incomeRatios) {
         this.announcement = announcement;
         this.residenceRegion = residenceRegion;
         this.minAge = minAge != null ? minAge : 19;
         this.requiresHomeless = requiresHomeless != null ? requiresHomeless : true;
         this.incomeBenchmark = incomeBenchmark;
+        this.incomeBenchmarkReference = incomeBenchmarkReference;
         this.assetLimits = assetLimits;
         this.incomeRatios = incomeRatios;
     }
 
     public void updateCriteria(String residenceRegion, Integer minAge, Boolean requiresHomeless,
-                               Map<Integer, Long> incomeBenchmark, List<AssetLimitRule> assetLimits, List<IncomeRatioRule> incomeRatios) {
+                               Map<Integer, Long> incomeBenchmark, IncomeBenchmarkReference incomeBenchmarkReference,
+                               List<AssetLimitRule> assetLimits, List<IncomeRatioRule> incomeRatios) {
         this.residenceRegion = residenceRegion;
         this.minAge = minAge;
         this.requiresHomeless = requiresHomeless;
         this.incomeBenchmark = incomeBenchmark;
+        this.incomeBenchmarkReference = incomeBenchmarkReference;
         this.assetLimits = assetLimits;
         this.incomeRatios = incomeRatios;
     }
@@ -0,0 +1,76 @@
+package com.sixpm.domain.announcement.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Entity
+@Table(name = "announcement_signature")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnnouncementSignature {
+
+    @Id
+    @Column(name = "announcement_id")
+    private Long announcementId;
+
+    // 공고문 전체 텍스트의 64비트 SimHash
+    @Column(name = "simhash", nullable = false)
+    private long simhash;
+
+    // 후보 검색용 16비트 구간 값
+    @Column(name = "band0", nullable = false)
+    private int band0;
+
+    @Column(name = "band1", nullable = false)
+    private int band1;
+
+    @Column(name = "band2", nullable = false)
+    private int band2;
+
+    @Column(name = "band3", nullable = false)
+    private int band3;
+
+    // 섹션별 내용 해시 목록
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "section_hashes", columnDefinition = "jsonb", nullable = false)
+    private List<String> sectionHashes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public AnnouncementSignature(Long announcementId, long simhash, int band0, int band1, int band2, int band3,
+                                 List<String> sectionHashes) {
+        this.announcementId = announcementId;
+        this.simhash = simhash;
+        this.band0 = band0;
+        this.band1 = band1;
+        this.band2 = band2;
+        this.band3 = band3;
+        this.sectionHashes = sectionHashes;
+    }
+
+    public void updateSignature(long simhash, int band0, int band1, int band2, int band3, List<String> sectionHashes) {
+        this.simhash = simhash;
+        this.band0 = band0;
+        this.band1 = band1;
+        this.band2 = band2;
+        this.band3 = band3;
+        this.sectionHashes = sectionHashes;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sixpm.domain.announcement.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "income_benchmark_reference")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IncomeBenchmarkReference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정렬된 가구원수별 금액의 SHA-256 (hex)
+    @Column(name = "fingerprint", length = 64, nullable = false, unique = true)
+    private String fingerprint;
+
+    // 가구원수별 월평균소득 100% 금액 (Key: 가구원수, Value: 금액)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "benchmark", columnDefinition = "jsonb", nullable = false)
+    private Map<Integer, Long> benchmark;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public IncomeBenchmarkReference(String fingerprint, Map<Integer, Long> benchmark) {
+        this.fingerprint = fingerprint;
+        this.benchmark = benchmark;
+    }
+}
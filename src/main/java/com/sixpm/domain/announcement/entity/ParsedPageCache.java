@@ -0,0 +1,50 @@
+package com.sixpm.domain.announcement.entity;
+
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Entity
+@Table(name = "parsed_page_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ParsedPageCache {
+
+    // 페이지 내용의 SHA-256 (hex)
+    @Id
+    @Column(name = "page_hash", length = 64)
+    private String pageHash;
+
+    // 페이지의 Upstage 파싱 요소 (페이지 번호는 사용 시 현재 문서 기준으로 바꿈)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "elements", columnDefinition = "jsonb", nullable = false)
+    private List<Element> elements;
+
+    @Column(name = "hit_count", nullable = false)
+    private int hitCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ParsedPageCache(String pageHash, List<Element> elements) {
+        this.pageHash = pageHash;
+        this.elements = elements;
+        this.hitCount = 0;
+    }
+}
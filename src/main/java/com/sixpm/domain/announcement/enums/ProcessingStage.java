@@ -0,0 +1,17 @@
+package com.sixpm.domain.announcement.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공고 상세 처리 단계 (재처리 시 일부 단계만 다시 실행)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProcessingStage {
+    ALL("파싱, 자격 요건 추출, 임베딩 전체"),
+    EXTRACT("자격 요건만 다시 추출"),
+    EMBED("임베딩만 다시 생성");
+
+    private final String description;
+}
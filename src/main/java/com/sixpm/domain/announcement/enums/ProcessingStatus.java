@@ -0,0 +1,19 @@
+package com.sixpm.domain.announcement.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공고 상세 처리(파싱, 자격 요건 추출, 임베딩) 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProcessingStatus {
+    PENDING("처리 대기"),
+    PROCESSING("처리 중"),
+    COMPLETED("처리 완료"),
+    FAILED("처리 실패"),
+    SKIPPED("처리 생략 (PDF 없음)");
+
+    private final String description;
+}
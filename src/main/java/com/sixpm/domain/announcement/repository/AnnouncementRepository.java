@@ -1,11 +1,18 @@
 package com.sixpm.domain.announcement.repository;
 
 import com.sixpm.domain.announcement.entity.Announcement;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,5 +53,103 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Long
      * 지역코드로 필터링하여 페이징 조회
      */
     Page<Announcement> findBySubscrptAreaCode(String subscrptAreaCode, Pageable pageable);
-}
 
+    /**
+     * 상세 처리 상태로 청약공고 목록 조회
+     */
+    List<Announcement> findByProcessingStatusIn(Collection<ProcessingStatus> statuses);
+
+    /**
+     * 상세 처리 상태 갱신 (처리 작업 스레드에서 엔티티를 다시 읽지 않고 갱신)
+     * processedAt이 null이면 기존 처리 시각을 유지합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Announcement a SET a.processingStatus = :status, a.processedAt = COALESCE(:processedAt, a.processedAt) WHERE a.id = :id")
+    int updateProcessingStatus(@Param("id") Long id,
+                               @Param("status") ProcessingStatus status,
+                               @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 처리 선점. 다른 작업(처리 대기열, 일괄 재처리, 다른 노드)이 처리 중이 아닐 때만 PROCESSING으로 바꾸고
+     * 처리 임대 만료 판단을 위해 시작 시각을 기록합니다.
+     *
+     * @return 선점했으면 1, 이미 처리 중이거나 공고가 없으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Announcement a SET a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.PROCESSING, " +
+            "a.processingStartedAt = :startedAt " +
+            "WHERE a.id = :id AND a.processingStatus <> com.sixpm.domain.announcement.enums.ProcessingStatus.PROCESSING")
+    int claimForProcessing(@Param("id") Long id, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * 처리 임대 갱신. 단계마다 시작 시각을 갱신해 오래 걸리는 처리가 임대 만료로 다시 대기 상태가 되지 않도록 합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Announcement a SET a.processingStartedAt = :renewedAt " +
+            "WHERE a.id = :id AND a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.PROCESSING")
+    int renewLease(@Param("id") Long id, @Param("renewedAt") LocalDateTime renewedAt);
+
+    /**
+     * 처리 완료 표시. 성공하면 실패 횟수를 초기화해 이후 실패도 다시 자동 재시도 대상이 되도록 합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Announcement a SET a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.COMPLETED, " +
+            "a.processedAt = :processedAt, a.retryCount = 0 WHERE a.id = :id")
+    int markCompleted(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 처리 실패 표시. 자동 재시도 횟수 제한을 위해 실패 횟수를 올립니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Announcement a SET a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.FAILED, " +
+            "a.processedAt = :processedAt, a.retryCount = a.retryCount + 1 WHERE a.id = :id")
+    int markFailed(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 처리 임대가 만료된 공고(처리 도중 노드가 종료되는 등으로 PROCESSING에 남은 공고)를 대기 상태로 되돌립니다.
+     *
+     * @return 되돌린 공고 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Announcement a SET a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.PENDING " +
+            "WHERE a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.PROCESSING " +
+            "AND (a.processingStartedAt IS NULL OR a.processingStartedAt < :cutoff)")
+    int releaseExpiredLeases(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 자동 재시도 대상 실패 공고 조회 (실패 횟수가 maxRetries 미만)
+     */
+    @Query("SELECT a FROM Announcement a " +
+            "WHERE a.processingStatus = com.sixpm.domain.announcement.enums.ProcessingStatus.FAILED " +
+            "AND a.retryCount < :maxRetries")
+    List<Announcement> findRetryableFailures(@Param("maxRetries") int maxRetries);
+
+    /**
+     * 일괄 재처리 대상 ID 조회 (조건이 null이면 해당 조건은 적용하지 않음)
+     *
+     * @param fromDate        모집공고일 시작 (YYYYMMDD)
+     * @param toDate          모집공고일 종료 (YYYYMMDD)
+     * @param areaCode        모집지역코드
+     * @param status          상세 처리 상태
+     * @param criteriaMissing true면 자격 요건이 없는 공고만
+     */
+    @Query("SELECT a.id FROM Announcement a " +
+            "WHERE (:fromDate IS NULL OR a.rcritPblancDe >= :fromDate) " +
+            "AND (:toDate IS NULL OR a.rcritPblancDe <= :toDate) " +
+            "AND (:areaCode IS NULL OR a.subscrptAreaCode = :areaCode) " +
+            "AND (:status IS NULL OR a.processingStatus = :status) " +
+            "AND (:criteriaMissing = false OR NOT EXISTS " +
+            "(SELECT c.id FROM AnnouncementCriteria c WHERE c.announcement = a)) " +
+            "ORDER BY a.id")
+    List<Long> findIdsForReprocessing(@Param("fromDate") String fromDate,
+                                      @Param("toDate") String toDate,
+                                      @Param("areaCode") String areaCode,
+                                      @Param("status") ProcessingStatus status,
+                                      @Param("criteriaMissing") boolean criteriaMissing);
+}
@@ -0,0 +1,24 @@
+package com.sixpm.domain.announcement.repository;
+
+import com.sixpm.domain.announcement.entity.AnnouncementSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AnnouncementSignatureRepository extends JpaRepository<AnnouncementSignature, Long> {
+
+    /**
+     * 16비트 구간 중 하나라도 같은 다른 공고의 시그니처 (유사 공고 후보)
+     */
+    @Query("SELECT s FROM AnnouncementSignature s WHERE s.announcementId <> :announcementId " +
+            "AND (s.band0 = :band0 OR s.band1 = :band1 OR s.band2 = :band2 OR s.band3 = :band3)")
+    List<AnnouncementSignature> findCandidates(@Param("announcementId") Long announcementId,
+                                               @Param("band0") int band0,
+                                               @Param("band1") int band1,
+                                               @Param("band2") int band2,
+                                               @Param("band3") int band3);
+}
@@ -0,0 +1,12 @@
+package com.sixpm.domain.announcement.repository;
+
+import com.sixpm.domain.announcement.entity.IncomeBenchmarkReference;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IncomeBenchmarkReferenceRepository extends JpaRepository<IncomeBenchmarkReference, Long> {
+    Optional<IncomeBenchmarkReference> findByFingerprint(String fingerprint);
+}
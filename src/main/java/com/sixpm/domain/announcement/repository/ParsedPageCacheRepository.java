@@ -0,0 +1,23 @@
+package com.sixpm.domain.announcement.repository;
+
+import com.sixpm.domain.announcement.entity.ParsedPageCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public interface ParsedPageCacheRepository extends JpaRepository<ParsedPageCache, String> {
+
+    /**
+     * 캐시 적중 횟수 증가
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ParsedPageCache p SET p.hitCount = p.hitCount + 1 WHERE p.pageHash IN :pageHashes")
+    int incrementHitCount(@Param("pageHashes") Collection<String> pageHashes);
+}
@@ -0,0 +1,172 @@
+package com.sixpm.domain.announcement.scheduler;
+
+import com.sixpm.common.lock.ClusterLock;
+import com.sixpm.domain.announcement.dto.request.AnnouncementFetchRequest;
+import com.sixpm.domain.announcement.dto.response.AnnouncementFetchResponse;
+import com.sixpm.domain.announcement.entity.Announcement;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import com.sixpm.domain.announcement.repository.AnnouncementRepository;
+import com.sixpm.domain.announcement.service.AnnouncementProcessingQueue;
+import com.sixpm.domain.announcement.service.AnnouncementService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 청약 공고 정기 수집 스케줄러.
+ * - 일일 수집: 최근 공고일자의 공고를 LH API에서 가져와 저장 (이미 저장된 공고는 건너뜀)
+ * - 처리 스윕: 아직 처리되지 않았거나 실패한 공고를 처리 대기열에 다시 등록
+ *   (처리 임대가 만료된 PROCESSING 공고는 대기 상태로 되돌리고, 실패 공고는 횟수 제한과 지수 백오프를 적용)
+ *
+ * 여러 노드가 떠 있어도 각 실행 시점마다 한 노드만 실행하도록 PostgreSQL advisory lock을 사용합니다.
+ * 실행 시점은 cron 시각에서 지연(jitter)을 더해 흩어 놓되, 같은 실행 시점에는 모든 노드가 같은 지연을
+ * 사용하므로 노드들이 거의 동시에 락을 시도하고 한 노드만 성공합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "ingestion.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class AnnouncementIngestionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnnouncementIngestionScheduler.class);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String DELTA_SYNC_LOCK = "announcement-ingestion:delta-sync";
+    private static final String SWEEP_LOCK = "announcement-ingestion:processing-sweep";
+
+    private final AnnouncementService announcementService;
+    private final AnnouncementRepository announcementRepository;
+    private final AnnouncementProcessingQueue processingQueue;
+    private final ClusterLock clusterLock;
+    private final ZoneId zone;
+    private final int lookbackDays;
+    private final long maxJitterSeconds;
+    private final Duration lockMinHold;
+    private final Duration processingLease;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public AnnouncementIngestionScheduler(
+            AnnouncementService announcementService,
+            AnnouncementRepository announcementRepository,
+            AnnouncementProcessingQueue processingQueue,
+            ClusterLock clusterLock,
+            @Value("${ingestion.scheduler.zone:Asia/Seoul}") String zone,
+            @Value("${ingestion.scheduler.delta-sync-lookback-days:1}") int lookbackDays,
+            @Value("${ingestion.scheduler.max-jitter-seconds:900}") long maxJitterSeconds,
+            @Value("${ingestion.scheduler.lock-min-hold-seconds:60}") long lockMinHoldSeconds,
+            @Value("${ingestion.scheduler.processing-lease-minutes:30}") long processingLeaseMinutes,
+            @Value("${ingestion.scheduler.max-retries:5}") int maxRetries,
+            @Value("${ingestion.scheduler.retry-backoff-minutes:60}") long retryBackoffMinutes
+    ) {
+        this.announcementService = announcementService;
+        this.announcementRepository = announcementRepository;
+        this.processingQueue = processingQueue;
+        this.clusterLock = clusterLock;
+        this.zone = ZoneId.of(zone);
+        this.lookbackDays = lookbackDays;
+        this.maxJitterSeconds = maxJitterSeconds;
+        this.lockMinHold = Duration.ofSeconds(lockMinHoldSeconds);
+        this.processingLease = Duration.ofMinutes(processingLeaseMinutes);
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMinutes(retryBackoffMinutes);
+    }
+
+    /**
+     * 일일 수집. 공고가 늦게 등록되는 경우가 있어 오늘부터 lookback-days 전까지 다시 조회합니다.
+     */
+    @Scheduled(cron = "${ingestion.scheduler.delta-sync-cron:0 0 4 * * *}",
+            zone = "${ingestion.scheduler.zone:Asia/Seoul}")
+    public void runDeltaSync() {
+        runOnLeader(DELTA_SYNC_LOCK, this::deltaSync);
+    }
+
+    /**
+     * 처리 스윕. 재시작 등으로 대기열에서 사라진 공고와 실패한 공고를 다시 등록합니다.
+     */
+    @Scheduled(cron = "${ingestion.scheduler.sweep-cron:0 30 */2 * * *}",
+            zone = "${ingestion.scheduler.zone:Asia/Seoul}")
+    public void runProcessingSweep() {
+        runOnLeader(SWEEP_LOCK, this::processingSweep);
+    }
+
+    private void deltaSync() {
+        LocalDate today = LocalDate.now(zone);
+        for (int daysAgo = lookbackDays; daysAgo >= 0; daysAgo--) {
+            AnnouncementFetchRequest request = new AnnouncementFetchRequest();
+            request.setAnnouncementDate(today.minusDays(daysAgo).format(DATE_FORMAT));
+
+            AnnouncementFetchResponse response = announcementService.fetchAndUploadAnnouncements(request);
+            logger.info("Scheduled delta sync for {}: processed={}, uploaded={}, failed={}",
+                    request.getAnnouncementDate(), response.getProcessedCount(),
+                    response.getUploadedCount(), response.getFailedCount());
+        }
+    }
+
+    private void processingSweep() {
+        LocalDateTime now = LocalDateTime.now();
+        // 처리 중(PROCESSING)인 공고는 다른 작업이 진행 중일 수 있으므로 임대가 만료된 공고만 되돌림
+        int released = announcementRepository.releaseExpiredLeases(now.minus(processingLease));
+
+        List<Announcement> pending = announcementRepository.findByProcessingStatusIn(List.of(ProcessingStatus.PENDING));
+        List<Announcement> retries = announcementRepository.findRetryableFailures(maxRetries).stream()
+                .filter(announcement -> isRetryDue(announcement, now))
+                .toList();
+        pending.forEach(processingQueue::enqueue);
+        retries.forEach(processingQueue::enqueue);
+        logger.info("Scheduled processing sweep enqueued {} pending ({} expired leases) and {} failed announcements (queue size={})",
+                pending.size(), released, retries.size(), processingQueue.size());
+    }
+
+    /**
+     * 실패 횟수에 따라 재시도 간격을 늘립니다. (retry-backoff, 2배, 4배 ...)
+     */
+    private boolean isRetryDue(Announcement announcement, LocalDateTime now) {
+        if (announcement.getProcessedAt() == null) {
+            return true;
+        }
+        int doublings = Math.min(Math.max(announcement.getRetryCount() - 1, 0), 16);
+        Duration backoff = retryBackoff.multipliedBy(1L << doublings);
+        return !announcement.getProcessedAt().plus(backoff).isAfter(now);
+    }
+
+    private void runOnLeader(String lockName, Runnable task) {
+        LocalDateTime tick = LocalDateTime.now(zone).truncatedTo(ChronoUnit.MINUTES);
+        Duration jitter = jitterFor(lockName, tick);
+        try {
+            Thread.sleep(jitter.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            boolean executed = clusterLock.runExclusively(lockName, lockMinHold, task);
+            if (!executed) {
+                logger.info("Skipping scheduled {} at {}: another node holds the lock", lockName, tick);
+            }
+        } catch (Exception e) {
+            logger.error("Scheduled {} at {} failed", lockName, tick, e);
+        }
+    }
+
+    /**
+     * 실행 시점마다 바뀌지만 노드 간에는 같은 지연 시간. (작업 이름 + cron 시각 기준)
+     */
+    private Duration jitterFor(String lockName, LocalDateTime tick) {
+        if (maxJitterSeconds <= 0) {
+            return Duration.ZERO;
+        }
+        int hash = (lockName + "@" + tick).hashCode();
+        return Duration.ofSeconds(Math.floorMod(hash, maxJitterSeconds + 1));
+    }
+}
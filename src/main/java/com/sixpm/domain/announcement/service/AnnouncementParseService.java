@@ -1,13 +1,37 @@
 package com.sixpm.domain.announcement.service;
 
 import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.domain.announcement.entity.ParsedPageCache;
+import com.sixpm.domain.announcement.repository.ParsedPageCacheRepository;
+import com.sixpm.infrastructure.pdf.LocalPdfTextExtractor;
+import com.sixpm.infrastructure.pdf.LocalPdfTextExtractor.PageText;
+import com.sixpm.infrastructure.pdf.PdfPageSplitter;
+import com.sixpm.infrastructure.pdf.PdfPageSplitter.PdfPart;
 import com.sixpm.infrastructure.upstage.client.UpstageClient;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class AnnouncementParseService {
@@ -16,10 +40,57 @@ public class AnnouncementParseService {
 
     private final AnnouncementPdfDownloadService pdfDownloadService;
     private final UpstageClient upstageClient;
+    private final PdfPageSplitter pdfPageSplitter;
+    private final LocalPdfTextExtractor localPdfTextExtractor;
+    private final ParsedPageCacheRepository pageCacheRepository;
+    private final boolean localExtractionEnabled;
+    private final int splitThresholdPages;
+    private final int pagesPerChunk;
 
-    public AnnouncementParseService(AnnouncementPdfDownloadService pdfDownloadService, UpstageClient upstageClient) {
+    // Upstage 동시 호출 수 제한 (API 쿼터 보호)
+    private final Semaphore upstageQuota;
+
+    // 파서별 처리 페이지 수 (local: Upstage 호출 없이 처리된 페이지, cache: 페이지 캐시에서 가져온 페이지)
+    private final Counter localPageCounter;
+    private final Counter upstagePageCounter;
+    private final Counter cachedPageCounter;
+
+    // Virtual Thread Executor (Java 21+)
+    private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AnnouncementParseService(
+            AnnouncementPdfDownloadService pdfDownloadService,
+            UpstageClient upstageClient,
+            PdfPageSplitter pdfPageSplitter,
+            LocalPdfTextExtractor localPdfTextExtractor,
+            ParsedPageCacheRepository pageCacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${pdf.local-extraction.enabled:true}") boolean localExtractionEnabled,
+            @Value("${upstage.parse.split-threshold-pages:20}") int splitThresholdPages,
+            @Value("${upstage.parse.pages-per-chunk:10}") int pagesPerChunk,
+            @Value("${upstage.parse.max-concurrency:4}") int maxConcurrency
+    ) {
         this.pdfDownloadService = pdfDownloadService;
         this.upstageClient = upstageClient;
+        this.pdfPageSplitter = pdfPageSplitter;
+        this.localPdfTextExtractor = localPdfTextExtractor;
+        this.pageCacheRepository = pageCacheRepository;
+        this.localExtractionEnabled = localExtractionEnabled;
+        this.splitThresholdPages = splitThresholdPages;
+        this.pagesPerChunk = pagesPerChunk;
+        this.upstageQuota = new Semaphore(maxConcurrency, true);
+        this.localPageCounter = Counter.builder("announcement.parse.pages")
+                .description("Parsed PDF pages by parser")
+                .tag("parser", "local")
+                .register(meterRegistry);
+        this.upstagePageCounter = Counter.builder("announcement.parse.pages")
+                .description("Parsed PDF pages by parser")
+                .tag("parser", "upstage")
+                .register(meterRegistry);
+        this.cachedPageCounter = Counter.builder("announcement.parse.pages")
+                .description("Parsed PDF pages by parser")
+                .tag("parser", "cache")
+                .register(meterRegistry);
     }
 
     /**
@@ -34,17 +105,301 @@ public class AnnouncementParseService {
         // 1. PDF 다운로드
         byte[] fileBytes = pdfDownloadService.downloadPdf(pdfFileUrl);
 
+        return parseDownloadedPdf(pdfFileUrl, fileBytes);
+    }
+
+    /**
+     * 이미 다운로드한 PDF를 파싱합니다. (다운로드 후 파일 크기를 보고 처리 여부를 정하는 호출부용)
+     *
+     * @param pdfFileUrl 원본 URL (파일명 추출용)
+     * @param fileBytes  PDF 파일 바이트
+     */
+    public ParsedDocument parseDownloadedPdf(String pdfFileUrl, byte[] fileBytes) {
         // 2. 파일명 추출 (URL에서)
         String filename = extractFilenameFromUrl(pdfFileUrl);
 
-        // 3. Upstage 파싱 요청
-        ParsedDocument parsedDocument = upstageClient.parseDocument(fileBytes, filename);
-        
+        // 3. 파싱 (로컬 추출 + Upstage 레이아웃 파싱)
+        ParsedDocument parsedDocument = parsePdf(fileBytes, filename);
+
         logger.info("Successfully parsed announcement PDF. Text length: {}", parsedDocument.fullText().length());
-        
+
         return parsedDocument;
     }
 
+    /**
+     * 로컬 텍스트 추출로 충분한 페이지는 Upstage를 거치지 않고, 표/스캔 페이지만 Upstage로 파싱한 뒤
+     * 페이지 순서대로 병합합니다. Upstage 대상 페이지 중 내용이 같은 페이지를 이전에 파싱한 적이 있으면
+     * 캐시된 요소를 사용합니다. PDF로 읽을 수 없는 파일(HWP 등)은 한 번에 Upstage로 파싱합니다.
+     */
+    public ParsedDocument parsePdf(byte[] fileBytes, String filename) {
+        int pageCount;
+        try {
+            pageCount = pdfPageSplitter.countPages(fileBytes);
+        } catch (Exception e) {
+            logger.warn("Could not read page count of {}. Parsing as a single document.", filename);
+            return parseWithQuota(fileBytes, filename);
+        }
+
+        List<PageText> localPages = extractLocally(fileBytes, filename, pageCount);
+        List<Integer> layoutPages = localPages.stream()
+                .filter(PageText::needsLayoutParsing)
+                .map(PageText::pageNumber)
+                .toList();
+
+        List<Element> elements = new ArrayList<>();
+        for (PageText page : localPages) {
+            if (!page.needsLayoutParsing() && !page.text().isBlank()) {
+                elements.addAll(localPdfTextExtractor.toElements(page));
+            }
+        }
+        if (!layoutPages.isEmpty()) {
+            elements.addAll(parseLayoutPages(fileBytes, filename, pageCount, layoutPages));
+        }
+
+        localPageCounter.increment(pageCount - layoutPages.size());
+        logger.info("Parsing {}: {} pages extracted locally, {} pages need layout parsing",
+                filename, pageCount - layoutPages.size(), layoutPages.size());
+
+        // 페이지 순서로 정렬 (같은 페이지 내에서는 파싱 순서 유지)
+        elements.sort(Comparator.comparingInt(Element::page));
+        return assemble(elements);
+    }
+
+    /**
+     * 레이아웃 파싱이 필요한 페이지의 요소를 캐시에서 가져오고, 캐시에 없는 페이지만 Upstage로 파싱하여 캐시에 저장합니다.
+     */
+    private List<Element> parseLayoutPages(byte[] fileBytes, String filename, int pageCount, List<Integer> layoutPages) {
+        Map<Integer, String> pageHashes = hashPages(fileBytes, filename, layoutPages);
+        Map<Integer, List<Element>> cachedPages = findCachedPages(pageHashes);
+
+        List<Integer> missingPages = layoutPages.stream()
+                .filter(pageNumber -> !cachedPages.containsKey(pageNumber))
+                .toList();
+
+        cachedPageCounter.increment(cachedPages.size());
+        upstagePageCounter.increment(missingPages.size());
+        if (!cachedPages.isEmpty()) {
+            logger.info("Parsing {}: {} layout pages served from page cache, {} pages sent to Upstage",
+                    filename, cachedPages.size(), missingPages.size());
+        }
+
+        List<Element> elements = new ArrayList<>();
+        cachedPages.forEach((pageNumber, pageElements) -> elements.addAll(pageElements));
+
+        if (!missingPages.isEmpty()) {
+            List<Element> parsed = missingPages.size() == pageCount
+                    ? parseAllPages(fileBytes, filename, pageCount).elements()
+                    : parseSelectedPages(fileBytes, filename, missingPages).elements();
+            elements.addAll(parsed);
+            saveToPageCache(parsed, missingPages, pageHashes);
+        }
+        return elements;
+    }
+
+    private Map<Integer, String> hashPages(byte[] fileBytes, String filename, List<Integer> pageNumbers) {
+        try {
+            List<String> hashes = pdfPageSplitter.pageHashes(fileBytes);
+            Map<Integer, String> pageHashes = new HashMap<>();
+            for (int pageNumber : pageNumbers) {
+                pageHashes.put(pageNumber, hashes.get(pageNumber - 1));
+            }
+            return pageHashes;
+        } catch (Exception e) {
+            logger.warn("Could not hash pages of {}. Page cache disabled for this document.", filename, e);
+            return Map.of();
+        }
+    }
+
+    private Map<Integer, List<Element>> findCachedPages(Map<Integer, String> pageHashes) {
+        if (pageHashes.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            Map<String, List<Element>> elementsByHash = pageCacheRepository
+                    .findAllById(new LinkedHashSet<>(pageHashes.values())).stream()
+                    .collect(Collectors.toMap(ParsedPageCache::getPageHash, ParsedPageCache::getElements));
+            if (elementsByHash.isEmpty()) {
+                return Map.of();
+            }
+            pageCacheRepository.incrementHitCount(elementsByHash.keySet());
+
+            Map<Integer, List<Element>> cachedPages = new HashMap<>();
+            pageHashes.forEach((pageNumber, hash) -> {
+                List<Element> cached = elementsByHash.get(hash);
+                if (cached != null) {
+                    cachedPages.put(pageNumber, withPage(cached, pageNumber));
+                }
+            });
+            return cachedPages;
+        } catch (Exception e) {
+            logger.warn("Failed to read parsed page cache", e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 새로 파싱한 요소를 페이지별로 묶어 저장합니다. 요소가 없는 페이지도 빈 목록으로 저장해 다시 파싱하지 않습니다.
+     */
+    private void saveToPageCache(List<Element> parsed, List<Integer> pageNumbers, Map<Integer, String> pageHashes) {
+        if (pageHashes.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Element>> elementsByPage = parsed.stream()
+                .collect(Collectors.groupingBy(Element::page));
+        Set<String> savedHashes = new LinkedHashSet<>();
+        List<ParsedPageCache> entries = new ArrayList<>();
+        for (int pageNumber : pageNumbers) {
+            String hash = pageHashes.get(pageNumber);
+            // 같은 문서 안에 동일한 페이지가 여러 번 있으면 한 번만 저장
+            if (hash != null && savedHashes.add(hash)) {
+                entries.add(ParsedPageCache.builder()
+                        .pageHash(hash)
+                        .elements(withPage(elementsByPage.getOrDefault(pageNumber, List.of()), 0))
+                        .build());
+            }
+        }
+
+        try {
+            pageCacheRepository.saveAll(entries);
+        } catch (Exception e) {
+            // 동시에 같은 페이지를 파싱한 경우 등 - 캐시 저장 실패는 파싱 결과에 영향 없음
+            logger.debug("Failed to store parsed page cache", e);
+        }
+    }
+
+    private List<Element> withPage(List<Element> elements, int pageNumber) {
+        return elements.stream()
+                .map(element -> new Element(element.id(), pageNumber, element.category(),
+                        element.content(), element.coordinates()))
+                .toList();
+    }
+
+    private List<PageText> extractLocally(byte[] fileBytes, String filename, int pageCount) {
+        if (!localExtractionEnabled) {
+            return allPagesNeedLayout(pageCount);
+        }
+
+        try {
+            return localPdfTextExtractor.extract(fileBytes, filename, pageCount);
+        } catch (Exception e) {
+            logger.warn("Local text extraction failed for {}. Sending all pages to Upstage.", filename, e);
+            return allPagesNeedLayout(pageCount);
+        }
+    }
+
+    private List<PageText> allPagesNeedLayout(int pageCount) {
+        return IntStream.rangeClosed(1, pageCount)
+                .mapToObj(pageNumber -> new PageText(pageNumber, "", true))
+                .toList();
+    }
+
+    /**
+     * 페이지 수가 임계값을 넘는 PDF는 페이지 범위 단위로 나누어 병렬로 파싱한 뒤 페이지 순서대로 병합합니다.
+     */
+    private ParsedDocument parseAllPages(byte[] fileBytes, String filename, int pageCount) {
+        if (pageCount <= splitThresholdPages) {
+            return parseWithQuota(fileBytes, filename);
+        }
+
+        logger.info("Splitting {}-page PDF {} into parts of up to {} pages", pageCount, filename, pagesPerChunk);
+        return parseParts(pdfPageSplitter.split(fileBytes, pagesPerChunk), filename);
+    }
+
+    private ParsedDocument parseSelectedPages(byte[] fileBytes, String filename, List<Integer> pageNumbers) {
+        return parseParts(pdfPageSplitter.split(fileBytes, pageNumbers, pagesPerChunk), filename);
+    }
+
+    private ParsedDocument parseParts(List<PdfPart> parts, String filename) {
+        List<CompletableFuture<ParsedDocument>> futures = parts.stream()
+                .map(part -> CompletableFuture.supplyAsync(
+                        () -> remapPages(parseWithQuota(part.bytes(), filename), part.pageNumbers()),
+                        virtualThreadExecutor))
+                .toList();
+
+        // 조각은 페이지 순서대로 생성되므로 결과도 그 순서대로 이어 붙인다
+        List<Element> elements = new ArrayList<>();
+        for (CompletableFuture<ParsedDocument> future : futures) {
+            elements.addAll(future.join().elements());
+        }
+        return assemble(elements);
+    }
+
+    private ParsedDocument parseWithQuota(byte[] fileBytes, String filename) {
+        try {
+            upstageQuota.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for Upstage quota", e);
+        }
+
+        try {
+            return upstageClient.parseDocument(fileBytes, filename);
+        } finally {
+            upstageQuota.release();
+        }
+    }
+
+    /**
+     * 조각 내 페이지 번호(1부터)를 원본 문서의 페이지 번호로 변환합니다.
+     * Upstage 좌표는 페이지 크기 대비 상대값이므로 그대로 유지합니다.
+     */
+    private ParsedDocument remapPages(ParsedDocument partDocument, List<Integer> pageNumbers) {
+        List<Element> elements = partDocument.elements().stream()
+                .map(element -> new Element(
+                        element.id(),
+                        toOriginalPage(element.page(), pageNumbers),
+                        element.category(),
+                        element.content(),
+                        element.coordinates()))
+                .toList();
+        return new ParsedDocument(partDocument.fullText(), elements);
+    }
+
+    private int toOriginalPage(int partPage, List<Integer> pageNumbers) {
+        if (partPage < 1 || partPage > pageNumbers.size()) {
+            return pageNumbers.get(0);
+        }
+        return pageNumbers.get(partPage - 1);
+    }
+
+    /**
+     * 요소 ID는 병합 후 문서 전체에서 유일하도록 순서대로 다시 매기고,
+     * 전체 텍스트는 요소별 마크다운(없으면 텍스트)을 이어 붙여 만듭니다.
+     */
+    private ParsedDocument assemble(List<Element> elements) {
+        StringBuilder fullText = new StringBuilder();
+        List<Element> renumbered = new ArrayList<>(elements.size());
+
+        for (Element element : elements) {
+            renumbered.add(new Element(
+                    renumbered.size(),
+                    element.page(),
+                    element.category(),
+                    element.content(),
+                    element.coordinates()));
+
+            String text = elementText(element);
+            if (!text.isBlank()) {
+                fullText.append(text).append("\n\n");
+            }
+        }
+
+        return new ParsedDocument(fullText.toString().strip(), renumbered);
+    }
+
+    private String elementText(Element element) {
+        Content content = element.content();
+        if (content == null) {
+            return "";
+        }
+        if (content.markdown() != null) {
+            return content.markdown();
+        }
+        return content.text() != null ? content.text() : "";
+    }
+
     private String extractFilenameFromUrl(String url) {
         try {
             String path = URI.create(url).getPath();
@@ -54,4 +409,4 @@ public class AnnouncementParseService {
             return "announcement.pdf";
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,278 @@
+package com.sixpm.domain.announcement.service;
+
+import com.sixpm.domain.announcement.entity.Announcement;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공고 상세 처리(파싱, 자격 요건 추출, 임베딩) 대기열.
+ * 접수 마감일이 가까운 공고부터 처리하고(같으면 공고일이 빠른 순), 오래 기다린 공고는 점점 앞당겨(aging)
+ * 어떤 공고도 무한히 밀리지 않도록 합니다. 사용자가 조회/리포트 요청한 공고는 추가로 앞당깁니다.
+ *
+ * 대기열은 메모리에만 있으므로 재시작 시 대기 중이던 공고는 다시 등록해야 합니다.
+ * 대기 중이거나 작업 스레드가 처리 중인 공고는 다시 등록하지 않습니다.
+ */
+@Component
+public class AnnouncementProcessingQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnnouncementProcessingQueue.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 마감일을 알 수 없거나 이미 마감된 공고는 이만큼 남은 것으로 본다
+    private static final long UNKNOWN_DEADLINE_DAYS = 30;
+    // 마감 임박으로 분류하는 기준 (처리 지연 지표 태그용)
+    private static final long URGENT_DEADLINE_DAYS = 3;
+
+    private final AnnouncementProcessingService processingService;
+    private final Clock clock;
+    private final int workerCount;
+    private final Duration agingInterval;
+    private final long boostDays;
+    private final long maxBoostDays;
+
+    private final Timer urgentLatency;
+    private final Timer normalLatency;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition enqueued = lock.newCondition();
+    private final Map<Long, Entry> entries = new LinkedHashMap<>();
+    // 작업 스레드가 꺼내 처리 중인 공고
+    private final Set<Long> inFlight = new HashSet<>();
+    private long sequence;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running = true;
+
+    public AnnouncementProcessingQueue(
+            AnnouncementProcessingService processingService,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${processing.queue.workers:4}") int workerCount,
+            @Value("${processing.queue.aging-interval-minutes:360}") long agingIntervalMinutes,
+            @Value("${processing.queue.boost-days:3}") long boostDays,
+            @Value("${processing.queue.max-boost-days:14}") long maxBoostDays
+    ) {
+        this.processingService = processingService;
+        this.clock = clock;
+        this.workerCount = workerCount;
+        this.agingInterval = Duration.ofMinutes(agingIntervalMinutes);
+        this.boostDays = boostDays;
+        this.maxBoostDays = maxBoostDays;
+
+        this.urgentLatency = Timer.builder("announcement.processing.time-to-searchable")
+                .description("Time from enqueue until an announcement is searchable")
+                .tag("urgency", "urgent")
+                .register(meterRegistry);
+        this.normalLatency = Timer.builder("announcement.processing.time-to-searchable")
+                .description("Time from enqueue until an announcement is searchable")
+                .tag("urgency", "normal")
+                .register(meterRegistry);
+        Gauge.builder("announcement.processing.queue.size", this, AnnouncementProcessingQueue::size)
+                .description("Announcements waiting for processing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 공고
+     *
+     * @param deadline    접수 마감일 (없으면 null)
+     * @param noticeDate  공고일 (없으면 null)
+     * @param enqueuedAt  대기열 등록 시각 (epoch millis, aging 기준)
+     * @param boost       사용자 조회/리포트로 앞당긴 일수
+     */
+    private record Entry(long announcementId, LocalDate deadline, LocalDate noticeDate,
+                         long enqueuedAt, long sequence, long boost) {
+
+        Entry withBoost(long boost) {
+            return new Entry(announcementId, deadline, noticeDate, enqueuedAt, sequence, boost);
+        }
+    }
+
+    @PostConstruct
+    void startWorkers() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+        logger.info("Started {} announcement processing workers", workerCount);
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        running = false;
+        workers.shutdownNow();
+    }
+
+    /**
+     * 공고를 처리 대기열에 등록합니다. 이미 대기 중이면 기존 위치(등록 시각)를 유지하고,
+     * 처리 중이면 등록하지 않습니다.
+     */
+    public void enqueue(Announcement announcement) {
+        lock.lock();
+        try {
+            if (entries.containsKey(announcement.getId()) || inFlight.contains(announcement.getId())) {
+                return;
+            }
+            entries.put(announcement.getId(), new Entry(
+                    announcement.getId(),
+                    parseDate(announcement.getRceptEndde()),
+                    parseDate(announcement.getRcritPblancDe()),
+                    clock.millis(),
+                    sequence++,
+                    0));
+            enqueued.signal();
+        } finally {
+            lock.unlock();
+        }
+        logger.debug("Enqueued announcement {} for processing (deadline={})",
+                announcement.getId(), announcement.getRceptEndde());
+    }
+
+    /**
+     * 사용자가 보고 있는 공고를 앞당깁니다. 대기열에 없으면 아무것도 하지 않습니다.
+     */
+    public void boost(Long announcementId) {
+        lock.lock();
+        try {
+            entries.computeIfPresent(announcementId,
+                    (id, entry) -> entry.withBoost(Math.min(entry.boost() + boostDays, maxBoostDays)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            Entry entry;
+            try {
+                entry = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                // 처리에 성공해 검색 가능해진 공고만 지연 시간을 기록
+                if (processingService.processAnnouncement(entry.announcementId()) == ProcessingStatus.COMPLETED) {
+                    Duration waited = Duration.ofMillis(clock.millis() - entry.enqueuedAt());
+                    (isUrgent(entry) ? urgentLatency : normalLatency).record(waited);
+                }
+            } catch (Exception e) {
+                logger.error("Processing worker failed for announcement {}", entry.announcementId(), e);
+            } finally {
+                release(entry.announcementId());
+            }
+        }
+    }
+
+    private void release(long announcementId) {
+        lock.lock();
+        try {
+            inFlight.remove(announcementId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (entries.isEmpty()) {
+                enqueued.await();
+            }
+            Entry next = removeNext();
+            inFlight.add(next.announcementId());
+            return next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 처리할 공고를 기다리지 않고 꺼냅니다. 비어 있으면 null.
+     * 작업 스레드 없이 처리 순서를 확인하는 용도입니다.
+     */
+    Long poll() {
+        lock.lock();
+        try {
+            return entries.isEmpty() ? null : removeNext().announcementId();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock을 잡은 상태에서만 호출
+    private Entry removeNext() {
+        long now = clock.millis();
+        LocalDate today = LocalDate.now(clock);
+        Entry next = entries.values().stream()
+                .min(Comparator.<Entry>comparingLong(entry -> effectiveDaysLeft(entry, today, now))
+                        .thenComparing(Entry::noticeDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingLong(Entry::sequence))
+                .orElseThrow();
+        entries.remove(next.announcementId());
+        return next;
+    }
+
+    /**
+     * 마감까지 남은 일수에서 대기 시간(aging-interval마다 하루)과 사용자 boost를 뺀 값. 작을수록 먼저 처리합니다.
+     */
+    private long effectiveDaysLeft(Entry entry, LocalDate today, long now) {
+        long daysLeft = entry.deadline() != null
+                ? ChronoUnit.DAYS.between(today, entry.deadline())
+                : UNKNOWN_DEADLINE_DAYS;
+        if (daysLeft < 0) {
+            daysLeft = UNKNOWN_DEADLINE_DAYS;
+        }
+        long agedDays = (now - entry.enqueuedAt()) / agingInterval.toMillis();
+        return daysLeft - agedDays - entry.boost();
+    }
+
+    private boolean isUrgent(Entry entry) {
+        return entry.deadline() != null
+                && ChronoUnit.DAYS.between(LocalDate.now(clock), entry.deadline()) <= URGENT_DEADLINE_DAYS;
+    }
+
+    private LocalDate parseDate(String yyyyMMdd) {
+        if (yyyyMMdd == null || yyyyMMdd.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(yyyyMMdd.strip(), DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
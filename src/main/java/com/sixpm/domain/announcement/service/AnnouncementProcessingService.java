@@ -6,17 +6,23 @@ import com.sixpm.domain.ai.service.ingestion.VectorIngester;
 import com.sixpm.domain.announcement.dto.response.ParsedDocument;
 import com.sixpm.domain.announcement.entity.Announcement;
 import com.sixpm.domain.announcement.entity.AnnouncementCriteria;
+import com.sixpm.domain.announcement.entity.IncomeBenchmarkReference;
+import com.sixpm.domain.announcement.enums.ProcessingStage;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
 import com.sixpm.domain.announcement.repository.AnnouncementCriteriaRepository;
 import com.sixpm.domain.announcement.repository.AnnouncementRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,17 +30,46 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnnouncementProcessingService {
 
+    private final AnnouncementPdfDownloadService pdfDownloadService;
     private final AnnouncementParseService parseService;
     private final CriteriaExtractor criteriaExtractor;
     private final VectorIngester vectorIngester;
     private final AnnouncementRepository announcementRepository;
     private final AnnouncementCriteriaRepository criteriaRepository;
+    private final IncomeBenchmarkReferenceService benchmarkReferenceService;
+    private final ProcessingMemoryBudget memoryBudget;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 공고 PDF 파싱 -> 자격 요건 추출 -> 벡터 저장을 처리합니다. (AnnouncementProcessingQueue 작업 스레드에서 호출)
+     * 예상 메모리 사용량만큼 예산을 확보한 뒤 시작하며, 예산을 기다리는 동안 DB 커넥션을 잡지 않도록
+     * 트랜잭션은 저장 단계에서만 엽니다.
+     */
+    public ProcessingStatus processAnnouncement(Long announcementId) {
+        return processAnnouncement(announcementId, ProcessingStage.ALL);
+    }
 
-    @Async
-    @Transactional
-    public void processAnnouncementAsync(Long announcementId) {
-        log.info("Starting async processing for announcement ID: {}", announcementId);
+    /**
+     * 지정한 단계만 처리합니다. (일괄 재처리용)
+     * EXTRACT는 자격 요건만 다시 추출하며, EMBED는 유사 공고의 청크를 복사하지 않고 기존 청크를 지우고 새로 임베딩합니다.
+     * 같은 공고를 여러 작업이 동시에 처리하지 않도록 처리 상태를 조건부로 바꿔 선점한 뒤 시작합니다.
+     * 메모리 예산을 기다리는 시간이 처리 임대에 포함되지 않도록 예산을 확보한 뒤 선점하며, 단계마다 임대를 갱신합니다.
+     *
+     * @return 처리 결과 상태. 다른 작업이 처리 중이면 상태를 바꾸지 않고 PROCESSING
+     */
+    public ProcessingStatus processAnnouncement(Long announcementId, ProcessingStage stage) {
+        try (ProcessingMemoryBudget.Permit permit = memoryBudget.acquireInitial()) {
+            if (announcementRepository.claimForProcessing(announcementId, LocalDateTime.now()) == 0) {
+                log.info("Announcement {} is missing or already being processed. Skipping.", announcementId);
+                return ProcessingStatus.PROCESSING;
+            }
+            log.info("Starting processing for announcement ID: {} (stage={})", announcementId, stage);
+            return process(announcementId, stage, permit);
+        }
+    }
 
+    private ProcessingStatus process(Long announcementId, ProcessingStage stage, ProcessingMemoryBudget.Permit permit) {
         try {
             Announcement announcement = announcementRepository.findById(announcementId)
                     .orElseThrow(() -> new IllegalArgumentException("Announcement not found: " + announcementId));
@@ -42,28 +77,77 @@ public class AnnouncementProcessingService {
             String pdfUrl = announcement.getPdfFileUrl();
             if (pdfUrl == null || pdfUrl.isBlank()) {
                 log.warn("No PDF URL found for announcement {}. Skipping processing.", announcementId);
-                return;
+                return finish(announcementId, ProcessingStatus.SKIPPED);
             }
 
-            // 1. PDF 파싱
-            ParsedDocument parsedDoc = parseService.parseAnnouncementPdf(pdfUrl);
-
-            // 2. AI 정보 추출 (DTO 반환)
-            CriteriaResponse dtoResponse = criteriaExtractor.extract(parsedDoc.fullText());
+            // 1. PDF 다운로드 후 실제 크기로 예상 메모리 조정
+            byte[] pdfBytes = pdfDownloadService.downloadPdf(pdfUrl);
+            permit.resize(memoryBudget.estimate(pdfBytes.length));
+            renewLease(announcementId);
+
+            // 2. PDF 파싱 후 원본 참조를 놓고 나서 남은 단계의 예상 메모리로 조정
+            ParsedDocument parsedDoc = parseService.parseDownloadedPdf(pdfUrl, pdfBytes);
+            pdfBytes = null;
+            permit.resize(memoryBudget.estimateParsed(parsedDoc.fullText().length()));
+            renewLease(announcementId);
+
+            // 3. 이미 처리한 공고와 거의 같은 공고문(정정공고 등)인지 확인 (단계별 재처리는 유사 공고 결과를 쓰지 않음)
+            NearDuplicateDetector.DocumentSignature signature = nearDuplicateDetector.signatureOf(parsedDoc);
+            Optional<NearDuplicateDetector.NearDuplicate> nearDuplicate = stage == ProcessingStage.ALL
+                    ? nearDuplicateDetector.findNearDuplicate(announcementId, signature)
+                    : Optional.empty();
+
+            if (stage != ProcessingStage.EMBED) {
+                // 4. AI 정보 추출 (유사 공고라도 자격 문단이 바뀌었을 수 있어 항상 추출, 같은 입력은 추출 캐시가 적중)
+                CriteriaResponse dtoResponse = criteriaExtractor.extract(parsedDoc, announcement.getHouseNm());
+
+                // 5. DB 저장 (DTO -> Entity 변환)
+                transactionTemplate.executeWithoutResult(status -> saveCriteria(announcement, dtoResponse));
+                renewLease(announcementId);
+            }
 
-            // 3. DB 저장 (DTO -> Entity 변환)
-            saveCriteria(announcement, dtoResponse);
+            if (stage != ProcessingStage.EXTRACT) {
+                // 6. 벡터 저장 (기존 청크는 교체, 유사 공고와 같은 섹션은 기존 청크 복사)
+                vectorIngester.ingest(parsedDoc, announcement.getId(), announcement.getHouseNm(),
+                        nearDuplicate.map(NearDuplicateDetector.NearDuplicate::siblingId).orElse(null),
+                        nearDuplicate.map(NearDuplicateDetector.NearDuplicate::unchangedSectionHashes).orElse(Set.of()));
+            }
 
-            // 4. 벡터 저장
-            vectorIngester.ingest(parsedDoc, announcement.getId(), announcement.getHouseNm());
+            // 7. 이후 공고의 유사도 판별용 시그니처 저장
+            nearDuplicateDetector.saveSignature(announcementId, signature);
 
             log.info("Successfully processed announcement ID: {}", announcementId);
+            return finish(announcementId, ProcessingStatus.COMPLETED);
 
         } catch (Exception e) {
             log.error("Failed to process announcement ID: {}", announcementId, e);
+            return finish(announcementId, ProcessingStatus.FAILED);
+        }
+    }
+
+    private void renewLease(Long announcementId) {
+        try {
+            announcementRepository.renewLease(announcementId, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Failed to renew processing lease of announcement {}", announcementId, e);
         }
     }
 
+    private ProcessingStatus finish(Long announcementId, ProcessingStatus status) {
+        try {
+            if (status == ProcessingStatus.FAILED) {
+                announcementRepository.markFailed(announcementId, LocalDateTime.now());
+            } else if (status == ProcessingStatus.COMPLETED) {
+                announcementRepository.markCompleted(announcementId, LocalDateTime.now());
+            } else {
+                announcementRepository.updateProcessingStatus(announcementId, status, LocalDateTime.now());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update processing status of announcement {} to {}", announcementId, status, e);
+        }
+        return status;
+    }
+
     private void saveCriteria(Announcement announcement, CriteriaResponse dto) {
         // DTO -> Entity 변환
         List<AnnouncementCriteria.AssetLimitRule> assetEntities = dto.assetLimits() == null ? Collections.emptyList() :
@@ -78,6 +162,8 @@ public class AnnouncementProcessingService {
                         rule.supplyType(), rule.minHousehold(), rule.maxHousehold(), rule.childCount(), rule.ratio()))
                 .collect(Collectors.toList());
 
+        IncomeBenchmarkReference benchmarkReference = resolveBenchmarkReference(dto.incomeBenchmark());
+
         Optional<AnnouncementCriteria> existing = criteriaRepository.findByAnnouncementId(announcement.getId());
 
         if (existing.isPresent()) {
@@ -87,6 +173,7 @@ public class AnnouncementProcessingService {
                     dto.minAge(),
                     dto.requiresHomeless(),
                     dto.incomeBenchmark(),
+                    benchmarkReference,
                     assetEntities,
                     incomeEntities
             );
@@ -97,10 +184,20 @@ public class AnnouncementProcessingService {
                     .minAge(dto.minAge())
                     .requiresHomeless(dto.requiresHomeless())
                     .incomeBenchmark(dto.incomeBenchmark())
+                    .incomeBenchmarkReference(benchmarkReference)
                     .assetLimits(assetEntities)
                     .incomeRatios(incomeEntities)
                     .build();
             criteriaRepository.save(criteria);
         }
     }
+
+    private IncomeBenchmarkReference resolveBenchmarkReference(Map<Integer, Long> incomeBenchmark) {
+        try {
+            return benchmarkReferenceService.resolve(incomeBenchmark);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 공고 처리에서 같은 기준표를 먼저 저장한 경우 - 저장된 행을 다시 조회
+            return benchmarkReferenceService.resolve(incomeBenchmark);
+        }
+    }
 }
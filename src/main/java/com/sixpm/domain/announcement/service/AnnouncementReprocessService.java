@@ -0,0 +1,225 @@
+package com.sixpm.domain.announcement.service;
+
+import com.sixpm.domain.announcement.dto.request.AnnouncementReprocessRequest;
+import com.sixpm.domain.announcement.dto.response.AnnouncementReprocessJobResponse;
+import com.sixpm.domain.announcement.enums.ProcessingStage;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import com.sixpm.domain.announcement.repository.AnnouncementRepository;
+import com.sixpm.domain.announcement.util.RegionCodeMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 청약 공고 일괄 재처리 작업 관리.
+ * 조건으로 고른 공고를 동시 처리 수 상한 안에서 처리하고, 진행 상황 조회와 취소를 제공합니다.
+ * 취소하면 새 공고를 더 시작하지 않으며 이미 처리 중인 공고는 끝까지 처리합니다.
+ *
+ * 작업 상태는 메모리에만 있으므로 재시작 시 진행 중이던 작업은 사라집니다. (처리 상태 컬럼으로 다시 고를 수 있음)
+ * 끝난 작업은 보관 기간(job-retention-minutes)이 지나면 목록에서 제거합니다.
+ * 처리 대기열 등 다른 작업이 처리 중인 공고는 건너뛰고 생략 수에 셉니다.
+ */
+@Service
+public class AnnouncementReprocessService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnnouncementReprocessService.class);
+
+    public enum JobStatus { RUNNING, COMPLETED, CANCELLED }
+
+    private final AnnouncementRepository announcementRepository;
+    private final AnnouncementProcessingService processingService;
+    private final int defaultConcurrency;
+    private final int maxConcurrency;
+    private final Duration jobRetention;
+
+    private final Map<String, ReprocessJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AnnouncementReprocessService(
+            AnnouncementRepository announcementRepository,
+            AnnouncementProcessingService processingService,
+            @Value("${processing.reprocess.default-concurrency:2}") int defaultConcurrency,
+            @Value("${processing.reprocess.max-concurrency:8}") int maxConcurrency,
+            @Value("${processing.reprocess.job-retention-minutes:60}") long jobRetentionMinutes
+    ) {
+        this.announcementRepository = announcementRepository;
+        this.processingService = processingService;
+        this.defaultConcurrency = defaultConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+    }
+
+    /**
+     * 조건에 맞는 공고를 골라 재처리 작업을 시작합니다.
+     */
+    public AnnouncementReprocessJobResponse start(AnnouncementReprocessRequest request) {
+        evictFinishedJobs();
+        String areaCode = resolveAreaCode(request.getRegion());
+        List<Long> ids = announcementRepository.findIdsForReprocessing(
+                request.getFromDate(),
+                request.getToDate(),
+                areaCode,
+                request.getProcessingStatus(),
+                request.isCriteriaMissing());
+
+        int requested = request.getConcurrency() != null ? request.getConcurrency() : defaultConcurrency;
+        ProcessingStage stage = request.getStage() != null ? request.getStage() : ProcessingStage.ALL;
+        ReprocessJob job = new ReprocessJob(UUID.randomUUID().toString(), stage,
+                Math.min(requested, maxConcurrency), ids.size());
+        jobs.put(job.id, job);
+
+        logger.info("Starting reprocess job {}: {} announcements, stage={}, concurrency={}",
+                job.id, ids.size(), stage, job.concurrency);
+        executor.submit(() -> run(job, ids));
+        return job.toResponse();
+    }
+
+    public AnnouncementReprocessJobResponse getJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    public List<AnnouncementReprocessJobResponse> getJobs() {
+        evictFinishedJobs();
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((ReprocessJob job) -> job.startedAt).reversed())
+                .map(ReprocessJob::toResponse)
+                .toList();
+    }
+
+    /**
+     * 작업을 취소합니다. 이미 끝난 작업은 그대로 둡니다.
+     */
+    public AnnouncementReprocessJobResponse cancel(String jobId) {
+        ReprocessJob job = findJob(jobId);
+        if (job.status == JobStatus.RUNNING) {
+            job.cancelRequested = true;
+            logger.info("Cancellation requested for reprocess job {}", jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(ReprocessJob job, List<Long> ids) {
+        Semaphore permits = new Semaphore(job.concurrency);
+        try {
+            for (Long id : ids) {
+                permits.acquire();
+                if (job.cancelRequested) {
+                    permits.release();
+                    break;
+                }
+                executor.submit(() -> {
+                    try {
+                        job.record(processingService.processAnnouncement(id, job.stage));
+                    } catch (Exception e) {
+                        logger.error("Reprocess job {} failed for announcement {}", job.id, id, e);
+                        job.record(ProcessingStatus.FAILED);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            // 처리 중인 공고가 모두 끝날 때까지 대기
+            permits.acquire(job.concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        job.finishedAt = LocalDateTime.now();
+        job.status = job.cancelRequested ? JobStatus.CANCELLED : JobStatus.COMPLETED;
+        logger.info("Reprocess job {} {}: processed={}/{}, succeeded={}, failed={}, skipped={}",
+                job.id, job.status, job.processed.get(), job.total,
+                job.succeeded.get(), job.failed.get(), job.skipped.get());
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && !job.finishedAt.isAfter(cutoff));
+    }
+
+    private ReprocessJob findJob(String jobId) {
+        ReprocessJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("재처리 작업을 찾을 수 없습니다. ID: " + jobId);
+        }
+        return job;
+    }
+
+    private String resolveAreaCode(String region) {
+        if (region == null || region.isBlank()) {
+            return null;
+        }
+        if (RegionCodeMapper.isValidRegionCode(region.strip())) {
+            return region.strip();
+        }
+        String code = RegionCodeMapper.getRegionCode(region);
+        if (code == null) {
+            throw new IllegalArgumentException("알 수 없는 지역입니다: " + region);
+        }
+        return code;
+    }
+
+    private static class ReprocessJob {
+        private final String id;
+        private final ProcessingStage stage;
+        private final int concurrency;
+        private final int total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        private volatile JobStatus status = JobStatus.RUNNING;
+        private volatile boolean cancelRequested;
+        private volatile LocalDateTime finishedAt;
+
+        ReprocessJob(String id, ProcessingStage stage, int concurrency, int total) {
+            this.id = id;
+            this.stage = stage;
+            this.concurrency = concurrency;
+            this.total = total;
+        }
+
+        void record(ProcessingStatus result) {
+            switch (result) {
+                case COMPLETED -> succeeded.incrementAndGet();
+                // PROCESSING: 다른 작업이 처리 중이라 건너뜀
+                case SKIPPED, PROCESSING -> skipped.incrementAndGet();
+                default -> failed.incrementAndGet();
+            }
+            processed.incrementAndGet();
+        }
+
+        AnnouncementReprocessJobResponse toResponse() {
+            int done = processed.get();
+            return AnnouncementReprocessJobResponse.builder()
+                    .jobId(id)
+                    .status(status.name())
+                    .stage(stage)
+                    .concurrency(concurrency)
+                    .total(total)
+                    .processed(done)
+                    .succeeded(succeeded.get())
+                    .failed(failed.get())
+                    .skipped(skipped.get())
+                    .progressPercent(total == 0 ? 100.0 : Math.round(done * 1000.0 / total) / 10.0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
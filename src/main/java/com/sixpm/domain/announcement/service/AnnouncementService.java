@@ -31,7 +31,7 @@ public class AnnouncementService {
 
     private final AnnouncementApiService announcementApiService;
     private final com.sixpm.domain.announcement.repository.AnnouncementRepository announcementRepository;
-    private final AnnouncementProcessingService announcementProcessingService;
+    private final AnnouncementProcessingQueue announcementProcessingQueue;
 
     // Virtual Thread Executor (Java 21+)
     private final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
@@ -219,9 +219,9 @@ public class AnnouncementService {
             log.info("Saved announcement to DB: ID={}, PAN_ID={}, PDF_URL={}",
                     saved.getId(), saved.getHouseManageNo(), saved.getPdfFileUrl());
 
-            // 5. 비동기 상세 처리 (파싱, 자격요건 추출, 임베딩)
+            // 5. 상세 처리 대기열 등록 (파싱, 자격요건 추출, 임베딩 - 마감 임박 순)
             if (saved.getPdfFileUrl() != null && !saved.getPdfFileUrl().isBlank()) {
-                announcementProcessingService.processAnnouncementAsync(saved.getId());
+                announcementProcessingQueue.enqueue(saved);
             }
 
             return buildSuccessResponse(item, pdfUrl != null ? pdfUrl : item.getDtlUrl());
@@ -362,6 +362,9 @@ public class AnnouncementService {
                 .findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다. ID: " + id));
 
+        // 아직 처리 대기 중이면 사용자가 보고 있는 공고를 먼저 처리
+        announcementProcessingQueue.boost(id);
+
         return convertToAnnouncementItem(announcement);
     }
 
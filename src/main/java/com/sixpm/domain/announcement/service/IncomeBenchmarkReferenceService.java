@@ -0,0 +1,57 @@
+package com.sixpm.domain.announcement.service;
+
+import com.sixpm.domain.ai.util.TableFingerprint;
+import com.sixpm.domain.announcement.entity.IncomeBenchmarkReference;
+import com.sixpm.domain.announcement.repository.IncomeBenchmarkReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 공고마다 반복되는 기준 소득표를 참조 데이터로 한 번만 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IncomeBenchmarkReferenceService {
+
+    private final IncomeBenchmarkReferenceRepository referenceRepository;
+
+    /**
+     * 같은 금액 구성의 기준표가 있으면 그 행을, 없으면 새로 저장한 행을 반환합니다.
+     * 호출한 트랜잭션과 분리되어 있어, 동시 저장으로 중복 키 오류가 나도 처리 중인 공고 트랜잭션은 유지되고
+     * 호출 측에서 다시 조회하면 됩니다.
+     *
+     * @return 기준표가 비어 있으면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public IncomeBenchmarkReference resolve(Map<Integer, Long> benchmark) {
+        if (benchmark == null || benchmark.isEmpty()) {
+            return null;
+        }
+
+        String fingerprint = fingerprintOf(benchmark);
+        return referenceRepository.findByFingerprint(fingerprint)
+                .orElseGet(() -> create(fingerprint, benchmark));
+    }
+
+    private IncomeBenchmarkReference create(String fingerprint, Map<Integer, Long> benchmark) {
+        log.info("Registering new income benchmark reference: {} households", benchmark.size());
+        return referenceRepository.saveAndFlush(IncomeBenchmarkReference.builder()
+                .fingerprint(fingerprint)
+                .benchmark(new TreeMap<>(benchmark))
+                .build());
+    }
+
+    static String fingerprintOf(Map<Integer, Long> benchmark) {
+        return TableFingerprint.sha256(new TreeMap<>(benchmark).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(";")));
+    }
+}
@@ -0,0 +1,118 @@
+package com.sixpm.domain.announcement.service;
+
+import com.sixpm.domain.ai.util.NoticeSections;
+import com.sixpm.domain.ai.util.NoticeSections.Section;
+import com.sixpm.domain.ai.util.SimHash;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.domain.announcement.entity.AnnouncementSignature;
+import com.sixpm.domain.announcement.repository.AnnouncementCriteriaRepository;
+import com.sixpm.domain.announcement.repository.AnnouncementSignatureRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 정정공고/단지별 공고처럼 이미 처리한 공고와 거의 같은 공고문을 SimHash로 찾습니다.
+ * 찾은 공고(sibling)와 내용이 같은 섹션은 임베딩을 재사용하고, 바뀐 섹션만 다시 임베딩하도록 합니다.
+ *
+ * 자격 요건은 재사용하지 않습니다. 거주지역, 나이, 무주택 요건은 문단으로 적히는 경우가 많아
+ * 섹션 비교로는 바뀐 조건을 놓칠 수 있기 때문이며, 추출 입력이 같으면 CriteriaExtractor의 fingerprint 캐시가 적중합니다.
+ */
+@Slf4j
+@Service
+public class NearDuplicateDetector {
+
+    private final AnnouncementSignatureRepository signatureRepository;
+    private final AnnouncementCriteriaRepository criteriaRepository;
+    private final int maxDistance;
+
+    public NearDuplicateDetector(
+            AnnouncementSignatureRepository signatureRepository,
+            AnnouncementCriteriaRepository criteriaRepository,
+            @Value("${processing.near-duplicate.max-distance:3}") int maxDistance
+    ) {
+        this.signatureRepository = signatureRepository;
+        this.criteriaRepository = criteriaRepository;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * 공고문 시그니처 (전체 SimHash + 섹션 목록)
+     */
+    public record DocumentSignature(long simhash, List<Section> sections) {
+        public List<String> sectionHashes() {
+            return sections.stream().map(Section::hash).toList();
+        }
+    }
+
+    /**
+     * 유사 공고 판별 결과
+     *
+     * @param siblingId              재사용할 기존 공고 ID
+     * @param distance               SimHash 해밍 거리
+     * @param unchangedSectionHashes 기존 공고와 내용이 같은 섹션 해시
+     */
+    public record NearDuplicate(Long siblingId, int distance, Set<String> unchangedSectionHashes) {}
+
+    public DocumentSignature signatureOf(ParsedDocument parsedDoc) {
+        return new DocumentSignature(SimHash.of(parsedDoc.fullText()), NoticeSections.split(parsedDoc));
+    }
+
+    /**
+     * 자격 요건까지 처리가 끝난 공고 중 해밍 거리가 가장 가까운 공고를 찾습니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<NearDuplicate> findNearDuplicate(Long announcementId, DocumentSignature signature) {
+        long simhash = signature.simhash();
+        Optional<AnnouncementSignature> sibling = signatureRepository.findCandidates(announcementId,
+                        SimHash.band(simhash, 0), SimHash.band(simhash, 1),
+                        SimHash.band(simhash, 2), SimHash.band(simhash, 3)).stream()
+                .filter(candidate -> SimHash.distance(candidate.getSimhash(), simhash) <= maxDistance)
+                .filter(candidate -> criteriaRepository.findByAnnouncementId(candidate.getAnnouncementId()).isPresent())
+                .min(Comparator.comparingInt(candidate -> SimHash.distance(candidate.getSimhash(), simhash)));
+
+        if (sibling.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<String> siblingHashes = new HashSet<>(sibling.get().getSectionHashes());
+        Set<String> unchanged = signature.sections().stream()
+                .map(Section::hash)
+                .filter(siblingHashes::contains)
+                .collect(Collectors.toSet());
+
+        NearDuplicate nearDuplicate = new NearDuplicate(sibling.get().getAnnouncementId(),
+                SimHash.distance(sibling.get().getSimhash(), simhash), unchanged);
+        log.info("Announcement {} is a near-duplicate of {} (distance={}, unchanged sections={}/{})",
+                announcementId, nearDuplicate.siblingId(), nearDuplicate.distance(),
+                unchanged.size(), signature.sections().size());
+        return Optional.of(nearDuplicate);
+    }
+
+    @Transactional
+    public void saveSignature(Long announcementId, DocumentSignature signature) {
+        long simhash = signature.simhash();
+        signatureRepository.findById(announcementId).ifPresentOrElse(
+                existing -> existing.updateSignature(simhash,
+                        SimHash.band(simhash, 0), SimHash.band(simhash, 1),
+                        SimHash.band(simhash, 2), SimHash.band(simhash, 3),
+                        signature.sectionHashes()),
+                () -> signatureRepository.save(AnnouncementSignature.builder()
+                        .announcementId(announcementId)
+                        .simhash(simhash)
+                        .band0(SimHash.band(simhash, 0))
+                        .band1(SimHash.band(simhash, 1))
+                        .band2(SimHash.band(simhash, 2))
+                        .band3(SimHash.band(simhash, 3))
+                        .sectionHashes(signature.sectionHashes())
+                        .build()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.sixpm.domain.announcement.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공고 처리 작업의 동시 실행을 예상 메모리 사용량(바이트) 기준으로 제한하는 가중치 세마포어.
+ * 처리 중인 작업들의 예상 사용량 합이 상한을 넘지 않을 때만 새 작업을 시작시켜,
+ * 대량 재처리 시 OOM 대신 대기열에서 천천히 처리되도록 합니다.
+ * 대기 순서는 도착 순(FIFO)이라 큰 문서가 작은 문서들에 밀려 무한히 대기하지 않습니다.
+ */
+@Component
+public class ProcessingMemoryBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessingMemoryBudget.class);
+
+    private final long budgetBytes;
+    private final long initialEstimateBytes;
+    private final int bytesMultiplier;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<Thread> waiters = new ArrayDeque<>();
+    private long inFlightBytes;
+
+    public ProcessingMemoryBudget(
+            MeterRegistry meterRegistry,
+            @Value("${processing.memory.budget-bytes:134217728}") long budgetBytes,
+            @Value("${processing.memory.initial-estimate-bytes:8388608}") long initialEstimateBytes,
+            @Value("${processing.memory.bytes-multiplier:8}") int bytesMultiplier
+    ) {
+        this.budgetBytes = budgetBytes;
+        this.initialEstimateBytes = initialEstimateBytes;
+        this.bytesMultiplier = bytesMultiplier;
+        Gauge.builder("announcement.processing.inflight.bytes", this, ProcessingMemoryBudget::inFlightBytes)
+                .description("Estimated heap bytes held by in-flight announcement processing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파일 크기를 알기 전(다운로드 단계)에 사용할 기본 예상치로 예약합니다.
+     */
+    public Permit acquireInitial() {
+        return acquire(initialEstimateBytes);
+    }
+
+    /**
+     * PDF 원본, 분할 조각, Upstage 응답, 전체 텍스트가 동시에 메모리에 있을 수 있으므로
+     * 파일 크기에 배수를 곱해 예상 사용량으로 봅니다.
+     */
+    public long estimate(long pdfBytes) {
+        return Math.max(initialEstimateBytes, pdfBytes * bytesMultiplier);
+    }
+
+    /**
+     * 파싱을 마치고 PDF 원본을 놓은 뒤(자격 요건 추출, 임베딩 단계)의 예상 사용량.
+     * 파싱 결과 텍스트와 요소, 청크, 프롬프트가 동시에 메모리에 있을 수 있으므로 텍스트 크기에 배수를 곱합니다.
+     */
+    public long estimateParsed(long textLength) {
+        return Math.max(initialEstimateBytes, textLength * Character.BYTES * bytesMultiplier);
+    }
+
+    public Permit acquire(long weightBytes) {
+        return new Permit(reserve(Math.min(weightBytes, budgetBytes)));
+    }
+
+    private long reserve(long weight) {
+        lock.lock();
+        try {
+            Thread current = Thread.currentThread();
+            waiters.addLast(current);
+            try {
+                // 대기열 맨 앞이고 여유가 있을 때만 통과 (진행 중인 작업이 없으면 큰 문서도 통과)
+                while (waiters.peekFirst() != current || (inFlightBytes > 0 && inFlightBytes + weight > budgetBytes)) {
+                    logger.debug("Waiting for processing memory budget: need {} bytes, in flight {}/{}",
+                            weight, inFlightBytes, budgetBytes);
+                    released.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for processing memory budget", e);
+            } finally {
+                waiters.remove(current);
+                released.signalAll();
+            }
+            inFlightBytes += weight;
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long weight) {
+        lock.lock();
+        try {
+            inFlightBytes -= weight;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double inFlightBytes() {
+        lock.lock();
+        try {
+            return inFlightBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약된 메모리 (try-with-resources로 반납)
+     */
+    public final class Permit implements AutoCloseable {
+        private long weight;
+
+        private Permit(long weight) {
+            this.weight = weight;
+        }
+
+        /**
+         * 예상 사용량을 조정합니다. 줄어들면 즉시 반납하고, 늘어나면 보유분을 반납한 뒤 전체를 다시 대기열에서 예약합니다.
+         * (보유한 채로 추가분을 기다리면 작업끼리 서로를 기다리며 멈출 수 있음)
+         * 줄일 때는 해당 메모리(PDF 원본 등)에 대한 참조를 먼저 놓아야 합니다. 아직 참조 중이면 최대 사용 시점을 적게 셉니다.
+         */
+        public void resize(long newWeightBytes) {
+            long newWeight = Math.min(newWeightBytes, budgetBytes);
+            if (newWeight <= weight) {
+                release(weight - newWeight);
+                weight = newWeight;
+                return;
+            }
+
+            release(weight);
+            weight = 0;
+            weight = reserve(newWeight);
+        }
+
+        @Override
+        public void close() {
+            if (weight > 0) {
+                release(weight);
+                weight = 0;
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.sixpm.domain.report.service;
 
+import com.sixpm.domain.ai.service.gateway.LlmBudgetAdvisor;
+import com.sixpm.domain.ai.service.retrieval.HybridNoticeSearch;
+import com.sixpm.domain.ai.service.retrieval.NoticeChunkRetriever;
+import com.sixpm.domain.ai.util.SearchQueryTerms;
 import com.sixpm.domain.announcement.dto.response.AnnouncementListResponse;
 import com.sixpm.domain.announcement.dto.response.AnnouncementListResponse.AnnouncementItem;
 import com.sixpm.domain.announcement.entity.Announcement;
 import com.sixpm.domain.announcement.entity.AnnouncementCriteria;
 import com.sixpm.domain.announcement.repository.AnnouncementCriteriaRepository;
 import com.sixpm.domain.announcement.repository.AnnouncementRepository;
+import com.sixpm.domain.announcement.service.AnnouncementProcessingQueue;
 import com.sixpm.domain.report.dto.request.CreateReportRequest;
 import com.sixpm.domain.report.dto.response.AiConsulting;
 import com.sixpm.domain.report.dto.response.DetailItem;
@@ -17,18 +22,15 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.AdvisorParams;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.document.Document;
 import org.springframework.ai.rag.advisor.RetrievalAugmentationAdvisor;
 import org.springframework.ai.rag.generation.augmentation.ContextualQueryAugmenter;
-import org.springframework.ai.rag.retrieval.search.VectorStoreDocumentRetriever;
-import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.security.core.Authentication;
@@ -44,90 +46,83 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ReportService {
 
+    private static final int MAX_SEARCH_SIZE = 20;
+
     private final UserDetailInfoRepository userDetailInfoRepository;
-    private final VectorStore vectorStore;
+    private final HybridNoticeSearch hybridNoticeSearch;
     private final AnnouncementRepository announcementRepository;
     private final AnnouncementCriteriaRepository criteriaRepository;
+    private final AnnouncementProcessingQueue processingQueue;
     private final ChatClient chatClient;
     private final RetrievalAugmentationAdvisor ragAdvisor;
     private final Resource systemPromptResource;
 
     public ReportService(
             UserDetailInfoRepository userDetailInfoRepository,
-            VectorStore vectorStore,
+            HybridNoticeSearch hybridNoticeSearch,
             AnnouncementRepository announcementRepository,
             AnnouncementCriteriaRepository criteriaRepository,
+            AnnouncementProcessingQueue processingQueue,
             ChatClient.Builder chatClientBuilder,
+            LlmBudgetAdvisor budgetAdvisor,
+            NoticeChunkRetriever noticeChunkRetriever,
             @Value("classpath:prompts/consulting-system-prompt.txt") Resource systemPromptResource
     ) {
         this.userDetailInfoRepository = userDetailInfoRepository;
-        this.vectorStore = vectorStore;
+        this.hybridNoticeSearch = hybridNoticeSearch;
         this.announcementRepository = announcementRepository;
         this.criteriaRepository = criteriaRepository;
+        this.processingQueue = processingQueue;
         this.systemPromptResource = systemPromptResource;
 
-        this.chatClient = chatClientBuilder.build();
-
-        // RAG Advisor 초기화 (생성 단계에서는 필터 없이 기본 구성)
-        var documentRetriever = VectorStoreDocumentRetriever.builder()
-                .vectorStore(vectorStore)
-                .similarityThreshold(0.5)
-                .topK(5)
+        // 사용자 요청이므로 기본(INTERACTIVE) 우선순위로 토큰 예산 적용
+        this.chatClient = chatClientBuilder
+                .defaultAdvisors(budgetAdvisor)
                 .build();
 
+        // RAG Advisor 초기화 (검색 대상 공고는 호출 시 NOTICE_ID 파라미터로 지정)
         var queryAugmenter = ContextualQueryAugmenter.builder()
                 .allowEmptyContext(true)
                 .build();
 
         this.ragAdvisor = RetrievalAugmentationAdvisor.builder()
-                .documentRetriever(documentRetriever)
+                .documentRetriever(noticeChunkRetriever)
                 .queryAugmenter(queryAugmenter)
                 .build();
     }
 
     /**
-     * 공고 자연어 검색 (Query Optimization)
+     * 공고 자연어 검색 (Query Optimization + 벡터/키워드 하이브리드 검색)
+     *
+     * @param size 반환할 공고 수 (서로 다른 공고, 최대 20)
      */
-    public List<AnnouncementItem> searchAnnouncements(String query) {
+    public List<AnnouncementItem> searchAnnouncements(String query, int size) {
         log.info("Original query: {}", query);
 
-        // 1. 쿼리 최적화 (LLM 직접 호출하여 시스템/유저 프롬프트 분리)
-        String optimizedQuery = chatClient.prompt()
-                .system("당신은 주택 청약 검색 전문가입니다. 사용자의 질문을 분석하여 주택 청약 공고 데이터베이스 검색에 최적화된 핵심 키워드 중심의 쿼리로 변환하세요.")
-                .user(query) // 유저 프롬프트는 입력받은 값 그대로 전달
-                .call()
-                .content();
-
-        log.info("Optimized query: {}", optimizedQuery);
-
-        // 2. Vector Store 검색 (최적화된 쿼리 사용)
-        List<Document> documents = vectorStore.similaritySearch(
-                SearchRequest.builder().query(optimizedQuery)
-                        .topK(5)
-                        .similarityThreshold(0.5)
-                        .build()
-        );
-
-        if (documents.isEmpty()) {
-            return Collections.emptyList();
+        // 1. 쿼리 최적화: 키워드만 나열한 짧은 질의는 LLM 재작성 없이 그대로 검색
+        String searchQuery = query;
+        if (!SearchQueryTerms.isKeywordQuery(query)) {
+            searchQuery = chatClient.prompt()
+                    .system("당신은 주택 청약 검색 전문가입니다. 사용자의 질문을 분석하여 주택 청약 공고 데이터베이스 검색에 최적화된 핵심 키워드 중심의 쿼리로 변환하세요.")
+                    .user(query) // 유저 프롬프트는 입력받은 값 그대로 전달
+                    .call()
+                    .content();
+            log.info("Optimized query: {}", searchQuery);
         }
 
-        // 3. 공고 ID 추출 (중복 제거)
-        Set<Long> announcementIds = documents.stream()
-                .map(doc -> {
-                    Object idObj = doc.getMetadata().get("notice_id");
-                    return idObj != null ? Long.parseLong(idObj.toString()) : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        // 2. 벡터 검색 + 키워드 검색 결과를 순위 합산 (RRF)
+        List<Long> announcementIds = hybridNoticeSearch.search(searchQuery, Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
 
         if (announcementIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 4. DB에서 공고 정보 조회
-        List<Announcement> announcements = announcementRepository.findAllById(announcementIds);
-        return announcements.stream()
+        // 3. DB에서 공고 정보 조회 (검색 순위 유지)
+        Map<Long, Announcement> announcements = announcementRepository.findAllById(announcementIds).stream()
+                .collect(Collectors.toMap(Announcement::getId, Function.identity()));
+        return announcementIds.stream()
+                .map(announcements::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToAnnouncementItem)
                 .collect(Collectors.toList());
     }
@@ -142,6 +137,8 @@ public class ReportService {
 
         Announcement announcement = announcementRepository.findById(request.getAnnouncementId())
                 .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다."));
+        // 아직 처리 대기 중인 공고면 우선 처리되도록 앞당김
+        processingQueue.boost(announcement.getId());
         AnnouncementCriteria criteria = criteriaRepository.findByAnnouncementId(announcement.getId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 공고의 상세 자격 요건 정보가 없습니다."));
 
@@ -184,11 +181,9 @@ public class ReportService {
                 """;
         }
 
-        String filterExpression = "notice_id == " + announcement.getId();
-
         return chatClient.prompt()
                 .advisors(ragAdvisor)
-                .advisors(a -> a.param(VectorStoreDocumentRetriever.FILTER_EXPRESSION, filterExpression))
+                .advisors(a -> a.param(NoticeChunkRetriever.NOTICE_ID, announcement.getId()))
                 .advisors(AdvisorParams.ENABLE_NATIVE_STRUCTURED_OUTPUT)
                 .system(s -> s.text(systemPromptResource)
                         .param("userProfile", userProfileStr)
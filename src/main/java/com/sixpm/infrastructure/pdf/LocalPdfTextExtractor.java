@@ -0,0 +1,222 @@
+package com.sixpm.infrastructure.pdf;
+
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.reader.pdf.PagePdfDocumentReader;
+import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PDF 텍스트 레이어를 로컬에서 페이지 단위로 추출합니다 (spring-ai-pdf-document-reader).
+ * 디지털 원본 PDF의 일반 텍스트 페이지는 Upstage 레이아웃 파싱 없이 이 결과를 그대로 사용하고,
+ * 표가 있거나 텍스트 레이어가 없는(스캔/이미지) 페이지만 Upstage로 보냅니다.
+ */
+@Component
+public class LocalPdfTextExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalPdfTextExtractor.class);
+
+    // 레이아웃 보존 텍스트에서 2칸 이상 공백은 열 구분으로 본다
+    private static final Pattern COLUMN_GAP = Pattern.compile("\\s{2,}");
+    // 열 시작 위치가 이 글자 수 이내로 차이 나면 같은 열로 본다
+    private static final int COLUMN_TOLERANCE = 1;
+    private static final Pattern HORIZONTAL_SPACES = Pattern.compile("[ \\t\\u00A0]+");
+    // "1. 신청자격", "Ⅱ. 공급일정" 같은 대제목 (숫자가 이어지는 날짜/금액은 제외)
+    private static final Pattern SECTION_HEADING = Pattern.compile("^(\\d{1,2}|[ⅠⅡⅢⅣⅤⅥⅦⅧⅨⅩ])\\.\\s*[^\\d\\s.].*");
+    // "가. 소득기준" 같은 소제목
+    private static final Pattern SUB_HEADING = Pattern.compile("^[가나다라마바사아자차카타파하]\\.\\s*\\S.*");
+    // 목록 항목은 새 문단으로 나눈다
+    private static final Pattern LIST_ITEM = Pattern.compile("^([-•·○●□■※]|\\(\\d{1,2}\\)|[①-⑳]).*");
+    // 이보다 긴 줄이나 문장으로 끝나는 줄은 번호가 붙어 있어도 제목으로 보지 않는다
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    /**
+     * 페이지별 로컬 추출 결과
+     *
+     * @param pageNumber          페이지 번호 (1부터 시작)
+     * @param text                정리된 페이지 텍스트
+     * @param needsLayoutParsing  표/스캔 페이지라 Upstage 파싱이 필요한지 여부
+     */
+    public record PageText(int pageNumber, String text, boolean needsLayoutParsing) {}
+
+    private final int minTextLength;
+    private final int tableLineThreshold;
+
+    public LocalPdfTextExtractor(
+            @Value("${pdf.local-extraction.min-text-length:100}") int minTextLength,
+            @Value("${pdf.local-extraction.table-line-threshold:3}") int tableLineThreshold
+    ) {
+        this.minTextLength = minTextLength;
+        this.tableLineThreshold = tableLineThreshold;
+    }
+
+    public List<PageText> extract(byte[] pdfBytes, String filename, int pageCount) {
+        ByteArrayResource resource = new ByteArrayResource(pdfBytes) {
+            @Override
+            public String getFilename() {
+                return filename != null && !filename.isBlank() ? filename : "document.pdf";
+            }
+        };
+
+        PdfDocumentReaderConfig config = PdfDocumentReaderConfig.builder()
+                .withPagesPerDocument(1)
+                .build();
+
+        Map<Integer, String> rawTextByPage = new HashMap<>();
+        for (Document document : new PagePdfDocumentReader(resource, config).get()) {
+            Object pageNumber = document.getMetadata().get(PagePdfDocumentReader.METADATA_START_PAGE_NUMBER);
+            if (pageNumber != null && document.getText() != null) {
+                rawTextByPage.put(Integer.parseInt(pageNumber.toString()), document.getText());
+            }
+        }
+
+        // 텍스트가 없는 페이지는 리더가 생략할 수 있으므로 전체 페이지 기준으로 채운다
+        List<PageText> pages = new ArrayList<>(pageCount);
+        for (int pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+            String rawText = rawTextByPage.getOrDefault(pageNumber, "");
+            String text = normalize(rawText);
+            boolean needsLayoutParsing = text.length() < minTextLength || looksLikeTable(rawText);
+            pages.add(new PageText(pageNumber, text, needsLayoutParsing));
+        }
+
+        logger.debug("Local text extraction for {}: {} of {} pages need layout parsing", filename,
+                pages.stream().filter(PageText::needsLayoutParsing).count(), pageCount);
+        return pages;
+    }
+
+    /**
+     * 로컬 추출한 페이지 텍스트를 Upstage 응답과 같은 형태의 요소로 나눕니다.
+     * 번호 제목("1.", "Ⅰ.")은 heading1, 가나다 소제목("가.")은 heading2로 분류하고,
+     * 그 사이 줄은 목록 기호마다 끊어 문단 요소로 묶습니다. 섹션 분할과 청킹이 Upstage 파싱 페이지와 같게 동작하도록 하기 위함입니다.
+     */
+    public List<Element> toElements(PageText page) {
+        List<Element> elements = new ArrayList<>();
+        StringBuilder paragraph = new StringBuilder();
+        for (String line : page.text().split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String headingCategory = headingCategory(line);
+            if (headingCategory != null || LIST_ITEM.matcher(line).matches()) {
+                flushParagraph(page.pageNumber(), paragraph, elements);
+            }
+            if (headingCategory != null) {
+                elements.add(element(page.pageNumber(), headingCategory, line));
+                continue;
+            }
+            if (!paragraph.isEmpty()) {
+                paragraph.append('\n');
+            }
+            paragraph.append(line);
+        }
+        flushParagraph(page.pageNumber(), paragraph, elements);
+        return elements;
+    }
+
+    private String headingCategory(String line) {
+        if (line.length() > MAX_HEADING_LENGTH || line.endsWith("다.")) {
+            return null;
+        }
+        if (SECTION_HEADING.matcher(line).matches()) {
+            return "heading1";
+        }
+        if (SUB_HEADING.matcher(line).matches()) {
+            return "heading2";
+        }
+        return null;
+    }
+
+    private void flushParagraph(int pageNumber, StringBuilder paragraph, List<Element> elements) {
+        if (!paragraph.isEmpty()) {
+            elements.add(element(pageNumber, "paragraph", paragraph.toString()));
+            paragraph.setLength(0);
+        }
+    }
+
+    // 요소 ID는 병합 후 다시 매겨지므로 0으로 둔다
+    private Element element(int pageNumber, String category, String text) {
+        return new Element(0, pageNumber, category, new Content(null, text, text), List.of());
+    }
+
+    /**
+     * 3열 이상이고 열 시작 위치가 서로 맞는 행이 임계값 이상 연속되면 표가 있는 페이지로 판단합니다.
+     * 숫자 여부는 보지 않으므로 자격/서류 대조표처럼 글자만 있는 표도 표로 판단합니다.
+     */
+    boolean looksLikeTable(String layoutText) {
+        List<Integer> previous = null;
+        int alignedRows = 0;
+        for (String line : layoutText.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<Integer> columns = columnStarts(line);
+            if (columns.size() < 3) {
+                previous = null;
+                alignedRows = 0;
+                continue;
+            }
+            alignedRows = previous != null && aligned(previous, columns) ? alignedRows + 1 : 1;
+            if (alignedRows >= tableLineThreshold) {
+                return true;
+            }
+            previous = columns;
+        }
+        return false;
+    }
+
+    /**
+     * 행에서 각 셀이 시작하는 글자 위치
+     */
+    private List<Integer> columnStarts(String line) {
+        List<Integer> starts = new ArrayList<>();
+        int first = 0;
+        while (first < line.length() && Character.isWhitespace(line.charAt(first))) {
+            first++;
+        }
+        starts.add(first);
+        Matcher gap = COLUMN_GAP.matcher(line);
+        while (gap.find()) {
+            if (gap.start() > first && gap.end() < line.length()) {
+                starts.add(gap.end());
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * 첫 셀을 제외한 열 중 두 개 이상이 이전 행의 열 위치와 맞는지
+     */
+    private boolean aligned(List<Integer> previous, List<Integer> current) {
+        int matches = 0;
+        for (int i = 1; i < current.size(); i++) {
+            int start = current.get(i);
+            if (previous.stream().anyMatch(p -> Math.abs(p - start) <= COLUMN_TOLERANCE)) {
+                matches++;
+            }
+        }
+        return matches >= 2;
+    }
+
+    private String normalize(String layoutText) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : layoutText.split("\n")) {
+            String collapsed = HORIZONTAL_SPACES.matcher(line).replaceAll(" ").strip();
+            if (!collapsed.isEmpty()) {
+                builder.append(collapsed).append('\n');
+            }
+        }
+        return builder.toString().strip();
+    }
+}
@@ -0,0 +1,176 @@
+package com.sixpm.infrastructure.pdf;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * PDF를 페이지 단위로 나누는 유틸리티 (PDFBox 기반)
+ */
+@Component
+public class PdfPageSplitter {
+
+    /**
+     * 분할된 PDF 조각
+     *
+     * @param pageNumbers 조각에 포함된 원본 문서의 페이지 번호 목록 (1부터 시작, 조각 내 순서와 동일)
+     * @param bytes       조각 PDF 바이트
+     */
+    public record PdfPart(List<Integer> pageNumbers, byte[] bytes) {}
+
+    public int countPages(byte[] pdfBytes) {
+        try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+            return document.getNumberOfPages();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read PDF page count", e);
+        }
+    }
+
+    /**
+     * 페이지별 내용 해시 (SHA-256 hex, 페이지 순서). 페이지 크기/회전, 내용 스트림과 페이지 리소스 전체
+     * (폰트 사전과 내장 폰트/ToUnicode 스트림, 이미지 등 XObject 원본 스트림)를 해시하므로
+     * 정정공고에서 바뀌지 않은 페이지는 원본 파일과 같은 해시를 가지고, 글자 모양이나 글자 매핑만 바뀐 페이지는 다른 해시를 가집니다.
+     */
+    public List<String> pageHashes(byte[] pdfBytes) {
+        try (PDDocument document = Loader.loadPDF(pdfBytes)) {
+            List<String> hashes = new ArrayList<>(document.getNumberOfPages());
+            for (PDPage page : document.getPages()) {
+                hashes.add(hashPage(page));
+            }
+            return hashes;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to hash PDF pages", e);
+        }
+    }
+
+    /**
+     * 전체 페이지를 pagesPerPart 단위의 연속된 페이지 범위로 분할합니다.
+     */
+    public List<PdfPart> split(byte[] pdfBytes, int pagesPerPart) {
+        return split(pdfBytes, null, pagesPerPart);
+    }
+
+    /**
+     * 지정한 페이지들만 골라 pagesPerPart 단위로 묶은 PDF 조각들을 생성합니다.
+     *
+     * @param pageNumbers 포함할 페이지 번호 (1부터 시작, 오름차순). null이면 전체 페이지
+     */
+    public List<PdfPart> split(byte[] pdfBytes, List<Integer> pageNumbers, int pagesPerPart) {
+        if (pagesPerPart < 1) {
+            throw new IllegalArgumentException("pagesPerPart must be positive");
+        }
+
+        try (PDDocument source = Loader.loadPDF(pdfBytes)) {
+            List<Integer> selectedPages = pageNumbers != null
+                    ? pageNumbers
+                    : IntStream.rangeClosed(1, source.getNumberOfPages()).boxed().toList();
+
+            List<PdfPart> parts = new ArrayList<>();
+            for (int from = 0; from < selectedPages.size(); from += pagesPerPart) {
+                List<Integer> partPages = selectedPages.subList(from, Math.min(from + pagesPerPart, selectedPages.size()));
+                parts.add(new PdfPart(List.copyOf(partPages), copyPages(source, partPages)));
+            }
+            return parts;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to split PDF", e);
+        }
+    }
+
+    private String hashPage(PDPage page) throws IOException {
+        MessageDigest digest = sha256();
+        digest.update((page.getMediaBox() + "/" + page.getRotation()).getBytes(StandardCharsets.UTF_8));
+
+        try (InputStream contents = page.getContents()) {
+            update(digest, contents);
+        }
+
+        PDResources resources = page.getResources();
+        if (resources != null) {
+            update(digest, resources.getCOSObject(), Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 리소스 객체를 따라가며 사전의 키와 값, 스트림 원본 바이트를 해시합니다. (여러 곳에서 참조하는 객체는 한 번만)
+     */
+    private void update(MessageDigest digest, COSBase base, Set<COSBase> visited) throws IOException {
+        COSBase object = base instanceof COSObject reference ? reference.getObject() : base;
+        if (object == null) {
+            return;
+        }
+        if (object instanceof COSDictionary || object instanceof COSArray) {
+            if (!visited.add(object)) {
+                return;
+            }
+        }
+
+        if (object instanceof COSDictionary dictionary) {
+            for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+                digest.update(entry.getKey().getName().getBytes(StandardCharsets.UTF_8));
+                update(digest, entry.getValue(), visited);
+            }
+            if (object instanceof COSStream stream) {
+                try (InputStream raw = stream.createRawInputStream()) {
+                    update(digest, raw);
+                }
+            }
+        } else if (object instanceof COSArray array) {
+            for (int i = 0; i < array.size(); i++) {
+                update(digest, array.get(i), visited);
+            }
+        } else {
+            digest.update(object.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void update(MessageDigest digest, InputStream in) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private byte[] copyPages(PDDocument source, List<Integer> pageNumbers) throws IOException {
+        try (PDDocument target = new PDDocument()) {
+            for (int pageNumber : pageNumbers) {
+                target.importPage(source.getPage(pageNumber - 1));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            target.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.sixpm.infrastructure.upstage.client;
 
 import com.sixpm.domain.announcement.dto.response.ParsedDocument;
-import com.sixpm.infrastructure.upstage.dto.response.UpstageParseResponse;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
@@ -10,21 +9,23 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
-
-import java.util.Collections;
+import org.springframework.web.client.RestClientResponseException;
 
 @Component
 public class UpstageClient {
 
     private final RestClient restClient;
+    private final UpstageResponseDecoder responseDecoder;
     private final String apiKey;
 
     public UpstageClient(
             RestClient.Builder restClientBuilder,
+            UpstageResponseDecoder responseDecoder,
             @Value("${upstage.api.base-url}") String baseUrl,
             @Value("${upstage.api.key}") String apiKey
     ) {
         this.restClient = restClientBuilder.baseUrl(baseUrl).build();
+        this.responseDecoder = responseDecoder;
         this.apiKey = apiKey;
     }
 
@@ -32,22 +33,20 @@ public class UpstageClient {
         MultiValueMap<String, Object> body = createRequestBody(
             fileBytes, filename);
 
-        UpstageParseResponse response = restClient.post()
+        // 응답 전체를 객체로 바인딩하지 않고 필요한 필드만 스트리밍으로 읽는다
+        return restClient.post()
                 .header("Authorization", "Bearer " + apiKey)
                 .contentType(MediaType.MULTIPART_FORM_DATA)
                 .body(body)
-                .retrieve()
-                .body(UpstageParseResponse.class);
-
-        if (response == null) {
-            return new ParsedDocument("", Collections.emptyList());
-        }
-
-        String fullText = response.content() != null && response.content().markdown() != null
-                ? response.content().markdown()
-                : "";
-        
-        return new ParsedDocument(fullText, response.elements() != null ? response.elements() : Collections.emptyList());
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new RestClientResponseException(
+                                "Upstage document parse failed: " + response.getStatusCode(),
+                                response.getStatusCode(), response.getStatusText(), response.getHeaders(),
+                                response.getBody().readAllBytes(), null);
+                    }
+                    return responseDecoder.decode(response.getBody());
+                });
     }
 
     private static @NonNull MultiValueMap<String, Object> createRequestBody(
@@ -64,7 +63,8 @@ public class UpstageClient {
 
         body.add("document", resource);
         body.add("model", "document-parse");
-        body.add("output_formats", "['markdown', 'html', 'text']");
+        // markdown: 문서 전체 텍스트 및 표(기준 추출), text: 본문 임베딩. html은 사용하지 않으므로 요청하지 않음
+        body.add("output_formats", "['markdown', 'text']");
         return body;
     }
 }
@@ -0,0 +1,137 @@
+package com.sixpm.infrastructure.upstage.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Upstage Document Parse 응답을 스트리밍으로 디코딩합니다.
+ * 하위 단계에서 사용하지 않는 필드(html, coordinates, usage 등)는 객체로 만들지 않고 건너뛰며,
+ * 카테고리명은 공유 인스턴스를 사용해 요소마다 문자열이 새로 생기지 않도록 합니다.
+ */
+@Component
+public class UpstageResponseDecoder {
+
+    private static final Map<String, String> KNOWN_CATEGORIES = Stream.of(
+                    "paragraph", "table", "figure", "chart", "equation", "list", "index",
+                    "heading1", "header", "footer", "caption", "footnote")
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), Function.identity()));
+
+    private final JsonFactory jsonFactory;
+
+    public UpstageResponseDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public ParsedDocument decode(InputStream body) throws IOException {
+        String fullText = "";
+        List<Element> elements = new ArrayList<>();
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new ParsedDocument("", List.of());
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "content" -> {
+                        // 문서 전체 텍스트는 마크다운만 사용
+                        Content content = readContent(parser, false);
+                        fullText = content != null && content.markdown() != null ? content.markdown() : "";
+                    }
+                    case "elements" -> readElements(parser, elements);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        return new ParsedDocument(fullText, elements);
+    }
+
+    private void readElements(JsonParser parser, List<Element> elements) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            elements.add(readElement(parser));
+        }
+    }
+
+    private Element readElement(JsonParser parser) throws IOException {
+        int id = 0;
+        int page = 0;
+        String category = null;
+        Content content = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "id" -> id = parser.getValueAsInt();
+                case "page" -> page = parser.getValueAsInt();
+                case "category" -> category = internCategory(parser.getValueAsString());
+                case "content" -> content = readContent(parser, true);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new Element(id, page, category, content, List.of());
+    }
+
+    private Content readContent(JsonParser parser, boolean includeText) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String markdown = null;
+        String text = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if ("markdown".equals(field)) {
+                markdown = parser.getValueAsString();
+            } else if (includeText && "text".equals(field)) {
+                text = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        // 요소 텍스트가 없으면 마크다운을 그대로 사용
+        if (includeText && text == null) {
+            text = markdown;
+        }
+        return new Content(null, markdown, text);
+    }
+
+    private String internCategory(String category) {
+        if (category == null) {
+            return null;
+        }
+        String known = KNOWN_CATEGORIES.get(category);
+        return known != null ? known : category.intern();
+    }
+}
@@ -0,0 +1,39 @@
+package com.sixpm.presentation.ai.controller;
+
+import com.sixpm.domain.ai.dto.response.VectorBenchmarkResponse;
+import com.sixpm.domain.ai.service.retrieval.VectorSearchBenchmark;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 벡터 저장소 관리 컨트롤러 (Admin)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/vector-store")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Vector Store", description = "벡터 저장소 관리 API (관리자)")
+public class VectorStoreAdminController {
+
+    private final VectorSearchBenchmark vectorSearchBenchmark;
+
+    @GetMapping("/benchmark")
+    @Operation(
+            summary = "벡터 인덱스 방식 비교",
+            description = "저장된 청크를 질의로 사용해 인덱스 방식(float32, halfvec, 앞부분 차원 halfvec, bit)별 " +
+                    "정확 탐색 대비 recall@k와 지연 시간을 측정합니다."
+    )
+    public ResponseEntity<VectorBenchmarkResponse> benchmark(
+            @RequestParam(defaultValue = "50") int sampleSize,
+            @RequestParam(defaultValue = "5") int k) {
+        log.info("Vector benchmark requested: sampleSize={}, k={}", sampleSize, k);
+        return ResponseEntity.ok(vectorSearchBenchmark.run(sampleSize, k));
+    }
+}
@@ -1,7 +1,13 @@
 package com.sixpm.presentation.announcement.controller;
 
 import com.sixpm.domain.announcement.dto.request.AnnouncementFetchRequest;
+import com.sixpm.domain.announcement.dto.request.AnnouncementReprocessRequest;
 import com.sixpm.domain.announcement.dto.response.AnnouncementFetchResponse;
+import com.sixpm.domain.announcement.dto.response.AnnouncementReprocessJobResponse;
+import com.sixpm.domain.announcement.entity.Announcement;
+import com.sixpm.domain.announcement.repository.AnnouncementRepository;
+import com.sixpm.domain.announcement.service.AnnouncementProcessingQueue;
+import com.sixpm.domain.announcement.service.AnnouncementReprocessService;
 import com.sixpm.domain.announcement.service.AnnouncementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,7 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import com.sixpm.domain.announcement.service.AnnouncementProcessingService; // Import 추가
+import java.util.List;
 
 /**
  * 청약 공고 관리 컨트롤러 (Admin)
@@ -24,7 +30,9 @@ import com.sixpm.domain.announcement.service.AnnouncementProcessingService; // I
 public class AnnouncementAdminController {
 
     private final AnnouncementService announcementService;
-    private final AnnouncementProcessingService processingService;
+    private final AnnouncementRepository announcementRepository;
+    private final AnnouncementProcessingQueue processingQueue;
+    private final AnnouncementReprocessService reprocessService;
 
     @PostMapping("/fetch")
     @Operation(
@@ -45,12 +53,46 @@ public class AnnouncementAdminController {
     @PostMapping("/{id}/process")
     @Operation(
             summary = "공고 상세 처리 수동 실행",
-            description = "특정 공고 ID에 대해 파싱, 정보 추출, 벡터 임베딩 작업을 비동기로 다시 실행합니다."
+            description = "특정 공고 ID에 대해 파싱, 정보 추출, 벡터 임베딩 작업을 처리 대기열에 등록합니다. " +
+                    "수동 요청은 우선 처리됩니다."
     )
     public ResponseEntity<String> processAnnouncement(@PathVariable Long id) {
         log.info("Manual trigger for processing announcement ID: {}", id);
-        processingService.processAnnouncementAsync(id);
-        return ResponseEntity.ok("Processing started asynchronously for ID: " + id);
+        Announcement announcement = announcementRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다. ID: " + id));
+        processingQueue.enqueue(announcement);
+        processingQueue.boost(id);
+        return ResponseEntity.ok("Processing queued for ID: " + id);
+    }
+
+    @PostMapping("/reprocess")
+    @Operation(
+            summary = "공고 일괄 재처리 시작",
+            description = "모집공고일 범위, 지역, 처리 상태, 자격 요건 누락 여부로 공고를 골라 재처리 작업을 시작합니다. " +
+                    "단계(전체/자격 요건만/임베딩만)와 동시 처리 수를 지정할 수 있습니다."
+    )
+    public ResponseEntity<AnnouncementReprocessJobResponse> startReprocess(
+            @Valid @RequestBody AnnouncementReprocessRequest request) {
+        log.info("Bulk reprocess requested: {}", request);
+        return ResponseEntity.ok(reprocessService.start(request));
     }
-}
 
+    @GetMapping("/reprocess")
+    @Operation(summary = "공고 일괄 재처리 작업 목록", description = "최근 시작한 순으로 재처리 작업의 진행 상황을 조회합니다.")
+    public ResponseEntity<List<AnnouncementReprocessJobResponse>> getReprocessJobs() {
+        return ResponseEntity.ok(reprocessService.getJobs());
+    }
+
+    @GetMapping("/reprocess/{jobId}")
+    @Operation(summary = "공고 일괄 재처리 진행 상황", description = "재처리 작업의 처리 수, 성공/실패 수, 진행률을 조회합니다.")
+    public ResponseEntity<AnnouncementReprocessJobResponse> getReprocessJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(reprocessService.getJob(jobId));
+    }
+
+    @DeleteMapping("/reprocess/{jobId}")
+    @Operation(summary = "공고 일괄 재처리 취소", description = "새 공고 처리를 중단합니다. 이미 처리 중인 공고는 끝까지 처리됩니다.")
+    public ResponseEntity<AnnouncementReprocessJobResponse> cancelReprocess(@PathVariable String jobId) {
+        log.info("Bulk reprocess cancellation requested: {}", jobId);
+        return ResponseEntity.ok(reprocessService.cancel(jobId));
+    }
+}
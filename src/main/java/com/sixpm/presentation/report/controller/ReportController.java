@@ -33,12 +33,13 @@ public class ReportController {
   private final ReportService reportService;
 
   @GetMapping
-  @Operation(summary = "공고 자연어 검색 (RAG)", description = "사용자의 질문과 유사한 공고를 벡터 저장소에서 검색하여 공고 목록을 반환합니다.")
+  @Operation(summary = "공고 자연어 검색 (RAG)", description = "사용자의 질문과 유사한 공고를 벡터 저장소에서 검색하여 서로 다른 공고 size개를 관련도 순으로 반환합니다.")
   public ResponseEntity<List<AnnouncementListResponse.AnnouncementItem>> searchAnnouncements(
-      @RequestParam String query
+      @RequestParam String query,
+      @RequestParam(defaultValue = "5") int size
   ) {
-    log.info("Searching announcements: {}", query);
-    List<AnnouncementItem> response = reportService.searchAnnouncements(query);
+    log.info("Searching announcements: {} (size={})", query, size);
+    List<AnnouncementItem> response = reportService.searchAnnouncements(query, size);
     return ResponseEntity.ok(response);
   }
 
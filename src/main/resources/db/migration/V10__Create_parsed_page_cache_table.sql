@@ -0,0 +1,18 @@
+-- 페이지 단위 파싱 결과 캐시 테이블 생성
+-- 정정공고처럼 일부 페이지만 바뀐 PDF는 바뀐 페이지만 Upstage로 다시 파싱하고 나머지는 캐시된 요소를 사용함
+CREATE TABLE parsed_page_cache (
+    page_hash VARCHAR(64) PRIMARY KEY,     -- 페이지 내용(내용 스트림, XObject)의 SHA-256 (hex)
+    elements JSONB NOT NULL,               -- 페이지의 Upstage 파싱 요소 목록 (JSON 배열)
+    hit_count INTEGER NOT NULL DEFAULT 0,  -- 캐시 적중 횟수
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE parsed_page_cache IS 'PDF 페이지 내용 해시별 Upstage 파싱 결과 캐시';
+COMMENT ON COLUMN parsed_page_cache.page_hash IS '페이지 내용의 SHA-256 해시';
+COMMENT ON COLUMN parsed_page_cache.elements IS '페이지의 파싱 요소 목록 (Element JSON 배열)';
+
+-- updated_at 자동 업데이트 트리거 적용 (기존 함수 재사용)
+CREATE TRIGGER update_parsed_page_cache_updated_at BEFORE UPDATE
+    ON parsed_page_cache FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
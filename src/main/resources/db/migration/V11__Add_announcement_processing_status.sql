@@ -0,0 +1,18 @@
+-- 공고 상세 처리(파싱, 자격 요건 추출, 임베딩) 상태 컬럼 추가
+-- 일괄 재처리 시 처리 상태로 대상을 고르기 위함
+ALTER TABLE announcements
+    ADD COLUMN processing_status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+
+ALTER TABLE announcements
+    ADD COLUMN processed_at TIMESTAMP;
+
+-- 기존 공고 중 자격 요건이 저장된 공고는 처리 완료로 표시
+UPDATE announcements a
+SET processing_status = 'COMPLETED'
+WHERE EXISTS (SELECT 1 FROM announcement_criteria c WHERE c.announcement_id = a.id);
+
+CREATE INDEX idx_announcements_processing_status ON announcements(processing_status);
+
+-- 코멘트 추가
+COMMENT ON COLUMN announcements.processing_status IS '상세 처리 상태 (PENDING, PROCESSING, COMPLETED, FAILED, SKIPPED)';
+COMMENT ON COLUMN announcements.processed_at IS '마지막 상세 처리 완료(또는 실패) 시각';
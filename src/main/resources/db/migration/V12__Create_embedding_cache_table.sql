@@ -0,0 +1,16 @@
+-- 청크 임베딩 캐시 테이블 생성
+-- 재처리 시 내용이 바뀌지 않은 청크나 여러 공고에 반복되는 안내 문구는 임베딩 API를 다시 호출하지 않음
+CREATE TABLE embedding_cache (
+    model VARCHAR(100) NOT NULL,           -- 임베딩 모델명
+    dimensions INTEGER NOT NULL,           -- 임베딩 차원 수
+    content_hash VARCHAR(64) NOT NULL,     -- 청크 텍스트의 SHA-256 (hex)
+    embedding vector NOT NULL,             -- 임베딩 벡터
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (model, dimensions, content_hash)
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE embedding_cache IS '모델/차원/청크 내용 해시별 임베딩 캐시';
+COMMENT ON COLUMN embedding_cache.content_hash IS '청크 텍스트의 SHA-256 해시';
+COMMENT ON COLUMN embedding_cache.embedding IS '임베딩 벡터 (차원 제한 없음)';
@@ -0,0 +1,15 @@
+-- Vector Store 공고 ID 필터링 인덱스
+-- 공고별 RAG 검색이 전체 HNSW 탐색 후 필터링하지 않고 해당 공고의 청크만 읽도록 함
+
+-- 메타데이터를 jsonb로 변환 (Spring AI의 필터식은 metadata::jsonb로 비교하므로 그대로 동작)
+ALTER TABLE vector_store ALTER COLUMN metadata TYPE jsonb USING metadata::jsonb;
+
+-- 메타데이터의 공고 ID를 생성 컬럼으로 추출
+ALTER TABLE vector_store
+    ADD COLUMN notice_id BIGINT GENERATED ALWAYS AS ((metadata->>'notice_id')::bigint) STORED;
+
+CREATE INDEX idx_vector_store_notice_id ON vector_store(notice_id);
+
+-- 코멘트 추가
+COMMENT ON COLUMN vector_store.metadata IS '메타데이터 (JSONB)';
+COMMENT ON COLUMN vector_store.notice_id IS '공고 ID (metadata.notice_id에서 생성)';
@@ -0,0 +1,11 @@
+-- 키워드(부분 일치) 검색용 트라이그램 인덱스
+-- 단지명/지역명처럼 정확한 키워드로 찾는 질의는 벡터 검색보다 부분 일치가 정확하므로 함께 검색 후 순위를 합침
+-- 한글 형태소 분석 사전이 없어도 동작하도록 tsvector 대신 pg_trgm 사용 (DB 로케일이 한글을 문자로 인식해야 함, 예: ko_KR.UTF-8, en_US.UTF-8)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 청크 본문 부분 일치 (ILIKE '%키워드%')
+CREATE INDEX idx_vector_store_content_trgm ON vector_store USING gin (content gin_trgm_ops);
+
+-- 주택명 부분 일치/유사도
+CREATE INDEX idx_announcements_house_nm_trgm ON announcements USING gin (house_nm gin_trgm_ops);
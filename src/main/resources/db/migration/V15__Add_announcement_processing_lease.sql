@@ -0,0 +1,16 @@
+-- 공고 상세 처리 임대(lease) 시각과 자동 재시도 횟수 컬럼 추가
+-- 처리 도중 노드가 종료되어 PROCESSING에 남은 공고를 다시 처리하고, 계속 실패하는 공고는 자동 재시도에서 제외하기 위함
+ALTER TABLE announcements
+    ADD COLUMN processing_started_at TIMESTAMP;
+
+ALTER TABLE announcements
+    ADD COLUMN retry_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 처리 중 공고는 마지막 갱신 시각을 시작 시각으로 사용
+UPDATE announcements
+SET processing_started_at = updated_at
+WHERE processing_status = 'PROCESSING';
+
+-- 코멘트 추가
+COMMENT ON COLUMN announcements.processing_started_at IS '마지막 상세 처리 시작 시각 (처리 임대 만료 판단용)';
+COMMENT ON COLUMN announcements.retry_count IS '상세 처리 실패 횟수 (최대 횟수 이상이면 자동 재시도 제외)';
@@ -0,0 +1,43 @@
+-- 공고별 청크 변경 기록
+-- 검색 노드의 로컬 벡터 인덱스(LocalHnswVectorStore)가 전체 청크 ID를 비교하지 않고
+-- 마지막 동기화 이후 청크가 바뀐 공고만 다시 읽도록 함
+CREATE TABLE IF NOT EXISTS vector_store_changes (
+    notice_id BIGINT PRIMARY KEY,                -- 공고 ID
+    changed_at TIMESTAMP NOT NULL DEFAULT now()  -- 마지막 청크 추가/수정/삭제 시각
+);
+
+CREATE INDEX idx_vector_store_changes_changed_at ON vector_store_changes(changed_at);
+
+-- 문장 단위 트리거: 한 번의 배치 저장/삭제에서 공고당 한 행만 갱신
+CREATE OR REPLACE FUNCTION record_vector_store_changes() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO vector_store_changes (notice_id, changed_at)
+    SELECT DISTINCT notice_id, now() FROM changed_rows WHERE notice_id IS NOT NULL
+    ON CONFLICT (notice_id) DO UPDATE SET changed_at = EXCLUDED.changed_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vector_store_changes_insert
+    AFTER INSERT ON vector_store
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_vector_store_changes();
+
+CREATE TRIGGER trg_vector_store_changes_update
+    AFTER UPDATE ON vector_store
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_vector_store_changes();
+
+CREATE TRIGGER trg_vector_store_changes_delete
+    AFTER DELETE ON vector_store
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_vector_store_changes();
+
+-- 기존 공고는 지금 시각으로 기록 (이미 적재된 로컬 인덱스 스냅샷은 형식이 바뀌어 전체 적재하므로 누락 없음)
+INSERT INTO vector_store_changes (notice_id)
+SELECT DISTINCT notice_id FROM vector_store WHERE notice_id IS NOT NULL;
+
+-- 코멘트 추가
+COMMENT ON TABLE vector_store_changes IS '공고별 청크 변경 시각 (로컬 벡터 인덱스 동기화용)';
+COMMENT ON COLUMN vector_store_changes.notice_id IS '공고 ID';
+COMMENT ON COLUMN vector_store_changes.changed_at IS '마지막 청크 추가/수정/삭제 시각';
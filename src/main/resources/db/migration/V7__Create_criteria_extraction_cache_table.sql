@@ -0,0 +1,18 @@
+-- 자격 요건 추출 결과 캐시 테이블 생성
+-- 정규화된 표 텍스트의 해시(fingerprint)를 키로 LLM 추출 결과를 저장하여 동일한 표는 다시 추출하지 않음
+CREATE TABLE criteria_extraction_cache (
+    fingerprint VARCHAR(64) PRIMARY KEY,   -- 정규화된 입력 텍스트의 SHA-256 (hex)
+    response JSONB NOT NULL,               -- CriteriaResponse (JSON)
+    hit_count INTEGER NOT NULL DEFAULT 0,  -- 캐시 적중 횟수
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 코멘트 추가
+COMMENT ON TABLE criteria_extraction_cache IS '정규화된 표 텍스트 해시별 자격 요건 추출 결과 캐시';
+COMMENT ON COLUMN criteria_extraction_cache.fingerprint IS '정규화된 입력 텍스트의 SHA-256 해시';
+COMMENT ON COLUMN criteria_extraction_cache.response IS 'LLM 추출 결과 (CriteriaResponse JSON)';
+
+-- updated_at 자동 업데이트 트리거 적용 (기존 함수 재사용)
+CREATE TRIGGER update_criteria_extraction_cache_updated_at BEFORE UPDATE
+    ON criteria_extraction_cache FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,29 @@
+-- 기준 소득표 참조 데이터 테이블 생성
+-- 연도별 도시근로자 월평균소득 기준표는 공고마다 동일하므로 한 번만 저장하고 공고 자격 요건에서 참조함
+CREATE TABLE income_benchmark_reference (
+    id BIGSERIAL PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL UNIQUE,  -- 가구원수별 금액을 정렬해 만든 SHA-256 (hex)
+    benchmark JSONB NOT NULL,                 -- { "1": 3482964, "2": 5415712 ... }
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 공고 자격 요건 -> 기준 소득표 참조
+ALTER TABLE announcement_criteria
+    ADD COLUMN income_benchmark_reference_id BIGINT;
+
+ALTER TABLE announcement_criteria
+    ADD CONSTRAINT fk_criteria_income_benchmark_reference FOREIGN KEY (income_benchmark_reference_id)
+        REFERENCES income_benchmark_reference(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_criteria_income_benchmark_reference_id ON announcement_criteria(income_benchmark_reference_id);
+
+-- 코멘트 추가
+COMMENT ON TABLE income_benchmark_reference IS '가구원수별 월평균소득 기준표 참조 데이터 (동일 기준표는 한 행만 저장)';
+COMMENT ON COLUMN income_benchmark_reference.fingerprint IS '정렬된 가구원수별 금액의 SHA-256 해시';
+COMMENT ON COLUMN income_benchmark_reference.benchmark IS '가구원수별 월평균소득 100% 금액 (JSON)';
+COMMENT ON COLUMN announcement_criteria.income_benchmark_reference_id IS '공유 기준 소득표 참조 (없으면 NULL)';
+
+-- updated_at 자동 업데이트 트리거 적용 (기존 함수 재사용)
+CREATE TRIGGER update_income_benchmark_reference_updated_at BEFORE UPDATE
+    ON income_benchmark_reference FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
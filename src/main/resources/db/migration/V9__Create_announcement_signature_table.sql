@@ -0,0 +1,31 @@
+-- 공고문 유사도 시그니처 테이블 생성
+-- 정정공고/단지별 공고처럼 거의 같은 공고문을 찾아 자격 요건과 임베딩을 재사용하기 위함
+CREATE TABLE announcement_signature (
+    announcement_id BIGINT PRIMARY KEY,
+    simhash BIGINT NOT NULL,               -- 공고문 전체 텍스트의 64비트 SimHash
+    band0 INTEGER NOT NULL,                -- SimHash 0~15 비트
+    band1 INTEGER NOT NULL,                -- SimHash 16~31 비트
+    band2 INTEGER NOT NULL,                -- SimHash 32~47 비트
+    band3 INTEGER NOT NULL,                -- SimHash 48~63 비트
+    section_hashes JSONB NOT NULL,         -- 섹션별 내용 해시 목록 (JSON 배열)
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_signature_announcement FOREIGN KEY (announcement_id)
+        REFERENCES announcements(id) ON DELETE CASCADE
+);
+
+-- 구간 값 일치로 유사 공고 후보를 찾기 위한 인덱스
+CREATE INDEX idx_signature_band0 ON announcement_signature(band0);
+CREATE INDEX idx_signature_band1 ON announcement_signature(band1);
+CREATE INDEX idx_signature_band2 ON announcement_signature(band2);
+CREATE INDEX idx_signature_band3 ON announcement_signature(band3);
+
+-- 코멘트 추가
+COMMENT ON TABLE announcement_signature IS '공고문 유사도 판별용 SimHash 시그니처';
+COMMENT ON COLUMN announcement_signature.simhash IS '공고문 전체 텍스트의 64비트 SimHash';
+COMMENT ON COLUMN announcement_signature.section_hashes IS '제목 단위 섹션별 내용 해시 목록 (JSON)';
+
+-- updated_at 자동 업데이트 트리거 적용 (기존 함수 재사용)
+CREATE TRIGGER update_announcement_signature_updated_at BEFORE UPDATE
+    ON announcement_signature FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,116 @@
+package com.sixpm.domain.ai.service.gateway;
+
+import com.sixpm.domain.ai.enums.LlmPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LlmTokenBudget 테스트
+ */
+class LlmTokenBudgetTest {
+
+    private static final String MODEL = "gpt-4o-mini";
+
+    // 100 TPM, 백그라운드는 80까지
+    private final LlmTokenBudget budget = budget(30);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        // 한도에 막혀 대기 중인 백그라운드 호출은 인터럽트로 정리
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testAcquire_백그라운드는예약분을제외한한도까지만사용() {
+        // 한도보다 큰 단일 요청은 백그라운드 한도로 잘림
+        budget.acquire(MODEL, 200, LlmPriority.BACKGROUND);
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(80);
+
+        Future<LlmTokenBudget.Reservation> background =
+                executor.submit(() -> budget.acquire(MODEL, 1, LlmPriority.BACKGROUND));
+        budget.acquire(MODEL, 20, LlmPriority.INTERACTIVE);
+
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(100);
+        assertThat(background).isNotDone();
+    }
+
+    @Test
+    void testAcquire_대기중인백그라운드보다사용자요청먼저() throws Exception {
+        LlmTokenBudget.Reservation first = budget.acquire(MODEL, 70, LlmPriority.BACKGROUND);
+
+        // 백그라운드는 70+20 > 80이라 대기, 사용자 요청은 70+20 <= 100이라 바로 통과
+        Future<LlmTokenBudget.Reservation> background =
+                executor.submit(() -> budget.acquire(MODEL, 20, LlmPriority.BACKGROUND));
+        budget.acquire(MODEL, 20, LlmPriority.INTERACTIVE);
+
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(90);
+        assertThat(background).isNotDone();
+
+        // 실제 사용량이 적었으면 대기 중이던 백그라운드가 이어서 예약
+        budget.settle(first, 10);
+        assertThat(background.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(50);
+    }
+
+    @Test
+    @Timeout(10)
+    void testAcquire_사용자요청이기다리는동안백그라운드는양보() throws Exception {
+        LlmTokenBudget.Reservation first = budget.acquire(MODEL, 100, LlmPriority.INTERACTIVE);
+        Future<LlmTokenBudget.Reservation> interactive =
+                executor.submit(() -> budget.acquire(MODEL, 30, LlmPriority.INTERACTIVE));
+        while (budget.waitingInteractive(MODEL) == 0) {
+            Thread.yield();
+        }
+        Future<LlmTokenBudget.Reservation> background =
+                executor.submit(() -> budget.acquire(MODEL, 10, LlmPriority.BACKGROUND));
+
+        // 70 + 10 <= 80이라 백그라운드도 들어갈 수 있지만, 사용자 요청이 대기 중이므로 양보
+        budget.settle(first, 70);
+
+        assertThat(interactive.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(100);
+        assertThat(background).isNotDone();
+    }
+
+    @Test
+    void testAcquire_사용자요청대기시간초과() {
+        LlmTokenBudget noWait = budget(0);
+        noWait.acquire(MODEL, 100, LlmPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> noWait.acquire(MODEL, 1, LlmPriority.INTERACTIVE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(MODEL);
+        assertThat(noWait.waitingInteractive(MODEL)).isZero();
+    }
+
+    @Test
+    void testSettle_실제사용량으로보정() {
+        LlmTokenBudget.Reservation reservation = budget.acquire(MODEL, 50, LlmPriority.BACKGROUND);
+
+        budget.settle(reservation, 30);
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(30);
+
+        budget.settle(reservation, 45);
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(45);
+
+        // 사용량을 알 수 없으면 그대로
+        budget.settle(reservation, null);
+        budget.settle(null, 10);
+        assertThat(budget.usedTokens(MODEL)).isEqualTo(45);
+    }
+
+    private LlmTokenBudget budget(long interactiveTimeoutSeconds) {
+        return new LlmTokenBudget(100, 100, Map.of(), Map.of(), 0.2, interactiveTimeoutSeconds);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import com.sixpm.domain.ai.dto.CriteriaResponse.AssetLimitRule;
+import com.sixpm.domain.ai.dto.CriteriaResponse.IncomeRatioRule;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.AssetLimitPart;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.EligibilityPart;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.IncomeBenchmarkPart;
+import com.sixpm.domain.ai.dto.CriteriaSectionResponse.IncomeRatioPart;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CriteriaSectionMerger 테스트
+ */
+class CriteriaSectionMergerTest {
+
+    @Test
+    void testMerge_영역별결과병합() {
+        CriteriaResponse merged = CriteriaSectionMerger.merge(List.of(
+                new EligibilityPart("광주광역시", null, true),
+                new IncomeBenchmarkPart(Map.of(1, 3_482_964L, 2, 5_415_712L)),
+                new AssetLimitPart(List.of(new AssetLimitRule(0, 361_000_000L, 38_030_000L))),
+                new IncomeRatioPart(List.of(new IncomeRatioRule("GENERAL", 1, 99, -1, 70)))));
+
+        assertThat(merged.residenceRegion()).isEqualTo("광주광역시");
+        assertThat(merged.minAge()).isEqualTo(19);
+        assertThat(merged.incomeBenchmark()).containsEntry(2, 5_415_712L);
+        assertThat(merged.assetLimits()).hasSize(1);
+        assertThat(merged.incomeRatios()).hasSize(1);
+    }
+
+    @Test
+    void testMerge_여러배치의소득비율은정렬하고중복제거() {
+        IncomeRatioRule disabled = new IncomeRatioRule("DISABLED", 1, 99, -1, 70);
+        IncomeRatioRule general = new IncomeRatioRule("GENERAL", 1, 99, -1, 100);
+        IncomeRatioRule multiChild = new IncomeRatioRule("MULTI_CHILD", 1, 99, 2, 120);
+
+        CriteriaResponse forward = CriteriaSectionMerger.merge(List.of(
+                new IncomeRatioPart(List.of(multiChild, general)),
+                new IncomeRatioPart(List.of(disabled, general))));
+        CriteriaResponse reversed = CriteriaSectionMerger.merge(List.of(
+                new IncomeRatioPart(List.of(disabled, general)),
+                new IncomeRatioPart(List.of(multiChild))));
+
+        assertThat(forward.incomeRatios()).containsExactly(disabled, general, multiChild);
+        assertThat(reversed.incomeRatios()).isEqualTo(forward.incomeRatios());
+    }
+
+    @Test
+    void testMerge_실패한영역은기본값() {
+        CriteriaResponse merged = CriteriaSectionMerger.merge(Arrays.asList(
+                null,
+                new AssetLimitPart(List.of(
+                        new AssetLimitRule(1, 361_000_000L, 38_030_000L),
+                        new AssetLimitRule(0, 337_000_000L, 38_030_000L),
+                        new AssetLimitRule(1, 100_000_000L, 0L)))));
+
+        assertThat(merged.requiresHomeless()).isTrue();
+        assertThat(merged.incomeBenchmark()).isEmpty();
+        assertThat(merged.assetLimits()).extracting(AssetLimitRule::childCount).containsExactly(0, 1);
+        assertThat(merged.assetLimits().get(1).assetLimit()).isEqualTo(361_000_000L);
+    }
+}
@@ -0,0 +1,112 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.knuddels.jtokkit.api.EncodingType;
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import com.sixpm.domain.ai.enums.CriteriaSection;
+import com.sixpm.domain.ai.service.ingestion.CriteriaSectionPlanner.SectionTask;
+import com.sixpm.domain.ai.service.ingestion.CriteriaTableSelector.SelectedTable;
+import com.sixpm.domain.ai.service.ingestion.StandardTableParser.ParsedTables;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CriteriaSectionPlanner 테스트
+ */
+class CriteriaSectionPlannerTest {
+
+    private final CriteriaTableSelector selector =
+            new CriteriaTableSelector(new JTokkitTokenCountEstimator(EncodingType.O200K_BASE), 6000, 1500);
+    private final CriteriaSectionPlanner planner = new CriteriaSectionPlanner(selector, 2000);
+
+    private static final ParsedTables NOTHING_PARSED = new ParsedTables(Map.of(), List.of(), Set.of());
+
+    @Test
+    void testPlan_자격표없는공고_신청자격문단전달() {
+        ParsedDocument document = new ParsedDocument("", List.of(
+                element(0, "heading1", "1. 신청자격"),
+                element(1, "paragraph", "공고일 현재 서울특별시에 거주하는 만 19세 이상 무주택세대구성원"),
+                element(2, "list", "혼인 중인 경우 배우자도 무주택이어야 함"),
+                element(3, "heading1", "2. 소득 기준"),
+                element(4, "table", """
+                        | 공급유형 | 소득 기준 |
+                        |---|---|
+                        | 청년 | 100% 이하 |
+                        | 신혼부부 | 120% 이하 |
+                        """)));
+
+        List<SelectedTable> tables = selector.selectTables(document);
+        List<SectionTask> tasks = planner.plan(tables, NOTHING_PARSED, selector.eligibilityProse(document));
+
+        assertThat(tasks).extracting(SectionTask::section)
+                .containsExactly(CriteriaSection.ELIGIBILITY, CriteriaSection.INCOME_RATIOS);
+        SectionTask eligibility = tasks.get(0);
+        assertThat(eligibility.text())
+                .contains("서울특별시에 거주하는 만 19세 이상 무주택세대구성원")
+                .contains("배우자도 무주택");
+        // 소득 비율 표는 기본 자격 작업에 중복해서 넣지 않음
+        assertThat(eligibility.text()).doesNotContain("신혼부부");
+    }
+
+    @Test
+    void testPlan_규칙으로모두읽은표_기본자격과소득비율은추출() {
+        ParsedDocument document = new ParsedDocument("", List.of(
+                element(0, "heading1", "신청자격"),
+                element(1, "paragraph", "공고일 현재 무주택세대구성원으로서 인천광역시에 거주하는 자"),
+                element(2, "heading1", "소득 및 자산 기준"),
+                element(3, "table", """
+                        | 공급유형 | 총자산 | 자동차 | 소득기준 |
+                        |---|---|---|---|
+                        | 청년 | 2억 5,400만원 이하 | 3,803만원 이하 | 100% 이하 |
+                        """)));
+        List<SelectedTable> tables = selector.selectTables(document);
+        ParsedTables parsed = new ParsedTables(Map.of(),
+                List.of(new CriteriaResponse.AssetLimitRule(0, 254_000_000L, 38_030_000L)),
+                Set.of(tables.get(0).order()));
+
+        List<SectionTask> tasks = planner.plan(tables, parsed, selector.eligibilityProse(document));
+
+        // 자산 한도는 규칙 결과를 쓰므로 작업이 없고, 기본 자격은 문단만, 소득 비율은 같은 표에서 추출
+        assertThat(tasks).extracting(SectionTask::section)
+                .containsExactly(CriteriaSection.ELIGIBILITY, CriteriaSection.INCOME_RATIOS);
+        assertThat(tasks.get(0).text()).contains("인천광역시에 거주하는 자").doesNotContain("청년");
+        assertThat(tasks.get(1).text()).contains("100% 이하");
+    }
+
+    @Test
+    void testEligibilityProse_제목없으면키워드문단() {
+        ParsedDocument document = new ParsedDocument("", List.of(
+                element(0, "paragraph", "본 공고는 행복주택 입주자 모집 공고입니다."),
+                element(1, "paragraph", "무주택세대구성원으로서 해당 지역에 거주하는 자"),
+                element(2, "table", "| 구분 | 무주택 |\n|---|---|\n| 청년 | 예 |"),
+                element(3, "footer", "무주택 문의: 콜센터")));
+
+        assertThat(selector.eligibilityProse(document))
+                .isEqualTo("무주택세대구성원으로서 해당 지역에 거주하는 자");
+    }
+
+    @Test
+    void testEligibilityProse_신청자격제목아래문단만() {
+        ParsedDocument document = new ParsedDocument("", List.of(
+                element(0, "heading1", "유의사항"),
+                element(1, "paragraph", "무주택 여부는 전산 검색으로 확인합니다."),
+                element(2, "heading1", "입주 자격"),
+                element(3, "paragraph", "만 19세 이상 39세 이하인 미혼 무주택자"),
+                element(4, "heading1", "제출서류"),
+                element(5, "paragraph", "주민등록등본 1부")));
+
+        assertThat(selector.eligibilityProse(document)).isEqualTo("만 19세 이상 39세 이하인 미혼 무주택자");
+    }
+
+    private Element element(int id, String category, String text) {
+        return new Element(id, 1, category, new Content(null, text, text), List.of());
+    }
+}
@@ -0,0 +1,86 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.knuddels.jtokkit.api.EncodingType;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CriteriaTableSelector 테스트
+ */
+class CriteriaTableSelectorTest {
+
+    private final CriteriaTableSelector selector =
+            new CriteriaTableSelector(new JTokkitTokenCountEstimator(EncodingType.O200K_BASE), 6000, 1500);
+
+    @Test
+    void testSelect_신청자격문단포함() {
+        ParsedDocument document = new ParsedDocument("전체 텍스트", List.of(
+                element(0, "heading1", "신청자격"),
+                element(1, "paragraph", "공고일 현재 무주택세대구성원으로서 경기도에 거주하는 자"),
+                element(2, "heading1", "소득 및 자산 기준"),
+                element(3, "table", """
+                        | 구분 | 자산 | 자동차 |
+                        |---|---|---|
+                        | 청년 | 25,400만원 | 3,803만원 |
+                        """)));
+
+        String text = selector.select(document);
+
+        assertThat(text).startsWith("공고일 현재 무주택세대구성원으로서 경기도에 거주하는 자");
+        assertThat(text).contains("[소득 및 자산 기준]").contains("254000000");
+    }
+
+    @Test
+    void testEligibilityProse_예산을넘는문단은건너뛰고뒤문단유지() {
+        CriteriaTableSelector smallBudget =
+                new CriteriaTableSelector(new JTokkitTokenCountEstimator(EncodingType.O200K_BASE), 6000, 60);
+        ParsedDocument document = new ParsedDocument("전체 텍스트", List.of(
+                element(0, "heading1", "신청자격"),
+                element(1, "paragraph", "공고일 현재 무주택세대구성원"),
+                element(2, "paragraph", "유의사항 ".repeat(100)),
+                element(3, "paragraph", "만 19세 이상 39세 이하인 자")));
+
+        String prose = smallBudget.eligibilityProse(document);
+
+        assertThat(prose).isEqualTo("공고일 현재 무주택세대구성원\n만 19세 이상 39세 이하인 자");
+    }
+
+    @Test
+    void testSelect_표없으면전체텍스트() {
+        ParsedDocument document = new ParsedDocument("전체 텍스트", List.of(
+                element(0, "paragraph", "무주택세대구성원")));
+
+        assertThat(selector.select(document)).isEqualTo("전체 텍스트");
+    }
+
+    @Test
+    void testRender_디코더출력형태의마크다운표() {
+        // UpstageResponseDecoder는 html 없이 markdown과 text만 채움
+        Element table = new Element(3, 2, "table", new Content(null, """
+                | 공급유형 | 구분 | 총자산 |
+                |---|---|---|
+                | 대학생 | 본인 | 1억 400만원 이하 |
+                | | 부모 | 3억 6,100만원 이하 |
+                """, "공급유형 구분 총자산 대학생 본인 1억 400만원 이하 부모 3억 6,100만원 이하"), List.of());
+        ParsedDocument document = new ParsedDocument("", List.of(element(0, "heading1", "자산 기준"), table));
+
+        String rendered = selector.render(selector.selectTables(document));
+
+        assertThat(rendered).isEqualTo("""
+                [자산 기준]
+                공급유형\t구분\t총자산
+                대학생\t본인\t104000000원 이하
+                대학생\t부모\t361000000원 이하""");
+    }
+
+    private Element element(int id, String category, String text) {
+        return new Element(id, 1, category, new Content(null, text, text), List.of());
+    }
+}
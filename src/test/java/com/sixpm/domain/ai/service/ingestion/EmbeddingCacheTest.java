@@ -0,0 +1,107 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmbeddingCache 테스트
+ */
+class EmbeddingCacheTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmbeddingCache cache = new EmbeddingCache(jdbcTemplate, meterRegistry, "text-embedding-3-small", 512);
+
+    @Test
+    void testGetAll_캐시에있는해시만반환() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString(1)).thenReturn("hash-a");
+        when(row.getString(2)).thenReturn("[0.5,-0.25]");
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        Map<String, float[]> cached = cache.getAll(List.of("hash-a", "hash-b"));
+
+        assertThat(cached).containsOnlyKeys("hash-a");
+        assertThat(cached.get("hash-a")).containsExactly(0.5f, -0.25f);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void testGetAll_모델과차원수로조회() {
+        cache.getAll(List.of("hash-a"));
+
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), params.capture());
+        assertThat(params.getValue()).containsExactly("text-embedding-3-small", 512, "hash-a");
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void testGetAll_조회실패하면모두새로임베딩() {
+        doThrow(new IllegalStateException("db down"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        assertThat(cache.getAll(List.of("hash-a", "hash-b"))).isEmpty();
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPutAll_모델과차원수로저장() {
+        Map<String, float[]> embeddings = new LinkedHashMap<>();
+        embeddings.put("hash-a", new float[]{0.5f, -0.25f});
+
+        cache.putAll(embeddings);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().get(0)).containsExactly("text-embedding-3-small", 512, "hash-a", "[0.5,-0.25]");
+    }
+
+    @Test
+    void testPutAll_저장실패는무시() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new IllegalStateException("db down"));
+
+        cache.putAll(Map.of("hash-a", new float[]{1f}));
+
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO embedding_cache (model, dimensions, content_hash, embedding) " +
+                "VALUES (?, ?, ?, ?::vector) ON CONFLICT DO NOTHING"), anyList());
+    }
+
+    @Test
+    void testGetAll_빈입력은조회하지않음() {
+        assertThat(cache.getAll(List.of())).isEmpty();
+        cache.putAll(Map.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("embedding.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,138 @@
+package com.sixpm.domain.ai.service.ingestion;
+
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StandardTableParser 테스트
+ */
+class StandardTableParserTest {
+
+    private final StandardTableParser parser = new StandardTableParser();
+
+    @Test
+    void testParseIncomeBenchmark_가구원수열() {
+        String table = """
+                | 구분 | 1인 | 2인 | 3인 | 4인 |
+                |---|---|---|---|---|
+                | 100% | 3,482,964원 | 5,415,712원 | 7,198,649원 | 8,248,467원 |
+                | 70% | 2,438,075원 | 3,790,998원 | 5,039,054원 | 5,773,927원 |
+                """;
+
+        StandardTableParser.TableResult<Map<Integer, Long>> result = parser.parseIncomeBenchmark(table, "소득 기준");
+
+        assertThat(result).isNotNull();
+        assertThat(result.value()).isEqualTo(Map.of(
+                1, 3_482_964L, 2, 5_415_712L, 3, 7_198_649L, 4, 8_248_467L));
+        assertThat(result.complete()).isTrue();
+    }
+
+    @Test
+    void testParseIncomeBenchmark_가구원수행_천원단위() {
+        String table = """
+                | 가구원수 | 월평균소득 100% | 70% |
+                |---|---|---|
+                | 1인 | 3,483 | 2,438 |
+                | 2인 | 5,416 | 3,791 |
+                | 3인 | 7,199 | 5,039 |
+                """;
+
+        StandardTableParser.TableResult<Map<Integer, Long>> result =
+                parser.parseIncomeBenchmark(table, "도시근로자 월평균소득 (단위: 천원)");
+
+        assertThat(result).isNotNull();
+        assertThat(result.value()).containsEntry(1, 3_483_000L).containsEntry(3, 7_199_000L);
+    }
+
+    @Test
+    void testParseIncomeBenchmark_두줄머리글병합셀() {
+        String table = """
+                | 구분 | 가구원수 | | |
+                |---|---|---|---|
+                | | 1인 | 2인 | 3인 |
+                | 100% | 3,482,964 | 5,415,712 | 7,198,649 |
+                """;
+
+        StandardTableParser.TableResult<Map<Integer, Long>> result = parser.parseIncomeBenchmark(table, "");
+
+        assertThat(result).isNotNull();
+        assertThat(result.value()).containsEntry(2, 5_415_712L);
+    }
+
+    @Test
+    void testParseIncomeBenchmark_양식불일치() {
+        String table = """
+                | 공급유형 | 소득기준 |
+                |---|---|
+                | 일반공급 | 70% 이하 |
+                """;
+
+        assertThat(parser.parseIncomeBenchmark(table, "")).isNull();
+    }
+
+    @Test
+    void testParseAssetLimits_단일기준은자녀수별로확장() {
+        String table = """
+                | 구분 | 총자산 | 자동차 |
+                |---|---|---|
+                | 기준 | 3억 6,100만원 이하 | 3,803만원 이하 |
+                """;
+
+        StandardTableParser.TableResult<List<CriteriaResponse.AssetLimitRule>> result = parser.parseAssetLimits(table);
+
+        assertThat(result).isNotNull();
+        assertThat(result.value()).containsExactly(
+                new CriteriaResponse.AssetLimitRule(0, 361_000_000L, 38_030_000L),
+                new CriteriaResponse.AssetLimitRule(1, 361_000_000L, 38_030_000L),
+                new CriteriaResponse.AssetLimitRule(2, 361_000_000L, 38_030_000L));
+    }
+
+    @Test
+    void testParseAssetLimits_항목별행() {
+        String table = """
+                | 구분 | 기준 |
+                |---|---|
+                | 총자산 | 3억 6,100만원 이하 |
+                | 자동차 | 3,803만원 이하 |
+                """;
+
+        StandardTableParser.TableResult<List<CriteriaResponse.AssetLimitRule>> result = parser.parseAssetLimits(table);
+
+        assertThat(result).isNotNull();
+        assertThat(result.value()).contains(new CriteriaResponse.AssetLimitRule(0, 361_000_000L, 38_030_000L));
+        assertThat(result.complete()).isTrue();
+    }
+
+    @Test
+    void testParseAssetLimits_항목별행_읽지못한행이있으면불완전() {
+        String table = """
+                | 구분 | 기준 |
+                |---|---|
+                | 총자산 | 3억 6,100만원 이하 |
+                | 자동차 | 3,803만원 이하 |
+                | 부동산 | 2억 1,550만원 이하 |
+                """;
+
+        StandardTableParser.TableResult<List<CriteriaResponse.AssetLimitRule>> result = parser.parseAssetLimits(table);
+
+        assertThat(result).isNotNull();
+        assertThat(result.complete()).isFalse();
+    }
+
+    @Test
+    void testParseAssetLimits_공급유형별표는인식하지않음() {
+        String table = """
+                | 구분 | 총자산 | 자동차 |
+                |---|---|---|
+                | 대학생 | 1억 400만원 | 미보유 |
+                | 청년 | 2억 5,400만원 | 3,708만원 |
+                """;
+
+        assertThat(parser.parseAssetLimits(table)).isNull();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.ai.enums.VectorStorageMode;
+import com.sixpm.domain.ai.service.retrieval.ChunkVectorSearch.Hit;
+import com.sixpm.domain.ai.util.NoticeDiversifier.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChunkVectorSearch SQL 생성 테스트
+ */
+class ChunkVectorSearchTest {
+
+    // SQL 생성만 확인하므로 DB/임베딩 의존성은 사용하지 않음
+    private final ChunkVectorSearch search = new ChunkVectorSearch(null, null, null, null, new ObjectMapper(), null,
+            "vector_store", VectorStorageMode.FULL, 1536, 512, 4, true);
+
+    @Test
+    void testIndexedExpression_방식별() {
+        assertThat(search.indexedExpression(VectorStorageMode.FULL, "embedding")).isEqualTo("embedding");
+        assertThat(search.indexedExpression(VectorStorageMode.HALFVEC, "embedding"))
+                .isEqualTo("embedding::halfvec(1536)");
+        assertThat(search.indexedExpression(VectorStorageMode.HALFVEC_TRUNCATED, "?::vector"))
+                .isEqualTo("subvector(?::vector, 1, 512)::halfvec(512)");
+        assertThat(search.indexedExpression(VectorStorageMode.BINARY, "embedding"))
+                .isEqualTo("binary_quantize(embedding)::bit(1536)");
+    }
+
+    @Test
+    void testCreateIndexSql_CONCURRENTLY() {
+        assertThat(search.createIndexSql(VectorStorageMode.HALFVEC_TRUNCATED)).isEqualTo(
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vector_store_halfvec_truncated_512 ON vector_store "
+                        + "USING hnsw ((subvector(embedding, 1, 512)::halfvec(512)) halfvec_cosine_ops)");
+        assertThat(search.createIndexSql(VectorStorageMode.BINARY)).isEqualTo(
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vector_store_binary ON vector_store "
+                        + "USING hnsw ((binary_quantize(embedding)::bit(1536)) bit_hamming_ops)");
+    }
+
+    @Test
+    void testSearchSql_1차후보는인덱스표현식으로정렬() {
+        String sql = search.searchSql(VectorStorageMode.BINARY, "id::text");
+
+        // 인덱스가 쓰이려면 인덱스 정의와 같은 표현식, 같은 연산자여야 함
+        assertThat(sql).contains(
+                "ORDER BY binary_quantize(embedding)::bit(1536) <~> binary_quantize(?::vector)::bit(1536) LIMIT ?");
+        // 재정렬과 유사도 하한은 원본 벡터의 코사인 거리
+        assertThat(sql).endsWith("SELECT id::text, embedding <=> ?::vector AS distance FROM candidates "
+                + "WHERE embedding <=> ?::vector <= ? ORDER BY distance LIMIT ?");
+    }
+
+    @Test
+    void testSearchSql_FULL은원본벡터() {
+        assertThat(search.searchSql(VectorStorageMode.FULL, "id::text"))
+                .contains("ORDER BY embedding <=> ?::vector LIMIT ?");
+    }
+
+    @Test
+    void testWithRepresentativeEmbeddings_대표청크임베딩만조회() {
+        float[] first = {1f, 0f};
+        float[] second = {0f, 1f};
+        List<List<String>> requested = new ArrayList<>();
+
+        List<Candidate> candidates = ChunkVectorSearch.withRepresentativeEmbeddings(List.of(
+                new Hit("a-1", 1L, 0.9),
+                new Hit("b-1", 2L, 0.8),
+                new Hit("a-2", 1L, 0.7),
+                new Hit("x-1", null, 0.6)), ids -> {
+            requested.add(ids);
+            return Map.of("a-1", first, "b-1", second);
+        });
+
+        assertThat(requested).containsExactly(List.of("a-1", "b-1"));
+        assertThat(candidates).extracting(Candidate::noticeId).containsExactly(1L, 2L, 1L);
+        assertThat(candidates).extracting(Candidate::score).containsExactly(0.9, 0.8, 0.7);
+        // 같은 공고의 후보는 대표 청크 임베딩을 공유
+        assertThat(candidates.get(2).embedding()).isSameAs(first);
+    }
+
+    @Test
+    void testWithRepresentativeEmbeddings_임베딩없는공고제외() {
+        List<Candidate> candidates = ChunkVectorSearch.withRepresentativeEmbeddings(List.of(
+                new Hit("a-1", 1L, 0.9),
+                new Hit("b-1", 2L, 0.8)), ids -> Map.of("b-1", new float[]{1f}));
+
+        assertThat(candidates).extracting(Candidate::noticeId).containsExactly(2L);
+    }
+}
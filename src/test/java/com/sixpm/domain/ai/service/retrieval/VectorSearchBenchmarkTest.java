@@ -0,0 +1,37 @@
+package com.sixpm.domain.ai.service.retrieval;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VectorSearchBenchmark 집계 테스트
+ */
+class VectorSearchBenchmarkTest {
+
+    @Test
+    void testHits_질의청크자신은제외() {
+        // 검색 결과 k+1개 중 질의 청크(q)를 빼고 상위 2개만 비교
+        List<String> results = List.of("q", "a", "x", "b");
+
+        assertThat(VectorSearchBenchmark.hits(results, "q", Set.of("a", "b"), 2)).isEqualTo(1);
+        assertThat(VectorSearchBenchmark.hits(results, "q", Set.of("a", "b"), 3)).isEqualTo(2);
+    }
+
+    @Test
+    void testHits_자신이없으면앞에서k개() {
+        assertThat(VectorSearchBenchmark.hits(List.of("a", "b", "c"), "q", Set.of("b", "c"), 2)).isEqualTo(1);
+    }
+
+    @Test
+    void testPercentile() {
+        double[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertThat(VectorSearchBenchmark.percentile(sorted, 0.50)).isEqualTo(5.0);
+        assertThat(VectorSearchBenchmark.percentile(sorted, 0.95)).isEqualTo(10.0);
+        assertThat(VectorSearchBenchmark.percentile(new double[0], 0.95)).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sixpm.domain.ai.util;
+
+import com.knuddels.jtokkit.api.EncodingType;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompactTableSerializer 테스트
+ */
+class CompactTableSerializerTest {
+
+    // 실제 행복주택 공고문의 Upstage 마크다운 출력 형태 (열 맞춤 공백, 페이지 넘김으로 반복된 머리글, 병합 셀은 빈 칸)
+    private static final String SAMPLE_NOTICE_TABLE = """
+            |    공급유형    |    구분    |          총자산          |        자동차        |      소득기준      |
+            | :------------: | :--------: | :----------------------: | :------------------: | :----------------: |
+            |     대학생     |   본인     |     1억 400만원 이하     |        미보유        |   100% 이하   |
+            |                |   부모     |     3억 6,100만원 이하   |     3,803만원 이하   |   100% 이하   |
+            |      청년      |   본인     |     2억 5,400만원 이하   |     3,803만원 이하   |   100% 이하   |
+            |    공급유형    |    구분    |          총자산          |        자동차        |      소득기준      |
+            | :------------: | :--------: | :----------------------: | :------------------: | :----------------: |
+            |    신혼부부    |   세대     |     3억 3,700만원 이하   |     3,803만원 이하   |   100% 이하   |
+            |                |   맞벌이   |     3억 3,700만원 이하   |     3,803만원 이하   |   120% 이하   |
+            |   고령자       |   세대     |     3억 3,700만원 이하   |     3,803만원 이하   |   100% 이하   |
+            """;
+
+    private final TokenCountEstimator estimator = new JTokkitTokenCountEstimator(EncodingType.O200K_BASE);
+
+    @Test
+    void testSerialize_탭구분과금액원단위변환() {
+        String table = """
+                | 구분 | 총자산 | 자동차 |
+                |---|---|---|
+                | 기준 | 3억 6,100만원 이하 | 3,803만원 이하 |
+                """;
+
+        assertThat(CompactTableSerializer.serialize(table, ""))
+                .isEqualTo("구분\t총자산\t자동차\n기준\t361000000원 이하\t38030000원 이하");
+    }
+
+    @Test
+    void testSerialize_반복머리글제거와병합셀채움() {
+        String compact = CompactTableSerializer.serialize(SAMPLE_NOTICE_TABLE, "");
+
+        assertThat(compact.lines().filter(line -> line.startsWith("공급유형"))).hasSize(1);
+        assertThat(compact).contains("대학생\t부모\t361000000원 이하\t38030000원 이하\t100% 이하");
+        assertThat(compact).contains("신혼부부\t맞벌이\t337000000원 이하");
+    }
+
+    @Test
+    void testSerialize_표단위환산() {
+        String table = """
+                | 가구원수 | 100% |
+                |---|---|
+                | 1인 | 3,483 |
+                """;
+
+        assertThat(CompactTableSerializer.serialize(table, "월평균소득 (단위: 천원)"))
+                .isEqualTo("가구원수\t100%\n1인\t3483000원");
+    }
+
+    @Test
+    void testSerialize_두줄머리글병합셀() {
+        // Upstage 마크다운은 병합 셀을 빈 칸으로 내보냄
+        String table = """
+                | 구분 | 가구원수 | |
+                |---|---|---|
+                | | 1인 | 2인 |
+                | 100% | 3,482,964원 | 5,415,712원 |
+                """;
+
+        assertThat(CompactTableSerializer.serialize(table, ""))
+                .isEqualTo("구분\t가구원수\n구분\t1인\t2인\n100%\t3482964원\t5415712원");
+    }
+
+    @Test
+    void testSerialize_토큰절감() {
+        String compact = CompactTableSerializer.serialize(SAMPLE_NOTICE_TABLE, "");
+
+        int before = estimator.estimate(SAMPLE_NOTICE_TABLE);
+        int after = estimator.estimate(compact);
+
+        // 열 맞춤 공백, 구분선, 반복 머리글 제거로 25% 이상 절감
+        assertThat(after).isLessThan(before * 3 / 4);
+        assertThat(after).isPositive();
+    }
+}
@@ -0,0 +1,112 @@
+package com.sixpm.domain.ai.util;
+
+import com.sixpm.domain.ai.util.HnswGraph.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HnswGraph 테스트
+ */
+class HnswGraphTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSearch_정확탐색대비재현율() {
+        HnswGraph graph = new HnswGraph(new MappedVectorArena(null, DIMENSIONS, 256, 0), 8, 64, 42);
+        List<float[]> vectors = randomVectors(2000, 1);
+        vectors.forEach(graph::add);
+
+        int[] all = new int[vectors.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+
+        int hits = 0;
+        List<float[]> queries = randomVectors(50, 2);
+        for (float[] query : queries) {
+            List<Integer> expected = graph.exact(query, 10, all).stream().map(Result::ordinal).toList();
+            List<Integer> actual = graph.search(query, 10, 64, null).stream().map(Result::ordinal).toList();
+            hits += (int) actual.stream().filter(expected::contains).count();
+        }
+
+        assertThat(hits / (50.0 * 10)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void testSearch_삭제된노드제외() {
+        HnswGraph graph = new HnswGraph(new MappedVectorArena(null, DIMENSIONS, 256, 0), 8, 64, 42);
+        List<float[]> vectors = randomVectors(300, 3);
+        vectors.forEach(graph::add);
+
+        graph.markDeleted(7);
+
+        List<Result> results = graph.search(vectors.get(7), 5, 32, null);
+        assertThat(results).extracting(Result::ordinal).doesNotContain(7);
+        assertThat(results).hasSize(5);
+    }
+
+    @Test
+    void testSearch_조건에맞는노드만반환() {
+        HnswGraph graph = new HnswGraph(new MappedVectorArena(null, DIMENSIONS, 256, 0), 8, 64, 42);
+        randomVectors(500, 4).forEach(graph::add);
+
+        List<Result> results = graph.search(randomVectors(1, 5).get(0), 10, 32, ordinal -> ordinal % 10 == 0);
+
+        assertThat(results).hasSize(10);
+        assertThat(results).allSatisfy(result -> assertThat(result.ordinal() % 10).isZero());
+    }
+
+    @Test
+    void testWriteRead_스냅샷복원후같은결과() throws Exception {
+        Path vectorDir = tempDir.resolve("vectors");
+        MappedVectorArena arena = new MappedVectorArena(vectorDir, DIMENSIONS, 100, 0);
+        HnswGraph graph = new HnswGraph(arena, 8, 64, 42);
+        randomVectors(350, 6).forEach(graph::add);
+        graph.markDeleted(3);
+
+        Path snapshot = tempDir.resolve("graph.bin");
+        arena.force();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(snapshot)))) {
+            graph.write(out);
+        }
+
+        HnswGraph restored;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            restored = HnswGraph.read(in, new MappedVectorArena(vectorDir, DIMENSIONS, 100, 350), 42);
+        }
+
+        float[] query = randomVectors(1, 7).get(0);
+        assertThat(restored.size()).isEqualTo(350);
+        assertThat(restored.isDeleted(3)).isTrue();
+        assertThat(restored.search(query, 10, 64, null)).isEqualTo(graph.search(query, 10, 64, null));
+    }
+
+    private List<float[]> randomVectors(int count, long seed) {
+        Random random = new Random(seed);
+        List<float[]> vectors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] vector = new float[DIMENSIONS];
+            for (int d = 0; d < DIMENSIONS; d++) {
+                vector[d] = (float) random.nextGaussian();
+            }
+            vectors.add(vector);
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,109 @@
+package com.sixpm.domain.ai.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.ai.dto.CriteriaResponse;
+import com.sixpm.domain.ai.util.LenientJson.Binding;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LenientJson 테스트
+ */
+class LenientJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testRepair_후행쉼표와코드블록() {
+        String raw = """
+                ```json
+                {"minAge": 19, "assetLimits": [1, 2,], }
+                ```
+                """;
+
+        assertThat(LenientJson.repair(raw)).isEqualTo("{\"minAge\": 19, \"assetLimits\": [1, 2]}");
+    }
+
+    @Test
+    void testRepair_잘린응답은마지막완성값까지() {
+        String raw = "{\"minAge\": 19, \"assetLimits\": [{\"childCount\": 0, \"assetLimit\": 1, \"carLimit\": 2}, {\"childCount\": 1, \"asse";
+
+        // 잘린 원소는 완성된 필드까지만 남고, 바인딩 시 필수 필드가 없어 버려진다
+        assertThat(LenientJson.repair(raw)).isEqualTo(
+                "{\"minAge\": 19, \"assetLimits\": [{\"childCount\": 0, \"assetLimit\": 1, \"carLimit\": 2}, {\"childCount\": 1}]}");
+        assertThat(LenientJson.bind(raw, CriteriaResponse.class, objectMapper).value().assetLimits())
+                .containsExactly(new CriteriaResponse.AssetLimitRule(0, 1L, 2L));
+    }
+
+    @Test
+    void testBind_만원문자열과부분바인딩() {
+        String raw = """
+                {"residenceRegion": "광주광역시", "minAge": "19세", "requiresHomeless": true,
+                 "incomeBenchmark": {"1인": "348만 2,964원", "2": 5415712},
+                 "assetLimits": [{"childCount": 0, "assetLimit": "3억 6,100만원", "carLimit": "3,803만원"},
+                                 {"childCount": "없음", "assetLimit": 1, "carLimit": 1}],
+                 "incomeRatios": "표 참조"}
+                """;
+
+        Binding<CriteriaResponse> binding = LenientJson.bind(raw, CriteriaResponse.class, objectMapper);
+
+        CriteriaResponse response = binding.value();
+        assertThat(response.minAge()).isEqualTo(19);
+        assertThat(response.incomeBenchmark()).containsEntry(1, 3_482_964L).containsEntry(2, 5_415_712L);
+        assertThat(response.assetLimits())
+                .containsExactly(new CriteriaResponse.AssetLimitRule(0, 361_000_000L, 38_030_000L));
+        assertThat(response.incomeRatios()).isNull();
+        // 원소를 버린 목록도 불완전하므로 누락으로 표시
+        assertThat(binding.missingFields()).containsExactly("assetLimits", "incomeRatios");
+        assertThat(binding.isComplete()).isFalse();
+    }
+
+    @Test
+    void testBind_맵항목을버리면불완전() {
+        String raw = """
+                {"residenceRegion": null, "minAge": 19, "requiresHomeless": true,
+                 "incomeBenchmark": {"1인": 3482964, "가구원수": 5415712},
+                 "assetLimits": [], "incomeRatios": []}
+                """;
+
+        Binding<CriteriaResponse> binding = LenientJson.bind(raw, CriteriaResponse.class, objectMapper);
+
+        assertThat(binding.value().incomeBenchmark()).containsOnlyKeys(1);
+        assertThat(binding.missingFields()).containsExactly("incomeBenchmark");
+        assertThat(binding.isComplete()).isFalse();
+    }
+
+    @Test
+    void testBind_모든원소를읽으면완전() {
+        String raw = """
+                {"residenceRegion": "광주광역시", "minAge": 19, "requiresHomeless": true,
+                 "incomeBenchmark": {"1": 3482964},
+                 "assetLimits": [{"childCount": 0, "assetLimit": 1, "carLimit": 2}], "incomeRatios": []}
+                """;
+
+        assertThat(LenientJson.bind(raw, CriteriaResponse.class, objectMapper).isComplete()).isTrue();
+    }
+
+    @Test
+    void testBind_JSON이아니면값없음() {
+        Binding<CriteriaResponse> binding = LenientJson.bind("죄송합니다. 추출할 수 없습니다.", CriteriaResponse.class, objectMapper);
+
+        assertThat(binding.value()).isNull();
+        assertThat(binding.missingFields()).hasSize(6);
+    }
+
+    @Test
+    void testCopyFields_누락필드만교체() {
+        CriteriaResponse base = new CriteriaResponse("광주광역시", 19, true, null, List.of(), null);
+        CriteriaResponse patch = new CriteriaResponse(null, null, null, null, null,
+                List.of(new CriteriaResponse.IncomeRatioRule("GENERAL", 1, 99, -1, 70)));
+
+        CriteriaResponse merged = LenientJson.copyFields(base, patch, List.of("incomeRatios"));
+
+        assertThat(merged.residenceRegion()).isEqualTo("광주광역시");
+        assertThat(merged.incomeRatios()).hasSize(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sixpm.domain.ai.util;
+
+import com.sixpm.domain.ai.util.NoticeChunker.Chunk;
+import com.sixpm.domain.ai.util.NoticeSections.Section;
+import com.sixpm.infrastructure.upstage.dto.response.Content;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NoticeChunker 테스트
+ */
+class NoticeChunkerTest {
+
+    // 테스트에서는 글자 수를 토큰 수로 사용
+    private final NoticeChunker chunker = new NoticeChunker(String::length, 60, 20);
+
+    @Test
+    void testChunk_섹션제목접두어와페이지범위() {
+        Section section = section("신청자격",
+                element(1, "heading1", "신청자격"),
+                element(1, "paragraph", "무주택세대구성원"),
+                element(2, "list", "- 해당 지역 거주자"));
+
+        List<Chunk> chunks = chunker.chunk(section);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).text()).isEqualTo("[신청자격]\n무주택세대구성원\n- 해당 지역 거주자");
+        assertThat(chunks.get(0).sectionTitle()).isEqualTo("신청자격");
+        assertThat(chunks.get(0).pageStart()).isEqualTo(1);
+        assertThat(chunks.get(0).pageEnd()).isEqualTo(2);
+    }
+
+    @Test
+    void testChunk_요소경계에서만분할() {
+        String first = "가".repeat(30);
+        String second = "나".repeat(30);
+        Section section = section("공급일정",
+                element(1, "paragraph", first),
+                element(1, "paragraph", second));
+
+        List<Chunk> chunks = chunker.chunk(section);
+
+        assertThat(chunks).extracting(Chunk::text)
+                .containsExactly("[공급일정]\n" + first, "[공급일정]\n" + second);
+    }
+
+    @Test
+    void testChunk_소제목에서분할하고이어지는청크에소제목표시() {
+        String intro = "다".repeat(25);
+        String body = "라".repeat(30);
+        Section section = section("소득기준",
+                element(1, "paragraph", intro),
+                element(1, "heading2", "자산"),
+                element(2, "paragraph", body),
+                element(2, "paragraph", body));
+
+        List<Chunk> chunks = chunker.chunk(section);
+
+        assertThat(chunks).extracting(Chunk::text).containsExactly(
+                "[소득기준]\n" + intro,
+                "[소득기준]\n자산\n" + body,
+                "[소득기준 > 자산]\n" + body);
+    }
+
+    @Test
+    void testChunk_한도보다긴문단은문장단위로분할() {
+        String sentence = "마".repeat(30) + ".";
+        Section section = section("유의사항",
+                element(3, "paragraph", sentence + " " + sentence + " " + sentence));
+
+        List<Chunk> chunks = chunker.chunk(section);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.text()).isEqualTo("[유의사항]\n" + sentence);
+            assertThat(chunk.text().length()).isLessThanOrEqualTo(60);
+        });
+    }
+
+    @Test
+    void testChunk_표와머리말꼬리말제외() {
+        Section section = section("",
+                element(1, "header", "2024년 행복주택 입주자 모집공고"),
+                element(1, "table", "| 구분 | 총자산 |"),
+                element(1, "paragraph", "본문"),
+                element(1, "footer", "- 1 -"));
+
+        List<Chunk> chunks = chunker.chunk(section);
+
+        assertThat(chunks).extracting(Chunk::text).containsExactly("본문");
+    }
+
+    private Section section(String heading, Element... elements) {
+        return new Section(heading, List.of(elements), "hash");
+    }
+
+    private Element element(int page, String category, String text) {
+        return new Element(0, page, category, new Content(null, null, text), List.of());
+    }
+}
@@ -0,0 +1,64 @@
+package com.sixpm.domain.ai.util;
+
+import com.sixpm.domain.ai.enums.NoticeScoreAggregation;
+import com.sixpm.domain.ai.util.NoticeDiversifier.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NoticeDiversifier 테스트
+ */
+class NoticeDiversifierTest {
+
+    private static final float[] X = {1f, 0f};
+    private static final float[] Y = {0f, 1f};
+
+    @Test
+    void testDiversify_한공고가상위를차지해도서로다른공고반환() {
+        List<Candidate> candidates = List.of(
+                new Candidate(1L, 0.90, X),
+                new Candidate(1L, 0.89, X),
+                new Candidate(1L, 0.88, X),
+                new Candidate(1L, 0.87, X),
+                new Candidate(2L, 0.80, Y),
+                new Candidate(3L, 0.70, Y));
+
+        assertThat(NoticeDiversifier.diversify(candidates, 3, 1.0, NoticeScoreAggregation.MAX))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void testDiversify_합산방식은관련청크가많은공고우대() {
+        List<Candidate> candidates = List.of(
+                new Candidate(1L, 0.90, X),
+                new Candidate(2L, 0.60, Y),
+                new Candidate(2L, 0.60, Y),
+                new Candidate(2L, 0.60, Y));
+
+        assertThat(NoticeDiversifier.diversify(candidates, 2, 1.0, NoticeScoreAggregation.MAX))
+                .containsExactly(1L, 2L);
+        assertThat(NoticeDiversifier.diversify(candidates, 2, 1.0, NoticeScoreAggregation.SUM))
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void testDiversify_MMR은비슷한공고보다다른공고선택() {
+        List<Candidate> candidates = List.of(
+                new Candidate(1L, 0.90, X),
+                new Candidate(2L, 0.85, X),
+                new Candidate(3L, 0.80, Y));
+
+        assertThat(NoticeDiversifier.diversify(candidates, 2, 0.5, NoticeScoreAggregation.MAX))
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void testDiversify_공고ID없는후보제외() {
+        List<Candidate> candidates = List.of(new Candidate(null, 0.9, X));
+
+        assertThat(NoticeDiversifier.diversify(candidates, 5, 0.7, NoticeScoreAggregation.MAX)).isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sixpm.domain.ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PgVectorLiteral 테스트
+ */
+class PgVectorLiteralTest {
+
+    @Test
+    void testFormat_pgvector텍스트표현() {
+        assertThat(PgVectorLiteral.format(new float[]{0.5f, -1.0f, 0.25f})).isEqualTo("[0.5,-1.0,0.25]");
+        assertThat(PgVectorLiteral.format(new float[0])).isEqualTo("[]");
+    }
+
+    @Test
+    void testParse_공백포함텍스트를원래벡터로복원() {
+        float[] vector = {0.123f, -0.5f, 3.0E-4f};
+
+        assertThat(PgVectorLiteral.parse(PgVectorLiteral.format(vector))).containsExactly(vector);
+        assertThat(PgVectorLiteral.parse("[1, 2.5, -3]")).containsExactly(1f, 2.5f, -3f);
+    }
+}
@@ -0,0 +1,48 @@
+package com.sixpm.domain.ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * RankFusion 테스트
+ */
+class RankFusionTest {
+
+    @Test
+    void testFuse_여러목록에나온항목이위로() {
+        LinkedHashMap<Long, Double> fused = RankFusion.fuse(List.of(
+                List.of(1L, 2L, 3L),
+                List.of(3L, 4L)), 60);
+
+        assertThat(fused.keySet()).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(fused.get(3L)).isCloseTo(1.0 / 63 + 1.0 / 61, within(1e-9));
+    }
+
+    @Test
+    void testFuse_동점이면먼저나온순서유지() {
+        LinkedHashMap<Long, Double> fused = RankFusion.fuse(List.of(
+                List.of(1L),
+                List.of(2L)), 60);
+
+        assertThat(fused.keySet()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testFuse_목록안의중복은첫순위만사용() {
+        LinkedHashMap<Long, Double> fused = RankFusion.fuse(List.of(
+                List.of(1L, 1L, 2L)), 60);
+
+        assertThat(fused.get(1L)).isCloseTo(1.0 / 61, within(1e-9));
+        assertThat(fused.get(2L)).isCloseTo(1.0 / 62, within(1e-9));
+    }
+
+    @Test
+    void testFuse_빈목록() {
+        assertThat(RankFusion.fuse(List.<List<Long>>of(List.of(), List.of()), 60)).isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sixpm.domain.ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchQueryTerms 테스트
+ */
+class SearchQueryTermsTest {
+
+    @Test
+    void testTerms_공백과문장부호로분리하고한글자제외() {
+        assertThat(SearchQueryTerms.terms("  행복주택, 강남구 (청년) 및 A "))
+                .containsExactly("행복주택", "강남구", "청년");
+    }
+
+    @Test
+    void testTerms_중복제거() {
+        assertThat(SearchQueryTerms.terms("행복주택 행복주택 국민임대")).containsExactly("행복주택", "국민임대");
+    }
+
+    @Test
+    void testTrigramTerms_3글자미만제외() {
+        assertThat(SearchQueryTerms.trigramTerms(List.of("위례", "행복주택", "청년", "강남구")))
+                .containsExactly("행복주택", "강남구");
+    }
+
+    @Test
+    void testIsKeywordQuery_키워드나열() {
+        assertThat(SearchQueryTerms.isKeywordQuery("위례 행복주택")).isTrue();
+        assertThat(SearchQueryTerms.isKeywordQuery("서울 강남구 청년 매입임대")).isTrue();
+    }
+
+    @Test
+    void testIsKeywordQuery_문장형질의() {
+        assertThat(SearchQueryTerms.isKeywordQuery("신혼부부가 신청할 수 있는 공고 알려줘")).isFalse();
+        assertThat(SearchQueryTerms.isKeywordQuery("행복주택 소득기준?")).isFalse();
+        assertThat(SearchQueryTerms.isKeywordQuery("서울 경기 인천 청년 신혼부부")).isFalse();
+        assertThat(SearchQueryTerms.isKeywordQuery("   ")).isFalse();
+    }
+
+    @Test
+    void testContainsPattern_LIKE특수문자이스케이프() {
+        assertThat(SearchQueryTerms.containsPattern("100%_당첨")).isEqualTo("%100\\%\\_당첨%");
+    }
+}
@@ -0,0 +1,60 @@
+package com.sixpm.domain.ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SimHash 테스트
+ */
+class SimHashTest {
+
+    private static final String NOTICE = """
+            광주선운2 행복주택 입주자 모집공고
+            신청자격: 공고일 현재 무주택세대구성원으로서 해당 세대의 월평균소득이 전년도 도시근로자 가구원수별
+            월평균소득의 100% 이하이고, 총자산 3억 6,100만원 및 자동차 3,803만원 이하인 분.
+            접수기간: 2025.01.10 ~ 2025.01.14, 인터넷 청약 접수 후 서류제출 대상자 발표.
+            계약체결 및 입주 안내: 당첨자는 지정된 기간 내에 계약을 체결하여야 하며 미계약 시 포기로 간주합니다.
+            """;
+
+    @Test
+    void testOf_공백차이무시() {
+        String reformatted = NOTICE.replace("\n", " ").replace(": ", ":  ");
+
+        assertThat(SimHash.of(reformatted)).isEqualTo(SimHash.of(NOTICE));
+    }
+
+    @Test
+    void testDistance_정정공고는가까움() {
+        // 실제 공고문 분량에 가깝도록 단지별 안내를 이어 붙인 문서에서 한 곳만 정정
+        StringBuilder original = new StringBuilder();
+        for (int complex = 1; complex <= 20; complex++) {
+            original.append(NOTICE.replace("선운2", "선운" + complex)).append('\n');
+        }
+        String corrected = original.toString().replaceFirst("2025\\.01\\.14", "2025.01.17");
+
+        assertThat(SimHash.distance(SimHash.of(original.toString()), SimHash.of(corrected))).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void testDistance_다른공고는멂() {
+        String other = """
+                서울 강남 국민임대주택 예비입주자 모집
+                청약 가점제 적용 대상 및 우선공급 순위, 특별공급 물량 배정 기준을 안내합니다.
+                제출서류는 주민등록등본, 가족관계증명서, 소득 증빙서류이며 마감일 이후 접수분은 무효 처리됩니다.
+                """;
+
+        assertThat(SimHash.distance(SimHash.of(NOTICE), SimHash.of(other))).isGreaterThan(10);
+    }
+
+    @Test
+    void testBand_구간값으로원본복원() {
+        long hash = SimHash.of(NOTICE);
+
+        long restored = 0L;
+        for (int i = 0; i < SimHash.BAND_COUNT; i++) {
+            restored |= ((long) SimHash.band(hash, i)) << (i * 16);
+        }
+        assertThat(restored).isEqualTo(hash);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sixpm.domain.ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TableFingerprint 테스트
+ */
+class TableFingerprintTest {
+
+    private static final String TABLE = """
+            [1. 소득기준]
+            | 가구원수 | 1인 | 2인 |
+            |---|---|---|
+            | 100% | 3,482,964원 | 5,415,712원 |
+            """;
+
+    @Test
+    void testOf_공백과구분선차이무시() {
+        String padded = """
+                [1. 소득기준]
+                |   가구원수   |   1인   |   2인   |
+                | :------: | :---: | :---: |
+                |   100%   |   3,482,964원   |   5,415,712원   |
+                """;
+
+        assertThat(TableFingerprint.of(padded, null)).isEqualTo(TableFingerprint.of(TABLE, null));
+    }
+
+    @Test
+    void testOf_번호차이무시() {
+        String renumbered = TABLE.replace("[1. 소득기준]", "[가. 소득기준]");
+
+        assertThat(TableFingerprint.of(renumbered, null)).isEqualTo(TableFingerprint.of(TABLE, null));
+    }
+
+    @Test
+    void testOf_공고명제거() {
+        String withTitle = "광주선운2 행복주택 입주자 모집공고\n" + TABLE;
+        String withOtherTitle = "대전도안 행복주택 입주자 모집공고\n" + TABLE;
+
+        assertThat(TableFingerprint.of(withTitle, "광주선운2 행복주택 입주자 모집공고"))
+                .isEqualTo(TableFingerprint.of(withOtherTitle, "대전도안 행복주택 입주자 모집공고"));
+    }
+
+    @Test
+    void testOf_금액이다르면다른해시() {
+        String changed = TABLE.replace("3,482,964원", "3,509,963원");
+
+        assertThat(TableFingerprint.of(changed, null)).isNotEqualTo(TableFingerprint.of(TABLE, null));
+    }
+
+    @Test
+    void testNormalize_소수는유지() {
+        assertThat(TableFingerprint.normalize("| 1.5배 |", null)).isEqualTo("|1.5배|");
+    }
+
+    @Test
+    void testNormalize_null또는빈값() {
+        assertThat(TableFingerprint.normalize(null, null)).isEmpty();
+        assertThat(TableFingerprint.normalize("   ", null)).isEmpty();
+        assertThat(TableFingerprint.of(null, null)).hasSize(64);
+    }
+}
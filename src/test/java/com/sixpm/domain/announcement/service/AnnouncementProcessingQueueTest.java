@@ -0,0 +1,231 @@
+package com.sixpm.domain.announcement.service;
+
+import com.sixpm.domain.announcement.entity.Announcement;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AnnouncementProcessingQueue 테스트
+ */
+class AnnouncementProcessingQueueTest {
+
+    // 2026-10-19 09:00 UTC
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-19T09:00:00Z"));
+    private final AnnouncementProcessingService processingService = mock(AnnouncementProcessingService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AnnouncementProcessingQueue queue = queue(360);
+
+    @AfterEach
+    void tearDown() {
+        queue.stopWorkers();
+    }
+
+    @Test
+    void testPoll_마감이가까운순_같으면공고일이빠른순() {
+        queue.enqueue(announcement(1L, "20261030", "20261001"));
+        queue.enqueue(announcement(2L, "20261021", "20261010"));
+        queue.enqueue(announcement(3L, null, "20261001"));
+        queue.enqueue(announcement(4L, "20261021", "20261005"));
+
+        assertThat(queue.poll()).isEqualTo(4L);
+        assertThat(queue.poll()).isEqualTo(2L);
+        assertThat(queue.poll()).isEqualTo(1L);
+        assertThat(queue.poll()).isEqualTo(3L);
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    void testPoll_이미마감된공고는마감일미상과같이취급() {
+        // 어제 마감(30일 취급) vs 29일 남은 공고
+        queue.enqueue(announcement(1L, "20261018", null));
+        queue.enqueue(announcement(2L, "20261117", null));
+
+        assertThat(queue.poll()).isEqualTo(2L);
+        assertThat(queue.poll()).isEqualTo(1L);
+    }
+
+    @Test
+    void testPoll_오래기다린공고가앞당겨짐() {
+        AnnouncementProcessingQueue agingQueue = queue(60);
+        agingQueue.enqueue(announcement(1L, "20261024", null));
+        // 같은 날 4시간 뒤: 1번은 5일-4일=1일, 2번은 2일
+        clock.advance(Duration.ofHours(4));
+        agingQueue.enqueue(announcement(2L, "20261021", null));
+
+        assertThat(agingQueue.poll()).isEqualTo(1L);
+        assertThat(agingQueue.poll()).isEqualTo(2L);
+    }
+
+    @Test
+    void testPoll_사용자가본공고가앞당겨짐() {
+        queue.enqueue(announcement(1L, "20261029", null));
+        queue.enqueue(announcement(2L, "20261024", null));
+
+        // 10일 - 3 - 3 = 4일 < 5일
+        queue.boost(1L);
+        queue.boost(1L);
+        queue.boost(99L);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1L);
+        assertThat(queue.poll()).isEqualTo(2L);
+    }
+
+    @Test
+    void testPoll_boost는최대일수까지만누적() {
+        queue.enqueue(announcement(1L, null, null));
+        queue.enqueue(announcement(2L, "20261102", null));
+
+        // 30일 - 최대 14일 = 16일 > 14일
+        for (int i = 0; i < 10; i++) {
+            queue.boost(1L);
+        }
+
+        assertThat(queue.poll()).isEqualTo(2L);
+        assertThat(queue.poll()).isEqualTo(1L);
+    }
+
+    @Test
+    void testEnqueue_처리중인공고는다시등록하지않음() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sentinel = new CountDownLatch(1);
+        when(processingService.processAnnouncement(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return ProcessingStatus.COMPLETED;
+        });
+        when(processingService.processAnnouncement(2L)).thenAnswer(invocation -> {
+            sentinel.countDown();
+            return ProcessingStatus.COMPLETED;
+        });
+        queue.startWorkers();
+
+        queue.enqueue(announcement(1L));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(announcement(1L));
+        assertThat(queue.size()).isZero();
+
+        release.countDown();
+        // 작업 스레드가 하나이므로 2번이 시작됐다면 1번 처리는 끝난 상태
+        queue.enqueue(announcement(2L));
+        assertThat(sentinel.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(processingService, times(1)).processAnnouncement(1L);
+    }
+
+    @Test
+    void testEnqueue_처리가끝나면다시등록가능() throws Exception {
+        CountDownLatch processed = new CountDownLatch(2);
+        CountDownLatch sentinel = new CountDownLatch(1);
+        when(processingService.processAnnouncement(1L)).thenAnswer(invocation -> {
+            processed.countDown();
+            return ProcessingStatus.COMPLETED;
+        });
+        when(processingService.processAnnouncement(2L)).thenAnswer(invocation -> {
+            sentinel.countDown();
+            return ProcessingStatus.COMPLETED;
+        });
+        queue.startWorkers();
+
+        queue.enqueue(announcement(1L));
+        queue.enqueue(announcement(2L));
+        // 2번이 시작됐다면 1번은 처리 중 표시까지 풀린 상태
+        assertThat(sentinel.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(announcement(1L));
+
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testRunWorker_성공한공고만처리지연기록() throws Exception {
+        CountDownLatch sentinel = new CountDownLatch(1);
+        when(processingService.processAnnouncement(1L)).thenReturn(ProcessingStatus.FAILED);
+        when(processingService.processAnnouncement(2L)).thenThrow(new IllegalStateException("boom"));
+        when(processingService.processAnnouncement(3L)).thenReturn(ProcessingStatus.COMPLETED);
+        when(processingService.processAnnouncement(4L)).thenAnswer(invocation -> {
+            sentinel.countDown();
+            return ProcessingStatus.FAILED;
+        });
+        queue.startWorkers();
+
+        queue.enqueue(announcement(1L));
+        queue.enqueue(announcement(2L));
+        queue.enqueue(announcement(3L));
+        queue.enqueue(announcement(4L));
+
+        // 마감일이 모두 없으므로 등록 순서대로 처리되고, 4번이 시작됐다면 1~3번 기록은 끝난 상태
+        assertThat(sentinel.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timerCount()).isEqualTo(1);
+    }
+
+    private AnnouncementProcessingQueue queue(long agingIntervalMinutes) {
+        return new AnnouncementProcessingQueue(
+                processingService, meterRegistry, clock, 1, agingIntervalMinutes, 3, 14);
+    }
+
+    private Announcement announcement(Long id) {
+        return announcement(id, null, null);
+    }
+
+    private Announcement announcement(Long id, String deadline, String noticeDate) {
+        Announcement announcement = mock(Announcement.class);
+        when(announcement.getId()).thenReturn(id);
+        when(announcement.getRceptEndde()).thenReturn(deadline);
+        when(announcement.getRcritPblancDe()).thenReturn(noticeDate);
+        return announcement;
+    }
+
+    private long timerCount() {
+        return meterRegistry.find("announcement.processing.time-to-searchable").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    /**
+     * 테스트에서 직접 시각을 옮기는 Clock
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.sixpm.domain.announcement.service;
+
+import com.sixpm.domain.announcement.dto.request.AnnouncementReprocessRequest;
+import com.sixpm.domain.announcement.dto.response.AnnouncementReprocessJobResponse;
+import com.sixpm.domain.announcement.enums.ProcessingStage;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import com.sixpm.domain.announcement.repository.AnnouncementRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AnnouncementReprocessService 테스트
+ */
+class AnnouncementReprocessServiceTest {
+
+    private final AnnouncementRepository announcementRepository = mock(AnnouncementRepository.class);
+    private final AnnouncementProcessingService processingService = mock(AnnouncementProcessingService.class);
+
+    @Test
+    void testStart_처리결과집계() throws Exception {
+        givenIds(1L, 2L, 3L, 4L);
+        when(processingService.processAnnouncement(1L, ProcessingStage.ALL)).thenReturn(ProcessingStatus.COMPLETED);
+        when(processingService.processAnnouncement(2L, ProcessingStage.ALL)).thenReturn(ProcessingStatus.SKIPPED);
+        // 처리 대기열이 먼저 선점한 공고
+        when(processingService.processAnnouncement(3L, ProcessingStage.ALL)).thenReturn(ProcessingStatus.PROCESSING);
+        when(processingService.processAnnouncement(4L, ProcessingStage.ALL)).thenThrow(new IllegalStateException("boom"));
+        AnnouncementReprocessService service = service(60);
+
+        AnnouncementReprocessJobResponse job = awaitFinished(service, service.start(new AnnouncementReprocessRequest()));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getTotal()).isEqualTo(4);
+        assertThat(job.getProcessed()).isEqualTo(4);
+        assertThat(job.getSucceeded()).isEqualTo(1);
+        assertThat(job.getSkipped()).isEqualTo(2);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(job.getProgressPercent()).isEqualTo(100.0);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void testCancel_처리중인공고만마치고중단() throws Exception {
+        givenIds(1L, 2L, 3L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(processingService.processAnnouncement(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return ProcessingStatus.COMPLETED;
+        });
+        AnnouncementReprocessService service = service(60);
+        AnnouncementReprocessRequest request = new AnnouncementReprocessRequest();
+        request.setConcurrency(1);
+
+        AnnouncementReprocessJobResponse job = service.start(request);
+        started.await();
+        assertThat(service.cancel(job.getJobId()).getStatus()).isEqualTo("RUNNING");
+        release.countDown();
+        job = awaitFinished(service, job);
+
+        assertThat(job.getStatus()).isEqualTo("CANCELLED");
+        assertThat(job.getProcessed()).isEqualTo(1);
+        verify(processingService, never()).processAnnouncement(eq(2L), any());
+    }
+
+    @Test
+    void testGetJobs_보관기간지난작업제거() throws Exception {
+        givenIds();
+        AnnouncementReprocessService service = service(0);
+
+        AnnouncementReprocessJobResponse job = awaitFinished(service, service.start(new AnnouncementReprocessRequest()));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(service.getJobs()).isEmpty();
+        assertThatThrownBy(() -> service.getJob(job.getJobId())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testGetJobs_진행중인작업은유지() throws Exception {
+        givenIds(1L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(processingService.processAnnouncement(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return ProcessingStatus.COMPLETED;
+        });
+        AnnouncementReprocessService service = service(0);
+
+        AnnouncementReprocessJobResponse job = service.start(new AnnouncementReprocessRequest());
+
+        assertThat(service.getJobs()).extracting(AnnouncementReprocessJobResponse::getJobId)
+                .containsExactly(job.getJobId());
+        release.countDown();
+        awaitFinished(service, job);
+    }
+
+    @Test
+    void testStart_알수없는지역() {
+        AnnouncementReprocessRequest request = new AnnouncementReprocessRequest();
+        request.setRegion("아틀란티스");
+
+        assertThatThrownBy(() -> service(60).start(request)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AnnouncementReprocessService service(long retentionMinutes) {
+        return new AnnouncementReprocessService(announcementRepository, processingService, 2, 8, retentionMinutes);
+    }
+
+    private void givenIds(Long... ids) {
+        when(announcementRepository.findIdsForReprocessing(any(), any(), any(), any(), anyBoolean()))
+                .thenReturn(List.of(ids));
+    }
+
+    /**
+     * 작업이 끝날 때까지 기다린 뒤 마지막 상태를 반환합니다. (단건 조회는 끝난 작업을 제거하지 않음)
+     */
+    private AnnouncementReprocessJobResponse awaitFinished(AnnouncementReprocessService service,
+                                                           AnnouncementReprocessJobResponse job) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            AnnouncementReprocessJobResponse current = service.getJob(job.getJobId());
+            if (current.getFinishedAt() != null) {
+                return current;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Reprocess job did not finish: " + job.getJobId());
+    }
+}
@@ -0,0 +1,40 @@
+package com.sixpm.domain.announcement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProcessingMemoryBudget 테스트
+ */
+class ProcessingMemoryBudgetTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProcessingMemoryBudget budget = new ProcessingMemoryBudget(meterRegistry, 128 * MB, 8 * MB, 8);
+
+    @Test
+    void testResize_파싱후줄이면반납() {
+        try (ProcessingMemoryBudget.Permit permit = budget.acquireInitial()) {
+            permit.resize(budget.estimate(10 * MB));
+            assertThat(inFlightBytes()).isEqualTo(80 * MB);
+
+            // 파싱 결과 텍스트 1MB 문자 -> 2MB * 8
+            permit.resize(budget.estimateParsed(MB));
+            assertThat(inFlightBytes()).isEqualTo(16 * MB);
+        }
+        assertThat(inFlightBytes()).isZero();
+    }
+
+    @Test
+    void testEstimateParsed_작은문서는기본예상치() {
+        assertThat(budget.estimateParsed(1000)).isEqualTo(8 * MB);
+        assertThat(budget.estimate(1000)).isEqualTo(8 * MB);
+    }
+
+    private double inFlightBytes() {
+        return meterRegistry.get("announcement.processing.inflight.bytes").gauge().value();
+    }
+}
@@ -0,0 +1,88 @@
+package com.sixpm.infrastructure.pdf;
+
+import com.sixpm.infrastructure.pdf.LocalPdfTextExtractor.PageText;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalPdfTextExtractor 테스트
+ */
+class LocalPdfTextExtractorTest {
+
+    // 레이아웃 텍스트의 열 위치는 글자 수 기준 (한글도 한 글자)
+    private final LocalPdfTextExtractor extractor = new LocalPdfTextExtractor(100, 3);
+
+    @Test
+    void testLooksLikeTable_숫자없는표() {
+        String page = """
+                구분          신청자격            제출서류
+                청년          무주택자            주민등록등본
+                신혼부부        혼인 중인 무주택세대     혼인관계증명서
+                고령자         만 65세 이상        가족관계증명서
+                """;
+
+        assertThat(extractor.looksLikeTable(page)).isTrue();
+    }
+
+    @Test
+    void testLooksLikeTable_숫자있는표() {
+        String page = """
+                전용면적        공급세대            임대보증금
+                26㎡         120             15,000,000
+                36㎡         80              21,000,000
+                """;
+
+        assertThat(extractor.looksLikeTable(page)).isTrue();
+    }
+
+    @Test
+    void testLooksLikeTable_열이맞지않는문단() {
+        String page = """
+                본 공고는  2024년 행복주택  입주자 모집공고입니다.
+                신청자는 반드시  공고문 전체를 확인하신 후  신청하시기 바랍니다.
+                문의사항은  콜센터로  연락하시기 바랍니다.
+                """;
+
+        assertThat(extractor.looksLikeTable(page)).isFalse();
+    }
+
+    @Test
+    void testLooksLikeTable_일반문단() {
+        String page = """
+                입주자격은 공고일 현재 무주택세대구성원이어야 합니다.
+                소득 및 자산 기준은 아래와 같습니다.
+                """;
+
+        assertThat(extractor.looksLikeTable(page)).isFalse();
+    }
+
+    @Test
+    void testToElements_번호제목과목록으로요소분리() {
+        PageText page = new PageText(3, """
+                1. 신청자격
+                공고일 현재 무주택세대구성원으로서
+                경기도에 거주하는 자
+                가. 소득기준
+                ○ 도시근로자 월평균소득 100% 이하
+                ○ 자산 25,400만원 이하
+                1. 신청자는 반드시 공고문을 확인하시기 바랍니다.
+                접수일: 2026. 10. 19.
+                """.strip(), false);
+
+        List<Element> elements = extractor.toElements(page);
+
+        assertThat(elements).extracting(Element::category).containsExactly(
+                "heading1", "paragraph", "heading2", "paragraph", "paragraph");
+        assertThat(elements).extracting(element -> element.content().text()).containsExactly(
+                "1. 신청자격",
+                "공고일 현재 무주택세대구성원으로서\n경기도에 거주하는 자",
+                "가. 소득기준",
+                "○ 도시근로자 월평균소득 100% 이하",
+                "○ 자산 25,400만원 이하\n1. 신청자는 반드시 공고문을 확인하시기 바랍니다.\n접수일: 2026. 10. 19.");
+        assertThat(elements).extracting(Element::page).containsOnly(3);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sixpm.infrastructure.pdf;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PdfPageSplitter 테스트
+ */
+class PdfPageSplitterTest {
+
+    private final PdfPageSplitter splitter = new PdfPageSplitter();
+
+    @Test
+    void testPageHashes_같은페이지는다른파일에서도같은해시() throws IOException {
+        byte[] original = pdf(Standard14Fonts.FontName.HELVETICA, "cmap-a");
+        byte[] republished = pdf(Standard14Fonts.FontName.HELVETICA, "cmap-a");
+
+        assertThat(splitter.pageHashes(republished)).isEqualTo(splitter.pageHashes(original));
+    }
+
+    @Test
+    void testPageHashes_ToUnicode만다르면다른해시() throws IOException {
+        byte[] original = pdf(Standard14Fonts.FontName.HELVETICA, "cmap-a");
+        byte[] remapped = pdf(Standard14Fonts.FontName.HELVETICA, "cmap-b");
+
+        assertThat(splitter.pageHashes(remapped)).isNotEqualTo(splitter.pageHashes(original));
+    }
+
+    @Test
+    void testPageHashes_폰트만다르면다른해시() throws IOException {
+        byte[] original = pdf(Standard14Fonts.FontName.HELVETICA, null);
+        byte[] refonted = pdf(Standard14Fonts.FontName.TIMES_ROMAN, null);
+
+        assertThat(splitter.pageHashes(refonted)).isNotEqualTo(splitter.pageHashes(original));
+    }
+
+    /**
+     * 내용 스트림이 같은 한 페이지 PDF. toUnicode가 있으면 폰트에 그대로 ToUnicode 스트림으로 넣습니다.
+     */
+    private byte[] pdf(Standard14Fonts.FontName fontName, String toUnicode) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            PDType1Font font = new PDType1Font(fontName);
+            if (toUnicode != null) {
+                COSStream stream = document.getDocument().createCOSStream();
+                try (OutputStream out = stream.createOutputStream()) {
+                    out.write(toUnicode.getBytes(StandardCharsets.US_ASCII));
+                }
+                font.getCOSObject().setItem(COSName.TO_UNICODE, stream);
+            }
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(font, 12);
+                content.newLineAtOffset(72, 720);
+                content.showText("Notice");
+                content.endText();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.sixpm.infrastructure.upstage.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sixpm.domain.announcement.dto.response.ParsedDocument;
+import com.sixpm.infrastructure.upstage.dto.response.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UpstageResponseDecoder 테스트
+ */
+class UpstageResponseDecoderTest {
+
+    private final UpstageResponseDecoder decoder = new UpstageResponseDecoder(new ObjectMapper());
+
+    @Test
+    void testDecode_사용하지않는필드는건너뛰고요소를읽음() throws Exception {
+        ParsedDocument document = decodeFixture();
+
+        assertThat(document.fullText()).isEqualTo("# 1. 신청자격\n\n무주택세대구성원");
+        assertThat(document.elements()).extracting(Element::id).containsExactly(0, 1, 2, 3);
+        assertThat(document.elements()).extracting(Element::page).containsExactly(1, 1, 2, 2);
+        assertThat(document.elements()).extracting(Element::category)
+                .containsExactly("heading1", "paragraph", "paragraph", "custom-block");
+
+        // html, coordinates는 객체로 만들지 않음
+        Element heading = document.elements().get(0);
+        assertThat(heading.content().html()).isNull();
+        assertThat(heading.content().markdown()).isEqualTo("# 1. 신청자격");
+        assertThat(heading.content().text()).isEqualTo("1. 신청자격");
+        assertThat(heading.coordinates()).isEmpty();
+
+        // content 안의 알 수 없는 중첩 필드도 건너뜀
+        Element custom = document.elements().get(3);
+        assertThat(custom.content().markdown()).isEqualTo("| 구분 |\n|---|");
+        assertThat(custom.content().text()).isEqualTo("구분");
+    }
+
+    @Test
+    void testDecode_카테고리는공유인스턴스사용() throws Exception {
+        ParsedDocument document = decodeFixture();
+
+        assertThat(document.elements().get(1).category()).isSameAs("paragraph");
+        assertThat(document.elements().get(2).category()).isSameAs(document.elements().get(1).category());
+        // 알려지지 않은 카테고리는 intern
+        assertThat(document.elements().get(3).category()).isSameAs("custom-block");
+    }
+
+    @Test
+    void testDecode_텍스트가없으면마크다운사용() throws Exception {
+        Element element = decodeFixture().elements().get(2);
+
+        assertThat(element.content().markdown()).isEqualTo("경기도에 거주하는 자");
+        assertThat(element.content().text()).isEqualTo("경기도에 거주하는 자");
+    }
+
+    @Test
+    void testDecode_객체가아닌응답() throws Exception {
+        ParsedDocument document = decoder.decode(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(document.fullText()).isEmpty();
+        assertThat(document.elements()).isEmpty();
+    }
+
+    private ParsedDocument decodeFixture() throws Exception {
+        try (InputStream body = getClass().getResourceAsStream("/upstage/document-parse-response.json")) {
+            return decoder.decode(body);
+        }
+    }
+}
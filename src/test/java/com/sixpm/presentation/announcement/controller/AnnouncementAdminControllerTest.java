@@ -0,0 +1,122 @@
+package com.sixpm.presentation.announcement.controller;
+
+import com.sixpm.domain.announcement.dto.request.AnnouncementReprocessRequest;
+import com.sixpm.domain.announcement.dto.response.AnnouncementReprocessJobResponse;
+import com.sixpm.domain.announcement.enums.ProcessingStage;
+import com.sixpm.domain.announcement.enums.ProcessingStatus;
+import com.sixpm.domain.announcement.repository.AnnouncementRepository;
+import com.sixpm.domain.announcement.service.AnnouncementProcessingQueue;
+import com.sixpm.domain.announcement.service.AnnouncementReprocessService;
+import com.sixpm.domain.announcement.service.AnnouncementService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AnnouncementAdminController 재처리 API 테스트
+ */
+class AnnouncementAdminControllerTest {
+
+    private final AnnouncementReprocessService reprocessService = mock(AnnouncementReprocessService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AnnouncementAdminController(
+            mock(AnnouncementService.class),
+            mock(AnnouncementRepository.class),
+            mock(AnnouncementProcessingQueue.class),
+            reprocessService)).build();
+
+    @Test
+    void testStartReprocess_요청조건전달() throws Exception {
+        when(reprocessService.start(any())).thenReturn(job("job-1", "RUNNING"));
+
+        mockMvc.perform(post("/api/admin/announcements/reprocess")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"fromDate": "20250101", "toDate": "20251231", "region": "광주광역시",
+                                 "processingStatus": "FAILED", "stage": "EXTRACT", "concurrency": 4}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        ArgumentCaptor<AnnouncementReprocessRequest> captor = ArgumentCaptor.forClass(AnnouncementReprocessRequest.class);
+        verify(reprocessService).start(captor.capture());
+        AnnouncementReprocessRequest request = captor.getValue();
+        assertThat(request.getFromDate()).isEqualTo("20250101");
+        assertThat(request.getRegion()).isEqualTo("광주광역시");
+        assertThat(request.getProcessingStatus()).isEqualTo(ProcessingStatus.FAILED);
+        assertThat(request.getStage()).isEqualTo(ProcessingStage.EXTRACT);
+        assertThat(request.getConcurrency()).isEqualTo(4);
+    }
+
+    @Test
+    void testStartReprocess_잘못된요청거부() throws Exception {
+        mockMvc.perform(post("/api/admin/announcements/reprocess")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromDate\": \"2025-01-01\", \"concurrency\": 0}"))
+                .andExpect(status().isBadRequest());
+
+        verify(reprocessService, never()).start(any());
+    }
+
+    @Test
+    void testGetReprocessJobs_목록조회() throws Exception {
+        when(reprocessService.getJobs()).thenReturn(List.of(job("job-2", "RUNNING"), job("job-1", "COMPLETED")));
+
+        mockMvc.perform(get("/api/admin/announcements/reprocess"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].jobId").value("job-2"))
+                .andExpect(jsonPath("$[1].status").value("COMPLETED"));
+    }
+
+    @Test
+    void testGetReprocessJob_진행상황조회() throws Exception {
+        when(reprocessService.getJob("job-1")).thenReturn(job("job-1", "RUNNING"));
+
+        mockMvc.perform(get("/api/admin/announcements/reprocess/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(3))
+                .andExpect(jsonPath("$.progressPercent").value(30.0));
+    }
+
+    @Test
+    void testCancelReprocess_취소요청() throws Exception {
+        when(reprocessService.cancel("job-1")).thenReturn(job("job-1", "RUNNING"));
+
+        mockMvc.perform(delete("/api/admin/announcements/reprocess/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value("job-1"));
+
+        verify(reprocessService).cancel("job-1");
+    }
+
+    private AnnouncementReprocessJobResponse job(String jobId, String status) {
+        return AnnouncementReprocessJobResponse.builder()
+                .jobId(jobId)
+                .status(status)
+                .stage(ProcessingStage.EXTRACT)
+                .concurrency(2)
+                .total(10)
+                .processed(3)
+                .succeeded(2)
+                .failed(0)
+                .skipped(1)
+                .progressPercent(30.0)
+                .build();
+    }
+}